@@ -0,0 +1,22 @@
+package edu.kangwon.university.taxicarpool.archive;
+
+import edu.kangwon.university.taxicarpool.chatting.MessageType;
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 메시지와 발신자 닉네임 프로젝션입니다. 탈퇴한 회원이 보낸 메시지는 닉네임이 null입니다.
+ */
+public interface ArchivedMessageRow {
+
+    Long getId();
+
+    Long getSenderId();
+
+    String getSenderNickname();
+
+    String getContent();
+
+    LocalDateTime getCreatedAt();
+
+    MessageType getType();
+}
@@ -0,0 +1,41 @@
+package edu.kangwon.university.taxicarpool.archive;
+
+import edu.kangwon.university.taxicarpool.chatting.MessageType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 파티의 채팅 메시지입니다.
+ *
+ * <p>원본 메시지 ID를 그대로 유지하므로 클라이언트가 가진 {@code afterMessageId} 커서가 보관 후에도 유효합니다.
+ * 발신자는 ID만 보관하고, 조회 시 회원 테이블과 조인해 닉네임을 채웁니다.</p>
+ */
+@Entity(name = "message_archive")
+@Table(name = "message_archive",
+    indexes = @Index(name = "idx_message_archive_party_id", columnList = "party_id, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MessageArchiveEntity {
+
+    @Id
+    private Long id;
+
+    @Column(name = "party_id", nullable = false)
+    private Long partyId;
+
+    @Column(name = "sender_id")
+    private Long senderId;
+
+    @Column(name = "content", length = 1000)
+    private String content;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "message_type")
+    private MessageType type;
+}
@@ -0,0 +1,42 @@
+package edu.kangwon.university.taxicarpool.archive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MessageArchiveRepository extends JpaRepository<MessageArchiveEntity, Long> {
+
+    /**
+     * 주어진 파티들의 메시지를 원본 ID 그대로 보관 테이블로 복사합니다.
+     * @return 복사된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO message_archive (id, party_id, sender_id, content, created_at, message_type) " +
+        "SELECT id, party_id, sender_id, content, created_at, message_type FROM message_entity " +
+        "WHERE party_id IN (:partyIds)",
+        nativeQuery = true)
+    int copyFromMessage(@Param("partyIds") Collection<Long> partyIds);
+
+    @Query("SELECT m.id AS id, s.id AS senderId, s.nickname AS senderNickname, m.content AS content, " +
+        "m.createdAt AS createdAt, m.type AS type " +
+        "FROM message_archive m LEFT JOIN MemberEntity s ON s.id = m.senderId " +
+        "WHERE m.partyId = :partyId AND m.id > :id " +
+        "ORDER BY m.id ASC")
+    List<ArchivedMessageRow> findRowsByPartyIdAndIdGreaterThan(@Param("partyId") Long partyId,
+        @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT MAX(m.id) FROM message_archive m " +
+        "WHERE m.partyId = :partyId " +
+        "AND m.senderId = :memberId " +
+        "AND m.type = 'ENTER'")
+    Optional<Long> findLastEnterMessageId(
+        @Param("partyId") Long partyId,
+        @Param("memberId") Long memberId);
+}
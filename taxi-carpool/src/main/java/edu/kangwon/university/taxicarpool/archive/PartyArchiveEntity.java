@@ -0,0 +1,93 @@
+package edu.kangwon.university.taxicarpool.archive;
+
+import edu.kangwon.university.taxicarpool.map.MapPlace;
+import edu.kangwon.university.taxicarpool.party.PartyOption;
+import edu.kangwon.university.taxicarpool.party.PartyStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * 보관(콜드) 영역으로 옮겨진 파티입니다.
+ *
+ * <p>{@code party} 테이블과 같은 컬럼명/속성명을 사용하므로 목록 프로젝션({@code PartyListRow})의 SELECT 절을
+ * 그대로 쓸 수 있습니다. 보관 이후에는 변경되지 않으므로 버전/수정 시각/알림 플래그는 옮기지 않습니다.</p>
+ */
+@Entity(name = "party_archive")
+@Table(name = "party_archive", indexes = {
+    @Index(name = "idx_party_archive_start_date_time", columnList = "startDateTime")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PartyArchiveEntity {
+
+    @Id
+    @Column(name = "party_id")
+    private Long id;
+
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "is_deleted")
+    private boolean isDeleted;
+
+    @Column(name = "host_id")
+    private Long hostMemberId;
+
+    @Column(name = "end_date")
+    private LocalDateTime endDate;
+
+    @Embedded
+    private PartyOption options;
+
+    @Column(name = "start_date_time")
+    private LocalDateTime startDateTime;
+
+    @Column(name = "comment")
+    private String comment;
+
+    @Column(name = "current_participant_count")
+    private int currentParticipantCount;
+
+    @Column(name = "max_participant_count")
+    private int maxParticipantCount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Embedded
+    @AttributeOverrides({
+        @AttributeOverride(name = "name", column = @Column(name = "start_location")),
+        @AttributeOverride(name = "roadAddressName", column = @Column(name = "start_road_address_name")),
+        @AttributeOverride(name = "x", column = @Column(name = "start_longitude")),
+        @AttributeOverride(name = "y", column = @Column(name = "start_latitude"))
+    })
+    private MapPlace startPlace;
+
+    @Embedded
+    @AttributeOverrides({
+        @AttributeOverride(name = "name", column = @Column(name = "end_location")),
+        @AttributeOverride(name = "roadAddressName", column = @Column(name = "end_road_address_name")),
+        @AttributeOverride(name = "x", column = @Column(name = "end_longitude")),
+        @AttributeOverride(name = "y", column = @Column(name = "end_latitude"))
+    })
+    private MapPlace endPlace;
+
+    @Column(name = "notification")
+    private String notification;
+
+    @Column(name = "savings_calculated", nullable = false)
+    private boolean savingsCalculated;
+
+    @Column(name = "estimated_fare")
+    private Long estimatedFare;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private PartyStatus status;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
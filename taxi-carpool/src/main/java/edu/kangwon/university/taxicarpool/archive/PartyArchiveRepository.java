@@ -0,0 +1,49 @@
+package edu.kangwon.university.taxicarpool.archive;
+
+import static edu.kangwon.university.taxicarpool.party.PartyRepository.PARTY_LIST_ROW_SELECT;
+
+import edu.kangwon.university.taxicarpool.party.PartyListRow;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PartyArchiveRepository extends JpaRepository<PartyArchiveEntity, Long> {
+
+    /**
+     * 주어진 파티 행을 보관 테이블로 복사합니다. 호출자가 원본 행에 쓰기 락을 잡은 상태여야 합니다.
+     * @return 복사된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO party_archive (party_id, name, is_deleted, host_id, end_date, " +
+        "same_gender_only, cost_share_before_drop_off, quiet_mode, destination_change_5minutes, " +
+        "start_date_time, comment, current_participant_count, max_participant_count, created_at, " +
+        "start_location, start_road_address_name, start_longitude, start_latitude, " +
+        "end_location, end_road_address_name, end_longitude, end_latitude, " +
+        "notification, savings_calculated, estimated_fare, status, archived_at) " +
+        "SELECT party_id, name, is_deleted, host_id, end_date, " +
+        "same_gender_only, cost_share_before_drop_off, quiet_mode, destination_change_5minutes, " +
+        "start_date_time, comment, current_participant_count, max_participant_count, created_at, " +
+        "start_location, start_road_address_name, start_longitude, start_latitude, " +
+        "end_location, end_road_address_name, end_longitude, end_latitude, " +
+        "notification, savings_calculated, estimated_fare, status, :archivedAt " +
+        "FROM party WHERE party_id IN (:partyIds)",
+        nativeQuery = true)
+    int copyFromParty(@Param("partyIds") Collection<Long> partyIds, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * 멤버가 참여했던 보관 파티를 출발 시간 내림차순(최근 순)으로 조회합니다. 삭제된 파티는 제외합니다.
+     * @param memberId 멤버 ID
+     * @return 파티 목록 프로젝션
+     */
+    @Query(PARTY_LIST_ROW_SELECT + "FROM party_archive p " +
+        "WHERE p.isDeleted = false " +
+        "AND EXISTS (SELECT 1 FROM party_member_archive pm WHERE pm.id.partyId = p.id AND pm.id.memberId = :memberId) " +
+        "ORDER BY p.startDateTime DESC, p.id DESC")
+    List<PartyListRow> findListRowsByMemberId(@Param("memberId") Long memberId);
+}
@@ -0,0 +1,203 @@
+package edu.kangwon.university.taxicarpool.archive;
+
+import edu.kangwon.university.taxicarpool.chatting.MessageMapper;
+import edu.kangwon.university.taxicarpool.chatting.MessageRepository;
+import edu.kangwon.university.taxicarpool.chatting.dto.MessageResponseDTO;
+import edu.kangwon.university.taxicarpool.party.PartyEntity;
+import edu.kangwon.university.taxicarpool.party.PartyListRow;
+import edu.kangwon.university.taxicarpool.party.PartyMapper;
+import edu.kangwon.university.taxicarpool.party.PartyMemberId;
+import edu.kangwon.university.taxicarpool.party.PartyMemberRepository;
+import edu.kangwon.university.taxicarpool.party.PartyMemberRow;
+import edu.kangwon.university.taxicarpool.party.PartyMembershipCache;
+import edu.kangwon.university.taxicarpool.party.PartyRepository;
+import edu.kangwon.university.taxicarpool.party.dto.PartyResponseDTO;
+import edu.kangwon.university.taxicarpool.party.partyException.MemberNotInPartyException;
+import edu.kangwon.university.taxicarpool.party.partyException.PartyNotFoundException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 오래된 파티를 보관(콜드) 테이블로 옮기고, 보관된 파티의 이력 조회를 담당합니다.
+ *
+ * <p>출발 후 {@code after-days}일이 지난 파티를 배치 단위로 골라, 한 트랜잭션에서 파티 행을 잠그고
+ * 파티/참여/메시지 행을 {@code party_archive}, {@code party_member_archive}, {@code message_archive}로
+ * 복사한 뒤 원본을 삭제합니다. 운영 테이블과 인덱스에는 최근 파티만 남아 목록/검색 쿼리가 작은 범위만 읽습니다.</p>
+ *
+ * <p>잠금 후 보관 대상 여부를 다시 확인하므로 여러 인스턴스가 동시에 실행되어도 같은 파티를 두 번 옮기지 않습니다.
+ * 내 파티 목록과 채팅 이력은 운영 테이블에 없을 때 보관 테이블을 읽으며, 메시지 ID는 원본 그대로 유지됩니다.</p>
+ */
+@Slf4j
+@Service
+public class PartyArchiveService {
+
+    private final PartyRepository partyRepository;
+    private final PartyMemberRepository partyMemberRepository;
+    private final MessageRepository messageRepository;
+    private final PartyArchiveRepository partyArchiveRepository;
+    private final PartyMemberArchiveRepository partyMemberArchiveRepository;
+    private final MessageArchiveRepository messageArchiveRepository;
+    private final PartyMapper partyMapper;
+    private final MessageMapper messageMapper;
+    private final PartyMembershipCache partyMembershipCache;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long afterDays;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final long pauseMs;
+
+    public PartyArchiveService(PartyRepository partyRepository,
+        PartyMemberRepository partyMemberRepository, MessageRepository messageRepository,
+        PartyArchiveRepository partyArchiveRepository,
+        PartyMemberArchiveRepository partyMemberArchiveRepository,
+        MessageArchiveRepository messageArchiveRepository,
+        PartyMapper partyMapper, MessageMapper messageMapper, PartyMembershipCache partyMembershipCache,
+        PlatformTransactionManager transactionManager,
+        @Value("${party.archive.enabled:true}") boolean enabled,
+        @Value("${party.archive.after-days:90}") long afterDays,
+        @Value("${party.archive.batch-size:50}") int batchSize,
+        @Value("${party.archive.max-batches-per-run:200}") int maxBatchesPerRun,
+        @Value("${party.archive.pause-ms:200}") long pauseMs) {
+        this.partyRepository = partyRepository;
+        this.partyMemberRepository = partyMemberRepository;
+        this.messageRepository = messageRepository;
+        this.partyArchiveRepository = partyArchiveRepository;
+        this.partyMemberArchiveRepository = partyMemberArchiveRepository;
+        this.messageArchiveRepository = messageArchiveRepository;
+        this.partyMapper = partyMapper;
+        this.messageMapper = messageMapper;
+        this.partyMembershipCache = partyMembershipCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.afterDays = afterDays;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.pauseMs = pauseMs;
+    }
+
+    /**
+     * 보관 기준일이 지난 파티를 배치 단위로 보관 테이블로 옮깁니다. 남은 파티는 다음 실행에서 이어서 옮깁니다.
+     */
+    @Scheduled(cron = "${party.archive.cron:0 30 4 * * *}")
+    public void archiveOldParties() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime before = LocalDateTime.now().minusDays(afterDays);
+        int archived = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Long> ids = partyRepository.findArchivableIds(before, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            Integer moved = transactionTemplate.execute(status -> archiveBatch(ids, before));
+            archived += moved == null ? 0 : moved;
+
+            if (ids.size() < batchSize || !pause()) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            log.info("출발 {}일이 지난 파티 {}건 보관 완료", afterDays, archived);
+        }
+    }
+
+    private int archiveBatch(List<Long> candidateIds, LocalDateTime before) {
+        List<Long> ids = partyRepository.lockArchivableByIdIn(candidateIds, before).stream()
+            .map(PartyEntity::getId)
+            .toList();
+        if (ids.isEmpty()) {
+            return 0; // 다른 인스턴스가 먼저 옮김
+        }
+
+        partyArchiveRepository.copyFromParty(ids, LocalDateTime.now());
+        partyMemberArchiveRepository.copyFromPartyMember(ids);
+        messageArchiveRepository.copyFromMessage(ids);
+
+        messageRepository.deleteByPartyIdIn(ids);
+        partyMemberRepository.deleteByPartyIdIn(ids);
+        partyRepository.deleteByIdIn(ids);
+        // 캐시에 남은 참여 정보가 있으면 채팅 이력 조회가 보관 테이블로 넘어가지 못하므로 무효화
+        partyMembershipCache.invalidateAll(ids);
+        return ids.size();
+    }
+
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 멤버가 참여했던 보관 파티를 최근 출발 순으로 조회합니다.
+     *
+     * @param memberId 멤버 ID
+     * @return 파티 응답 DTO 목록(삭제된 파티 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<PartyResponseDTO> getArchivedParties(Long memberId) {
+        List<PartyListRow> rows = partyArchiveRepository.findListRowsByMemberId(memberId);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<PartyMemberRow>> members = partyMemberArchiveRepository
+            .findRowsByPartyIdIn(rows.stream().map(PartyListRow::getId).toList()).stream()
+            .collect(Collectors.groupingBy(PartyMemberRow::getPartyId));
+        return rows.stream()
+            .map(row -> partyMapper.convertToResponseDTO(row, members.getOrDefault(row.getId(), List.of())))
+            .toList();
+    }
+
+    /**
+     * 보관된 파티의 메시지 히스토리를 조회합니다. 운영 테이블의 조회와 같은 규칙(호스트가 아니면 마지막 입장 이후만)을 따릅니다.
+     *
+     * @param partyId 파티 ID
+     * @param memberId 조회 요청 멤버 ID(파티 참여자였어야 함)
+     * @param afterMessageId 기준 메시지 ID(null 가능)
+     * @param limit 최대 조회 개수
+     * @return 메시지 응답 DTO 목록(오름차순 정렬)
+     * @throws edu.kangwon.university.taxicarpool.party.partyException.PartyNotFoundException
+     *         보관된 파티도 존재하지 않는 경우
+     * @throws edu.kangwon.university.taxicarpool.party.partyException.MemberNotInPartyException
+     *         요청 멤버가 파티에 속해있지 않았던 경우
+     */
+    @Transactional(readOnly = true)
+    public List<MessageResponseDTO> getMessageHistory(Long partyId, Long memberId,
+        Long afterMessageId, int limit) {
+        PartyArchiveEntity party = partyArchiveRepository.findById(partyId)
+            .orElseThrow(() -> new PartyNotFoundException("파티를 찾을 수 없습니다."));
+
+        if (!partyMemberArchiveRepository.existsById(new PartyMemberId(partyId, memberId))) {
+            throw new MemberNotInPartyException("해당 파티의 멤버가 아닙니다.");
+        }
+
+        long minAllowedId = memberId.equals(party.getHostMemberId())
+            ? 0L
+            : messageArchiveRepository.findLastEnterMessageId(partyId, memberId).orElse(0L);
+        long requestedId = (afterMessageId == null) ? 0L : afterMessageId;
+
+        return messageArchiveRepository.findRowsByPartyIdAndIdGreaterThan(
+                partyId, Math.max(minAllowedId, requestedId), PageRequest.of(0, limit)).stream()
+            .map(messageMapper::convertToResponseDTO)
+            .toList();
+    }
+}
@@ -0,0 +1,33 @@
+package edu.kangwon.university.taxicarpool.archive;
+
+import edu.kangwon.university.taxicarpool.party.PartyMemberId;
+import edu.kangwon.university.taxicarpool.party.PartyMemberRole;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 파티의 참여 정보입니다.
+ *
+ * <p>회원 탈퇴 후에도 남을 수 있도록 회원/파티와 연관관계(FK)를 두지 않고 ID만 보관하며,
+ * 내 파티 이력 조회를 위해 {@code member_id} 인덱스를 둡니다.</p>
+ */
+@Entity(name = "party_member_archive")
+@Table(name = "party_member_archive",
+    indexes = @Index(name = "idx_party_member_archive_member_id", columnList = "member_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PartyMemberArchiveEntity {
+
+    @EmbeddedId
+    private PartyMemberId id;
+
+    @Column(name = "joined_at")
+    private LocalDateTime joinedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "role")
+    private PartyMemberRole role;
+}
@@ -0,0 +1,41 @@
+package edu.kangwon.university.taxicarpool.archive;
+
+import edu.kangwon.university.taxicarpool.party.PartyMemberId;
+import edu.kangwon.university.taxicarpool.party.PartyMemberRow;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PartyMemberArchiveRepository extends JpaRepository<PartyMemberArchiveEntity, PartyMemberId> {
+
+    /**
+     * 주어진 파티들의 참여 행을 보관 테이블로 복사합니다.
+     * @return 복사된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO party_member_archive (party_id, member_id, joined_at, role) " +
+        "SELECT party_id, member_id, joined_at, role FROM party_member WHERE party_id IN (:partyIds)",
+        nativeQuery = true)
+    int copyFromPartyMember(@Param("partyIds") Collection<Long> partyIds);
+
+    /**
+     * 여러 보관 파티의 멤버 ID와 성별을 한 번에 조회합니다. 탈퇴한 회원은 성별이 null입니다.
+     * @param partyIds 파티 ID 목록
+     * @return (파티 ID, 멤버 ID, 성별) 목록, 파티별 참여 순
+     */
+    @Query("SELECT pm.id.partyId AS partyId, pm.id.memberId AS memberId, m.gender AS gender " +
+        "FROM party_member_archive pm LEFT JOIN MemberEntity m ON m.id = pm.id.memberId " +
+        "WHERE pm.id.partyId IN :partyIds " +
+        "ORDER BY pm.joinedAt ASC, pm.id.memberId ASC")
+    List<PartyMemberRow> findRowsByPartyIdIn(@Param("partyIds") Collection<Long> partyIds);
+
+    /** 회원 탈퇴 시 보관된 참여 이력을 삭제합니다. */
+    @Modifying
+    @Query("DELETE FROM party_member_archive pm WHERE pm.id.memberId = :memberId")
+    int deleteByMemberId(@Param("memberId") Long memberId);
+}
@@ -1,5 +1,6 @@
 package edu.kangwon.university.taxicarpool.auth.reset;
 
+import edu.kangwon.university.taxicarpool.id.TimeOrderedId;
 import edu.kangwon.university.taxicarpool.member.MemberEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -17,7 +18,7 @@ import java.time.LocalDateTime;
 public class PasswordResetTokenEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @Column(nullable = false, unique = true, length = 100)
@@ -0,0 +1,238 @@
+package edu.kangwon.university.taxicarpool.chatting;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 지연 쓰기(write-behind) 작성자입니다.
+ *
+ * <p>전송된 메시지는 고정 크기 순환 버퍼({@link ArrayBlockingQueue})에 쌓이고, 전용 스레드가
+ * {@code flush-interval-ms}마다 버퍼를 비워 최대 {@code max-batch-size}행씩 다중 행 INSERT 한 문장으로 저장합니다.
+ * 메시지 ID는 호출자가 미리 정하므로 저장 전에 브로드캐스트해도 히스토리 조회의 ID 커서와 어긋나지 않습니다.</p>
+ *
+ * <p>버퍼가 가득 차면 {@code offer-timeout-ms}만큼 기다린 뒤 호출 스레드에서 직접 INSERT해 전송 속도를
+ * 저장 속도에 맞춥니다(배압). 이미 브로드캐스트된 메시지이므로 DB 장애 같은 일시적인 오류에는 배치를 버리지 않고
+ * {@code retry-backoff-ms}부터 {@code max-backoff-ms}까지 늘려 가며 복구될 때까지 다시 시도합니다. 그동안 버퍼가 차면
+ * 새 메시지는 직접 저장으로 넘어가 실패가 전송자에게 그대로 전달됩니다. 제약 위반처럼 특정 행의 문제만 행 단위로
+ * 나눠 해당 행을 버립니다.</p>
+ *
+ * <p>종료 시에는 새 메시지를 직접 저장으로 돌린 뒤 버퍼를 끝까지 비우며, DB가 복구되지 않으면
+ * {@code shutdown-timeout-ms}까지 재시도합니다. 강제 종료 시 유실 범위는 버퍼에 남아 있던 메시지입니다.</p>
+ */
+@Slf4j
+@Component
+public class ChatMessageWriter implements SmartLifecycle {
+
+    private static final String INSERT_PREFIX =
+        "INSERT INTO message_entity (id, party_id, sender_id, content, created_at, message_type) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    private final long retryBackoffMs;
+    private final long maxBackoffMs;
+    private final long shutdownTimeoutMs;
+    private final BlockingQueue<PendingMessage> buffer;
+    private final Counter flushedCounter;
+    private final Counter directCounter;
+    private final Counter droppedCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private volatile long stopDeadline = Long.MAX_VALUE;
+    private Thread flusher;
+
+    public ChatMessageWriter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+        @Value("${chat.writer.enabled:true}") boolean enabled,
+        @Value("${chat.writer.buffer-capacity:10000}") int bufferCapacity,
+        @Value("${chat.writer.max-batch-size:200}") int maxBatchSize,
+        @Value("${chat.writer.flush-interval-ms:5}") long flushIntervalMs,
+        @Value("${chat.writer.offer-timeout-ms:50}") long offerTimeoutMs,
+        @Value("${chat.writer.retry-backoff-ms:50}") long retryBackoffMs,
+        @Value("${chat.writer.max-backoff-ms:2000}") long maxBackoffMs,
+        @Value("${chat.writer.shutdown-timeout-ms:10000}") long shutdownTimeoutMs) {
+        if (bufferCapacity <= 0 || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("chat.writer.buffer-capacity와 max-batch-size는 0보다 커야 합니다.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.retryBackoffMs = Math.max(1, retryBackoffMs);
+        this.maxBackoffMs = Math.max(this.retryBackoffMs, maxBackoffMs);
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.flushedCounter = Counter.builder("chat.writer.flushed").register(meterRegistry);
+        this.directCounter = Counter.builder("chat.writer.direct").register(meterRegistry);
+        this.droppedCounter = Counter.builder("chat.writer.dropped").register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.writer.flush").register(meterRegistry);
+        Gauge.builder("chat.writer.buffered", buffer, BlockingQueue::size).register(meterRegistry);
+    }
+
+    /**
+     * 메시지를 버퍼에 넣습니다. 작성자가 동작하지 않거나 버퍼가 가득 차 있으면 호출 스레드에서 바로 저장합니다.
+     *
+     * @param message 저장할 메시지
+     * @throws org.springframework.dao.DataAccessException 직접 저장이 실패한 경우
+     */
+    public void write(PendingMessage message) {
+        if (running) {
+            if (offer(message)) {
+                // 넣은 직후 종료가 시작되어 마지막 비우기를 놓쳤다면 직접 저장
+                if (running || !buffer.remove(message)) {
+                    return;
+                }
+            } else {
+                log.warn("채팅 메시지 버퍼 포화(size={}), 직접 저장. partyId={}", buffer.size(), message.getPartyId());
+            }
+        }
+        directCounter.increment();
+        insert(List.of(message));
+    }
+
+    private boolean offer(PendingMessage message) {
+        try {
+            return buffer.offer(message, offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        flusher = Thread.ofPlatform().name("chat-writer").daemon(false).start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        // 인터럽트하면 커넥션 획득이 실패할 수 있으므로 flush 간격 안에 스스로 끝나길 기다림
+        stopDeadline = System.currentTimeMillis() + shutdownTimeoutMs;
+        running = false;
+        try {
+            flusher.join(shutdownTimeoutMs + maxBackoffMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (flusher.isAlive()) {
+            log.error("채팅 메시지 작성자가 제한 시간 안에 끝나지 않음, 버퍼에 남은 메시지 {}건", buffer.size());
+            return;
+        }
+        log.info("채팅 메시지 작성자 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            if (!sleep(flushIntervalMs)) {
+                break;
+            }
+            drainAndFlush();
+        }
+        drainAndFlush();
+    }
+
+    private void drainAndFlush() {
+        List<PendingMessage> batch = new ArrayList<>(maxBatchSize);
+        while (buffer.drainTo(batch, maxBatchSize) > 0) {
+            Timer.Sample sample = Timer.start();
+            flush(batch);
+            sample.stop(flushTimer);
+            if (batch.size() < maxBatchSize) {
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    private void flush(List<PendingMessage> batch) {
+        long backoff = retryBackoffMs;
+        while (true) {
+            try {
+                insert(batch);
+                flushedCounter.increment(batch.size());
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // 특정 행의 문제이므로 재시도하지 않고 행 단위로 나눠 문제 행만 버림
+                if (batch.size() == 1) {
+                    droppedCounter.increment();
+                    log.error("채팅 메시지 저장 실패로 버림. id={}, partyId={}: {}",
+                        batch.get(0).getId(), batch.get(0).getPartyId(), e.getMessage());
+                    return;
+                }
+                for (PendingMessage message : batch) {
+                    flush(List.of(message));
+                }
+                return;
+            } catch (DataAccessException e) {
+                if (!running && System.currentTimeMillis() >= stopDeadline) {
+                    droppedCounter.increment(batch.size());
+                    log.error("종료 제한 시간 안에 DB가 복구되지 않아 채팅 메시지 {}건을 저장하지 못함. 첫 id={}: {}",
+                        batch.size(), batch.get(0).getId(), e.getMessage());
+                    return;
+                }
+                log.warn("채팅 메시지 {}건 저장 실패, {}ms 후 재시도: {}", batch.size(), backoff, e.getMessage());
+                sleep(backoff);
+                backoff = Math.min(backoff * 2, maxBackoffMs);
+            }
+        }
+    }
+
+    private void insert(List<PendingMessage> messages) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        Object[] args = new Object[messages.size() * 6];
+        int i = 0;
+        for (PendingMessage message : messages) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+            args[i++] = message.getId();
+            args[i++] = message.getPartyId();
+            args[i++] = message.getSenderId();
+            args[i++] = message.getContent();
+            args[i++] = message.getCreatedAt();
+            args[i++] = message.getType().name();
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
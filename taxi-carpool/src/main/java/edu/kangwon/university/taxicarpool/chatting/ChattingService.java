@@ -1,26 +1,29 @@
 package edu.kangwon.university.taxicarpool.chatting;
 
+import edu.kangwon.university.taxicarpool.archive.PartyArchiveService;
 import edu.kangwon.university.taxicarpool.chatting.dto.MessageResponseDTO;
 import edu.kangwon.university.taxicarpool.chatting.dto.NotificationResponseDTO;
 import edu.kangwon.university.taxicarpool.chatting.dto.ParticipantResponseDTO;
 import edu.kangwon.university.taxicarpool.chatting.exception.InvalidMessageTypeException;
 import edu.kangwon.university.taxicarpool.fcm.FcmPushService;
 import edu.kangwon.university.taxicarpool.fcm.dto.PushMessageDTO;
+import edu.kangwon.university.taxicarpool.id.TimeOrderedIdGenerator;
 import edu.kangwon.university.taxicarpool.member.MemberEntity;
-import edu.kangwon.university.taxicarpool.member.MemberRepository;
-import edu.kangwon.university.taxicarpool.member.exception.MemberNotFoundException;
+import edu.kangwon.university.taxicarpool.outbox.OutboxService;
 import edu.kangwon.university.taxicarpool.party.PartyEntity;
+import edu.kangwon.university.taxicarpool.party.PartyMembership;
+import edu.kangwon.university.taxicarpool.party.PartyMembershipCache;
 import edu.kangwon.university.taxicarpool.party.PartyRepository;
 import edu.kangwon.university.taxicarpool.party.partyException.MemberNotInPartyException;
 import edu.kangwon.university.taxicarpool.party.partyException.PartyNotFoundException;
 import edu.kangwon.university.taxicarpool.party.partyException.UnauthorizedHostAccessException;
 import edu.kangwon.university.taxicarpool.profanity.ProfanityService;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,28 +33,36 @@ public class ChattingService {
     private final MessageRepository messageRepository;
     private final PartyRepository partyRepository;
     private final MessageMapper messageMapper;
-    private final SimpMessagingTemplate messagingTemplate;
-    private final MemberRepository memberRepository;
+    private final OutboxService outboxService;
     private final ProfanityService profanityService;
     private final FcmPushService fcmPushService;
+    private final PartyArchiveService partyArchiveService;
+    private final PartyMembershipCache partyMembershipCache;
+    private final ChatMessageWriter chatMessageWriter;
+    private final TimeOrderedIdGenerator idGenerator;
 
     ChattingService(MessageRepository messageRepository,
         PartyRepository partyRepository, MessageMapper messageMapper,
-        SimpMessagingTemplate messagingTemplate, MemberRepository memberRepository,
-        ProfanityService profanityService, FcmPushService fcmPushService) {
+        OutboxService outboxService, ProfanityService profanityService, FcmPushService fcmPushService,
+        PartyArchiveService partyArchiveService, PartyMembershipCache partyMembershipCache,
+        ChatMessageWriter chatMessageWriter, TimeOrderedIdGenerator idGenerator) {
         this.messageRepository = messageRepository;
         this.partyRepository = partyRepository;
         this.messageMapper = messageMapper;
-        this.messagingTemplate = messagingTemplate;
-        this.memberRepository = memberRepository;
+        this.outboxService = outboxService;
         this.profanityService = profanityService;
         this.fcmPushService = fcmPushService;
+        this.partyArchiveService = partyArchiveService;
+        this.partyMembershipCache = partyMembershipCache;
+        this.chatMessageWriter = chatMessageWriter;
+        this.idGenerator = idGenerator;
     }
 
     /**
      * 파티 입장/퇴장 시 시스템 메시지를 생성하고 구독자에게 브로드캐스트합니다.
      *
-     * <p>TALK 타입은 시스템 메시지로 허용되지 않습니다.</p>
+     * <p>브로드캐스트는 아웃박스에 기록되어 트랜잭션 커밋 이후 발송되므로, 롤백된 입·퇴장은 전파되지 않습니다.
+     * TALK 타입은 시스템 메시지로 허용되지 않습니다.</p>
      *
      * @param partyEntity 대상 파티 엔티티
      * @param memberEntity 입·퇴장한 멤버 엔티티
@@ -69,12 +80,46 @@ public class ChattingService {
         String displayType = type.getDisplayName();
         String content = memberEntity.getNickname() + "님이 " + displayType + "하셨습니다.";
 
-        MessageEntity message = new MessageEntity(partyEntity, memberEntity, content,
-            type);
+        MessageEntity message = new MessageEntity(idGenerator.nextId(), partyEntity, memberEntity,
+            content, type);
         messageRepository.save(message);
 
-        // WebSocket을 통해 메시지 브로드캐스트
-        messagingTemplate.convertAndSend("/sub/party/" + partyEntity.getId(),
+        // WebSocket 브로드캐스트는 커밋 이후 아웃박스를 통해 발송
+        outboxService.enqueueBroadcast(partyEntity.getId(), "/sub/party/" + partyEntity.getId(),
+            messageMapper.convertToResponseDTO(message));
+    }
+
+    /**
+     * 여러 멤버의 동시 입장/퇴장을 하나의 시스템 메시지로 생성하고 한 번 브로드캐스트합니다.
+     *
+     * <p>발신자는 첫 번째 멤버로 기록하며, 멤버가 한 명이면 {@link #createSystemMessage(PartyEntity, MemberEntity, MessageType)}와 같습니다.</p>
+     *
+     * @param partyEntity 대상 파티 엔티티
+     * @param memberEntities 입·퇴장한 멤버 엔티티 목록(1명 이상)
+     * @param type 시스템 메시지 타입(ENTER/LEAVE)
+     * @throws java.lang.IllegalArgumentException type이 TALK인 경우
+     */
+    @Transactional
+    public void createSystemMessage(PartyEntity partyEntity, List<MemberEntity> memberEntities,
+        MessageType type) {
+        if (memberEntities.size() == 1) {
+            createSystemMessage(partyEntity, memberEntities.get(0), type);
+            return;
+        }
+        if (type == MessageType.TALK) {
+            throw new InvalidMessageTypeException("시스템 메시지는 TALK 타입을 가질 수 없습니다.");
+        }
+
+        String nicknames = memberEntities.stream()
+            .map(m -> m.getNickname() + "님")
+            .collect(Collectors.joining(", "));
+        String content = nicknames + "이 " + type.getDisplayName() + "하셨습니다.";
+
+        MessageEntity message = new MessageEntity(idGenerator.nextId(), partyEntity,
+            memberEntities.get(0), content, type);
+        messageRepository.save(message);
+
+        outboxService.enqueueBroadcast(partyEntity.getId(), "/sub/party/" + partyEntity.getId(),
             messageMapper.convertToResponseDTO(message));
     }
 
@@ -82,7 +127,7 @@ public class ChattingService {
      * 특정 파티의 메시지 히스토리를 조회합니다.
      *
      * <p>{@code afterMessageId}가 null이면 처음부터 {@code limit}개를, 값이 있으면 해당 ID보다 큰 메시지를
-     * 오름차순으로 최대 {@code limit}개 조회합니다.</p>
+     * 오름차순으로 최대 {@code limit}개 조회합니다. 운영 테이블에 없는 파티는 보관된 이력을 조회합니다.</p>
      *
      * @param partyId 파티 ID
      * @param memberId 조회 요청 멤버 ID(파티 참여자여야 함)
@@ -98,10 +143,14 @@ public class ChattingService {
     public List<MessageResponseDTO> getMessageHistory(Long partyId, Long memberId,
         Long afterMessageId, int limit) {
 
-        PartyEntity party = validateMemberInParty(partyId, memberId);
+        PartyMembership membership = partyMembershipCache.get(partyId);
+        if (membership == null) {
+            return partyArchiveService.getMessageHistory(partyId, memberId, afterMessageId, limit);
+        }
+        validateMember(membership, memberId);
 
         long minAllowedId = 0L;
-        boolean isHost = party.getHostMemberId().equals(memberId);
+        boolean isHost = membership.isHost(memberId);
 
         if (!isHost) {
             minAllowedId = messageRepository.findLastEnterMessageId(partyId, memberId)
@@ -122,95 +171,86 @@ public class ChattingService {
     }
 
     /**
-     * 사용자가 해당 파티에 속해 있는지 검증합니다.
+     * 사용자가 해당 파티에 속해 있는지 참여 정보 캐시로 검증합니다.
      *
      * @param partyId 파티 ID
      * @param memberId 멤버 ID
+     * @return 파티 참여 정보
      * @throws edu.kangwon.university.taxicarpool.party.partyException.PartyNotFoundException
      *         파티가 존재하지 않는 경우
      * @throws edu.kangwon.university.taxicarpool.party.partyException.MemberNotInPartyException
      *         멤버가 파티에 속해있지 않은 경우
      */
-    private PartyEntity validateMemberInParty(Long partyId, Long memberId) {
-        PartyEntity party = partyRepository.findById(partyId)
-            .orElseThrow(() -> new PartyNotFoundException("파티를 찾을 수 없습니다."));
-
-        boolean isMember = party.getMemberEntities().stream()
-            .anyMatch(member -> member.getId().equals(memberId));
+    private PartyMembership validateMemberInParty(Long partyId, Long memberId) {
+        PartyMembership membership = partyMembershipCache.get(partyId);
+        if (membership == null) {
+            throw new PartyNotFoundException("파티를 찾을 수 없습니다.");
+        }
+        validateMember(membership, memberId);
+        return membership;
+    }
 
-        if (!isMember) {
+    private void validateMember(PartyMembership membership, Long memberId) {
+        if (!membership.isMember(memberId)) {
             throw new MemberNotInPartyException("해당 파티의 멤버가 아닙니다.");
         }
-
-        return party;
     }
 
     /**
-     * 채팅 메시지를 전송(저장)하고, 파티원들에게 FCM 푸시 알림을 발송합니다.
+     * 채팅 메시지를 전송하고, 파티원들에게 FCM 푸시 알림을 발송합니다.
      *
      * <p>비속어는 {@link edu.kangwon.university.taxicarpool.profanity.ProfanityService#maskSmart(String)}
-     * 로 마스킹하여 저장합니다.</p>
+     * 로 마스킹하여 저장합니다. 참여 여부, 발신자 닉네임, 수신자 목록은 참여 정보 캐시에서 가져오고,
+     * ID와 생성 시각을 여기서 정한 뒤 {@link ChatMessageWriter}에 넘기므로 캐시 적중 시 DB를 기다리지 않고
+     * 바로 브로드캐스트할 수 있습니다. 저장은 몇 밀리초 안에 다른 메시지와 함께 한 번에 이루어집니다.</p>
      *
      * @param partyId 파티 ID
      * @param memberId 발신자 멤버 ID(파티 참여자여야 함)
      * @param content 원본 메시지 내용
-     * @return 저장된 메시지의 응답 DTO
+     * @return 전송된 메시지의 응답 DTO
      * @throws edu.kangwon.university.taxicarpool.party.partyException.PartyNotFoundException
      *         파티가 존재하지 않는 경우
-     * @throws edu.kangwon.university.taxicarpool.member.exception.MemberNotFoundException
-     *         발신자 멤버를 찾을 수 없는 경우
      * @throws edu.kangwon.university.taxicarpool.party.partyException.MemberNotInPartyException
      *         발신자가 파티에 속해있지 않은 경우
      */
-    @Transactional
     public MessageResponseDTO sendMessage(Long partyId, Long memberId, String content) {
-        validateMemberInParty(partyId, memberId);
-
-        PartyEntity party = partyRepository.findById(partyId)
-            .orElseThrow(() -> new PartyNotFoundException("파티를 찾을 수 없습니다."));
-        MemberEntity sender = memberRepository.findById(memberId)
-            .orElseThrow(() -> new MemberNotFoundException("멤버를 찾을 수 없습니다."));
-
-        boolean isMember = party.getMemberEntities().stream()
-            .anyMatch(m -> m.getId().equals(memberId));
-        if (!isMember) {
-            throw new MemberNotInPartyException("멤버가 해당 파티의 구성원이 아닙니다.");
-        }
+        PartyMembership membership = validateMemberInParty(partyId, memberId);
+        String senderNickname = membership.getNickname(memberId);
 
         String masked = profanityService.maskSmart(content);
 
-        MessageEntity message = new MessageEntity(party, sender, masked, MessageType.TALK);
-        messageRepository.save(message);
+        PendingMessage message = new PendingMessage(idGenerator.nextId(), partyId, memberId, masked,
+            LocalDateTime.now(), MessageType.TALK);
+        chatMessageWriter.write(message);
 
         // FCM 푸시 알림 발송
         // 1. 알림을 받을 파티원 목록 생성 (메시지 보낸 사람 제외)
-        List<Long> recipientIds = party.getMemberEntities().stream()
-            .map(MemberEntity::getId)
+        List<Long> recipientIds = membership.getMemberIds().stream()
             .filter(id -> !id.equals(memberId)) // 발신자 제외
             .collect(Collectors.toList());
 
         // 2. 알림 받을 사람이 있으면 푸시 발송
         if (!recipientIds.isEmpty()) {
             DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH시 mm분");
-            String formattedTime = party.getStartDateTime().format(timeFormatter);
+            String formattedTime = membership.getStartDateTime().format(timeFormatter);
 
-            String destinationName = party.getEndPlace().getName();
+            String destinationName = membership.getDestinationName();
             String title = String.format("%s %s행 카풀방", formattedTime, destinationName);
 
             PushMessageDTO pushMessage = PushMessageDTO.builder()
                 .title(title)
-                .body(String.format("%s: %s", sender.getNickname(), masked)) // "닉네임: 메시지 내용"
+                .body(String.format("%s: %s", senderNickname, masked)) // "닉네임: 메시지 내용"
                 .type("CHAT_MESSAGE") // 클라이언트와 협의된 타입
                 .build();
 
             // data 필드에 partyId, messageId 등을 추가하여 딥링크 및 추가 데이터 처리에 활용
             pushMessage.getData().put("partyId", String.valueOf(partyId));
-            pushMessage.getData().put("senderNickname", sender.getNickname());
+            pushMessage.getData().put("senderNickname", senderNickname);
 
             fcmPushService.sendPushToUsers(recipientIds, pushMessage);
         }
 
-        return messageMapper.convertToResponseDTO(message);
+        return messageMapper.convertToResponseDTO(message, senderNickname);
     }
 
     /**
@@ -226,17 +266,10 @@ public class ChattingService {
      */
     @Transactional(readOnly = true)
     public List<ParticipantResponseDTO> getParticipants(Long partyId, Long memberId) {
-        PartyEntity party = partyRepository.findById(partyId)
-            .orElseThrow(() -> new PartyNotFoundException("파티를 찾을 수 없습니다."));
+        PartyMembership membership = validateMemberInParty(partyId, memberId);
 
-        boolean isMember = party.getMemberEntities().stream()
-            .anyMatch(m -> m.getId().equals(memberId));
-        if (!isMember) {
-            throw new MemberNotInPartyException("멤버가 해당 파티의 구성원이 아닙니다.");
-        }
-
-        return party.getMemberEntities().stream()
-            .map(m -> new ParticipantResponseDTO(m.getId(), m.getNickname()))
+        return membership.getNicknames().entrySet().stream()
+            .map(e -> new ParticipantResponseDTO(e.getKey(), e.getValue()))
             .toList();
     }
 
@@ -260,23 +293,15 @@ public class ChattingService {
     public NotificationResponseDTO updateNotification(Long partyId, Long memberId,
         String notification) {
 
-        PartyEntity party = partyRepository.findById(partyId)
-            .orElseThrow(() -> new PartyNotFoundException("파티를 찾을 수 없습니다."));
-
-        boolean isMember = party.getMemberEntities().stream()
-            .anyMatch(m -> m.getId().equals(memberId));
-        if (!isMember) {
-            throw new MemberNotInPartyException("멤버가 해당 파티의 구성원이 아닙니다.");
-        }
+        PartyMembership membership = validateMemberInParty(partyId, memberId);
 
-        if (!party.getHostMemberId().equals(memberId)) {
+        if (!membership.isHost(memberId)) {
             throw new UnauthorizedHostAccessException("호스트만 공지사항을 수정할 수 있습니다.");
         }
 
-        party.setNotification(notification);
-        PartyEntity saved = partyRepository.save(party);
+        partyRepository.updateNotification(partyId, notification, LocalDateTime.now());
 
-        return new NotificationResponseDTO(saved.getId(), saved.getNotification());
+        return new NotificationResponseDTO(partyId, notification);
     }
 
 }
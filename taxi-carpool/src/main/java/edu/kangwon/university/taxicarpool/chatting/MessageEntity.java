@@ -8,18 +8,26 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
+/**
+ * 채팅 메시지입니다.
+ *
+ * <p>ID는 {@link edu.kangwon.university.taxicarpool.id.TimeOrderedIdGenerator}로 애플리케이션에서 정하므로
+ * 저장 전에 브로드캐스트할 수 있고, ID 순서가 곧 전송 순서입니다. 일반 메시지는 {@link ChatMessageWriter}가
+ * 모아서 저장하며, 입·퇴장 시스템 메시지는 파티 변경과 같은 트랜잭션에서 저장합니다.
+ * 키를 지정하므로 {@link Persistable}로 신규 여부를 알려 저장 시 사전 SELECT를 생략합니다.</p>
+ */
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class MessageEntity {
+public class MessageEntity implements Persistable<Long> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -44,7 +52,12 @@ public class MessageEntity {
     @NotNull
     private MessageType type;
 
-    public MessageEntity(PartyEntity party, MemberEntity sender, String content, MessageType type) {
+    @Transient
+    private boolean isNew = true;
+
+    public MessageEntity(Long id, PartyEntity party, MemberEntity sender, String content,
+        MessageType type) {
+        this.id = id;
         this.party = party;
         this.sender = sender;
         this.content = content;
@@ -54,4 +67,15 @@ public class MessageEntity {
     public void setParty(PartyEntity party) {
         this.party = party;
     }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
 }
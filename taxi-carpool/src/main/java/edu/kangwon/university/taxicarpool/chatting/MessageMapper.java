@@ -1,5 +1,6 @@
 package edu.kangwon.university.taxicarpool.chatting;
 
+import edu.kangwon.university.taxicarpool.archive.ArchivedMessageRow;
 import edu.kangwon.university.taxicarpool.chatting.dto.MessageResponseDTO;
 import org.springframework.stereotype.Component;
 
@@ -22,4 +23,37 @@ public class MessageMapper {
             messageEntity.getType());
     }
 
+    /**
+     * 저장 대기 중인 메시지를 발신자 닉네임과 함께 MessageResponseDTO로 변환합니다.
+     *
+     * @param message 변환할 메시지(ID/생성 시각이 정해진 상태)
+     * @param senderNickname 발신자 닉네임
+     * @return 변환된 MessageResponseDTO 객체
+     */
+    public MessageResponseDTO convertToResponseDTO(PendingMessage message, String senderNickname) {
+        return new MessageResponseDTO(
+            message.getId(),
+            message.getSenderId(),
+            senderNickname,
+            message.getContent(),
+            message.getCreatedAt(),
+            message.getType());
+    }
+
+    /**
+     * 보관된 메시지 프로젝션을 MessageResponseDTO로 변환합니다.
+     *
+     * @param row 변환할 보관 메시지 프로젝션(탈퇴한 발신자는 ID/닉네임이 null)
+     * @return 변환된 MessageResponseDTO 객체
+     */
+    public MessageResponseDTO convertToResponseDTO(ArchivedMessageRow row) {
+        return new MessageResponseDTO(
+            row.getId(),
+            row.getSenderId(),
+            row.getSenderNickname() != null ? row.getSenderNickname() : "탈퇴한 사용자",
+            row.getContent(),
+            row.getCreatedAt(),
+            row.getType());
+    }
+
 }
\ No newline at end of file
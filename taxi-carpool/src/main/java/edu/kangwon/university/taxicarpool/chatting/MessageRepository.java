@@ -1,6 +1,7 @@
 package edu.kangwon.university.taxicarpool.chatting;
 
 import edu.kangwon.university.taxicarpool.member.MemberEntity;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
@@ -37,4 +38,9 @@ public interface MessageRepository extends JpaRepository<MessageEntity, Long> {
     @Query("UPDATE MessageEntity m SET m.sender = null WHERE m.sender = :member")
     void setSenderToNullByMember(@Param("member") MemberEntity member);
 
+    /** 보관 테이블로 옮긴 파티들의 메시지를 삭제합니다. */
+    @Modifying
+    @Query("DELETE FROM MessageEntity m WHERE m.party.id IN :partyIds")
+    int deleteByPartyIdIn(@Param("partyIds") Collection<Long> partyIds);
+
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package edu.kangwon.university.taxicarpool.chatting;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link ChatMessageWriter}가 저장하기 전까지 버퍼에 머무는 채팅 메시지 한 건입니다.
+ * ID와 생성 시각은 전송 시점에 애플리케이션에서 정해지며, 브로드캐스트된 값과 저장되는 값이 같습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+class PendingMessage {
+
+    private final long id;
+    private final Long partyId;
+    private final Long senderId;
+    private final String content;
+    private final LocalDateTime createdAt;
+    private final MessageType type;
+}
@@ -0,0 +1,124 @@
+package edu.kangwon.university.taxicarpool.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 작업 종류별 전용 실행기입니다.
+ *
+ * <p>외부 HTTP(카카오), 푸시 발송(FCM/STOMP), DB 백그라운드 쓰기를 서로 다른 실행기로 분리해 한쪽이 느려져도
+ * 다른 작업의 스레드/큐를 잠식하지 않게 합니다. 실행기마다 동시 실행 수에 상한을 두고, 가득 차면
+ * 작업 성격에 맞는 거절 정책을 적용합니다.</p>
+ *
+ * <p>I/O 대기가 대부분인 HTTP/푸시 실행기는 작업마다 가상 스레드를 새로 만들어 실행하고(풀/큐 없음), 동시 실행 수가
+ * 상한에 닿으면 호출자를 기다리게 하지 않고 바로 거절합니다. 실행 중 작업 수와 거절 수는 {@code executor.active},
+ * {@code executor.rejected} 지표로 등록합니다. JDBC 커넥션 풀에 묶이는 DB 실행기만 플랫폼 스레드 풀
+ * ({@link ThreadPoolTaskExecutor})을 쓰며, Actuator가 {@code executor.*} 지표를 자동으로 등록합니다.</p>
+ */
+@Slf4j
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 카카오 모빌리티 등 외부 HTTP 호출용. 가득 차면 거절하며, 호출자는 거리 기반 추정 요금으로 대체합니다.
+     */
+    @Bean
+    public SimpleAsyncTaskExecutor kakaoHttpExecutor(MeterRegistry meterRegistry,
+        @Value("${executor.kakao-http.max-concurrency:20}") int maxConcurrency) {
+        return new BoundedVirtualThreadExecutor("kakao-http-", maxConcurrency, meterRegistry);
+    }
+
+    /**
+     * FCM 푸시/아웃박스 발송용. 가득 차면 거절하며, 아웃박스 이벤트는 주기 재처리로 다시 발송됩니다.
+     */
+    @Bean
+    public SimpleAsyncTaskExecutor pushExecutor(MeterRegistry meterRegistry,
+        @Value("${executor.push.max-concurrency:32}") int maxConcurrency) {
+        return new BoundedVirtualThreadExecutor("push-", maxConcurrency, meterRegistry);
+    }
+
+    /**
+     * 참여 배치 작성자, 비동기 결과 반영 등 DB 백그라운드 쓰기용. 가득 차면 호출 스레드에서 실행해 유실을 막습니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor dbTaskExecutor(
+        @Value("${executor.db.core-size:4}") int coreSize,
+        @Value("${executor.db.max-size:8}") int maxSize,
+        @Value("${executor.db.queue-capacity:500}") int queueCapacity) {
+        return executor("db-task-", coreSize, maxSize, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private ThreadPoolTaskExecutor executor(String threadNamePrefix,
+        int coreSize, int maxSize, int queueCapacity, RejectedExecutionHandler rejectionPolicy) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            log.warn("{} 실행기 포화(active={}, queued={}), 거절 정책 적용",
+                threadNamePrefix, pool.getActiveCount(), pool.getQueue().size());
+            rejectionPolicy.rejectedExecution(task, pool);
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * 작업마다 가상 스레드를 만들고 동시 실행 수가 상한에 닿으면 {@link TaskRejectedException}으로 거절하는 실행기입니다.
+     *
+     * <p>{@link SimpleAsyncTaskExecutor#setConcurrencyLimit(int)}는 상한에서 호출 스레드를 대기시키므로,
+     * 요청 스레드에서 제출하는 작업이 막히지 않도록 허가(permit)를 얻지 못하면 바로 거절합니다.</p>
+     */
+    static final class BoundedVirtualThreadExecutor extends SimpleAsyncTaskExecutor {
+
+        private final transient Semaphore permits;
+        private final transient Counter rejectedCounter;
+
+        BoundedVirtualThreadExecutor(String threadNamePrefix, int maxConcurrency, MeterRegistry meterRegistry) {
+            super(threadNamePrefix);
+            setVirtualThreads(true);
+            setTaskTerminationTimeout(10_000);
+            this.permits = new Semaphore(maxConcurrency);
+            String name = threadNamePrefix.substring(0, threadNamePrefix.length() - 1);
+            Gauge.builder("executor.active", permits, p -> maxConcurrency - p.availablePermits())
+                .tag("name", name)
+                .register(meterRegistry);
+            this.rejectedCounter = Counter.builder("executor.rejected").tag("name", name).register(meterRegistry);
+        }
+
+        @Override
+        protected void doExecute(Runnable task) {
+            if (!permits.tryAcquire()) {
+                rejectedCounter.increment();
+                log.warn("{} 실행기 포화(동시 실행 상한 도달), 작업 거절", getThreadNamePrefix());
+                throw new TaskRejectedException(getThreadNamePrefix() + " 실행기 동시 실행 상한 도달");
+            }
+            try {
+                super.doExecute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+    }
+}
@@ -66,7 +66,9 @@ public class SecurityConfig {
                     "/swagger-resources/**",    // 스웨거 리소스
                     "/webjars/**",              // 스웨거 관련 정적 리소스
                     "/h2-console/**",
-                    "/.well-known/**"
+                    "/.well-known/**",
+                    "/actuator/health/**",      // 헬스 체크 (운영은 별도 관리 포트)
+                    "/actuator/metrics/**"      // 지표 수집 (운영은 별도 관리 포트)
                 ).permitAll()
 
                 .requestMatchers(HttpMethod.GET,
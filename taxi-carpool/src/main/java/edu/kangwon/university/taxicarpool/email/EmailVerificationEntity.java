@@ -1,5 +1,6 @@
 package edu.kangwon.university.taxicarpool.email;
 
+import edu.kangwon.university.taxicarpool.id.TimeOrderedId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
@@ -14,7 +15,7 @@ import java.time.LocalDateTime;
 public class EmailVerificationEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @NotNull
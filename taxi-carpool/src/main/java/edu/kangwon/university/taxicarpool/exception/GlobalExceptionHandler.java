@@ -23,6 +23,7 @@ import edu.kangwon.university.taxicarpool.party.partyException.PartyGenderMismat
 import edu.kangwon.university.taxicarpool.party.partyException.PartyGetCustomException;
 import edu.kangwon.university.taxicarpool.party.partyException.PartyInvalidMaxParticipantException;
 import edu.kangwon.university.taxicarpool.party.partyException.PartyNotFoundException;
+import edu.kangwon.university.taxicarpool.party.partyException.PartyNotRecruitingException;
 import edu.kangwon.university.taxicarpool.party.partyException.SavingsAlreadyCalculatedException;
 import edu.kangwon.university.taxicarpool.party.partyException.UnauthorizedHostAccessException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -160,6 +161,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    @ExceptionHandler(PartyNotRecruitingException.class)
+    public ResponseEntity<ErrorResponseDTO> handlePartyNotRecruitingException(PartyNotRecruitingException ex,
+        HttpServletRequest request) {
+        ErrorResponseDTO errorResponse = new ErrorResponseDTO(HttpStatus.CONFLICT.value(),
+            ex.getMessage(),
+            request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     @ExceptionHandler(DuplicatedNicknameException.class)
     public ResponseEntity<ErrorResponseDTO> handleDuplicatedNicknameException(
         DuplicatedNicknameException ex,
@@ -1,5 +1,6 @@
 package edu.kangwon.university.taxicarpool.fcm;
 
+import edu.kangwon.university.taxicarpool.id.TimeOrderedId;
 import edu.kangwon.university.taxicarpool.member.MemberEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -7,8 +8,6 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -27,7 +26,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 public class FcmTokenEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     @Column(name = "fcm_token_id")
     private Long id;
 
@@ -0,0 +1,220 @@
+package edu.kangwon.university.taxicarpool.housekeeping;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료/사용/폐기되어 더 이상 조회되지 않는 행을 주기적으로 삭제합니다.
+ *
+ * <p>한 번에 전부 지우지 않고, 기본 키 순서로 삭제 대상 id를 {@code chunk-size}개씩 조회한 뒤 그 id 구간만
+ * 삭제 조건과 함께 DELETE합니다. 청크마다 자동 커밋되고 청크 사이에 {@code pause-ms}만큼 쉬므로 긴 락이나
+ * 큰 undo 로그를 만들지 않습니다. 한 번의 실행에서 테이블당 최대 {@code max-chunks-per-run}개 청크만 처리하고,
+ * 남은 행은 다음 실행에서 이어서 지웁니다.</p>
+ *
+ * <p>여러 인스턴스가 동시에 실행해도 같은 테이블은 Redis 락을 잡은 인스턴스만 정리합니다. Redis를 사용할 수 없으면
+ * 락 없이 진행하며, 삭제는 조건을 다시 확인하는 멱등 연산이므로 겹쳐 실행되어도 결과는 같습니다.</p>
+ *
+ * <p>테이블별로 {@code housekeeping.purge.deleted}(삭제 건수), {@code housekeeping.purge.duration}(소요 시간),
+ * {@code housekeeping.purge.skipped}(다른 인스턴스가 정리 중이라 건너뜀) 지표를 {@code table} 태그로 등록합니다.</p>
+ */
+@Slf4j
+@Component
+public class HousekeepingService {
+
+    private static final String LOCK_KEY_PREFIX = "housekeeping:purge:";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final long pauseMs;
+    private final int maxChunksPerRun;
+    private final List<PurgeTarget> targets;
+
+    public HousekeepingService(JdbcTemplate jdbcTemplate, RedissonClient redissonClient,
+        MeterRegistry meterRegistry,
+        @Value("${housekeeping.enabled:true}") boolean enabled,
+        @Value("${housekeeping.chunk-size:500}") int chunkSize,
+        @Value("${housekeeping.pause-ms:100}") long pauseMs,
+        @Value("${housekeeping.max-chunks-per-run:200}") int maxChunksPerRun,
+        @Value("${housekeeping.token-retention-hours:24}") long tokenRetentionHours,
+        @Value("${outbox.retention-hours:24}") long outboxRetentionHours,
+        @Value("${outbox.failed-retention-hours:168}") long outboxFailedRetentionHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redissonClient = redissonClient;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.pauseMs = pauseMs;
+        this.maxChunksPerRun = maxChunksPerRun;
+
+        Duration tokenRetention = Duration.ofHours(tokenRetentionHours);
+        this.targets = List.of(
+            new PurgeTarget("email_verification", "email_verification_entity", "id",
+                "expires_at < ?", tokenRetention),
+            new PurgeTarget("password_reset_token", "password_reset_token", "id",
+                "used = TRUE OR expires_at < ?", tokenRetention),
+            new PurgeTarget("refresh_token", "refresh_token_entity", "id",
+                "expiry_date < ?", tokenRetention),
+            // 폐기된 FCM 토큰은 다시 활성화되지 않고 조회에서도 제외되므로 보관 기간 없이 삭제합니다.
+            new PurgeTarget("fcm_token", "fcm_token", "fcm_token_id",
+                "revoked = TRUE", null),
+            new PurgeTarget("outbox_event", "outbox_event", "outbox_event_id",
+                "status = 'SENT' AND processed_at < ?", Duration.ofHours(outboxRetentionHours)),
+            // 최종 실패 행은 원인 확인을 위해 발송 완료보다 오래 보관한 뒤 삭제합니다.
+            new PurgeTarget("outbox_event_failed", "outbox_event", "outbox_event_id",
+                "status = 'FAILED' AND processed_at < ?", Duration.ofHours(outboxFailedRetentionHours))
+        );
+    }
+
+    @Scheduled(cron = "${housekeeping.cron:0 15 * * * *}")
+    public void purgeAll() {
+        if (!enabled) {
+            return;
+        }
+        for (PurgeTarget target : targets) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            try {
+                purgeExclusively(target);
+            } catch (Exception e) {
+                log.error("{} 정리 실패: {}", target.getName(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 테이블별 락을 기다리지 않고 시도해 잡은 경우에만 정리합니다. 락은 Redisson 워치독이 작업 동안 연장하며,
+     * Redis 오류 시에는 락 없이 진행합니다.
+     */
+    private void purgeExclusively(PurgeTarget target) {
+        RLock lock;
+        try {
+            lock = redissonClient.getLock(LOCK_KEY_PREFIX + target.getName());
+            if (!lock.tryLock()) {
+                skippedCounter(target).increment();
+                log.debug("{} 정리 생략(다른 인스턴스에서 정리 중)", target.getName());
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("{} 정리 락 획득 실패, 락 없이 진행합니다: {}", target.getName(), e.getMessage());
+            lock = null;
+        }
+        try {
+            purge(target);
+        } finally {
+            unlock(lock);
+        }
+    }
+
+    private void unlock(RLock lock) {
+        if (lock == null) {
+            return;
+        }
+        try {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        } catch (Exception e) {
+            log.warn("정리 락 해제 실패(만료 시 자동 해제): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 대상 테이블을 청크 단위로 삭제하고 삭제한 행 수를 반환합니다.
+     */
+    long purge(PurgeTarget target) {
+        String select = "SELECT " + target.getIdColumn() + " FROM " + target.getTable()
+            + " WHERE " + target.getIdColumn() + " > ? AND (" + target.getCondition() + ")"
+            + " ORDER BY " + target.getIdColumn() + " LIMIT ?";
+        String delete = "DELETE FROM " + target.getTable()
+            + " WHERE " + target.getIdColumn() + " BETWEEN ? AND ? AND (" + target.getCondition() + ")";
+        Timestamp cutoff = target.hasCutoff()
+            ? Timestamp.valueOf(LocalDateTime.now().minus(target.getRetention()))
+            : null;
+
+        Counter deletedCounter = deletedCounter(target);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long lastId = 0L;
+        long total = 0L;
+        int chunks = 0;
+        try {
+            while (chunks < maxChunksPerRun) {
+                List<Long> ids = cutoff != null
+                    ? jdbcTemplate.queryForList(select, Long.class, lastId, cutoff, chunkSize)
+                    : jdbcTemplate.queryForList(select, Long.class, lastId, chunkSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                long from = ids.get(0);
+                long to = ids.get(ids.size() - 1);
+                int deleted = cutoff != null
+                    ? jdbcTemplate.update(delete, from, to, cutoff)
+                    : jdbcTemplate.update(delete, from, to);
+                deletedCounter.increment(deleted);
+                total += deleted;
+                chunks++;
+                lastId = to;
+
+                if (ids.size() < chunkSize || !pause()) {
+                    break;
+                }
+            }
+        } finally {
+            sample.stop(durationTimer(target));
+        }
+
+        if (total > 0) {
+            log.info("{} 정리 완료: {}건 삭제({}개 청크)", target.getName(), total, chunks);
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Counter deletedCounter(PurgeTarget target) {
+        return Counter.builder("housekeeping.purge.deleted")
+            .description("정리 작업으로 삭제된 행 수")
+            .tag("table", target.getName())
+            .register(meterRegistry);
+    }
+
+    private Counter skippedCounter(PurgeTarget target) {
+        return Counter.builder("housekeeping.purge.skipped")
+            .description("다른 인스턴스가 정리 중이라 건너뛴 횟수")
+            .tag("table", target.getName())
+            .register(meterRegistry);
+    }
+
+    private Timer durationTimer(PurgeTarget target) {
+        return Timer.builder("housekeeping.purge.duration")
+            .description("테이블별 정리 소요 시간")
+            .tag("table", target.getName())
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,27 @@
+package edu.kangwon.university.taxicarpool.housekeeping;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 정리 대상 테이블 하나의 삭제 조건입니다.
+ *
+ * <p>{@code condition}은 WHERE 절에 그대로 붙는 SQL 조각이며, {@code retention}이 있으면
+ * "현재 시각 - retention"을 유일한 {@code ?} 파라미터로 바인딩합니다. 조건은 조회와 삭제 양쪽에서 다시 평가되므로
+ * 그 사이에 갱신되어 조건을 벗어난 행은 삭제되지 않습니다.</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public class PurgeTarget {
+
+    private final String name;
+    private final String table;
+    private final String idColumn;
+    private final String condition;
+    private final Duration retention;
+
+    public boolean hasCutoff() {
+        return retention != null;
+    }
+}
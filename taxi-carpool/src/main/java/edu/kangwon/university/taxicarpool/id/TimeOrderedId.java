@@ -0,0 +1,19 @@
+package edu.kangwon.university.taxicarpool.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 엔티티 ID를 {@link TimeOrderedIdGenerator}로 생성하도록 지정합니다.
+ *
+ * <p>{@code @GeneratedValue(strategy = GenerationType.IDENTITY)} 대신 {@code @Id}와 함께 붙입니다.
+ * ID를 INSERT 전에 애플리케이션에서 정하므로 키를 돌려받는 왕복이 없고, Hibernate가 INSERT를 JDBC 배치로 묶을 수 있습니다.</p>
+ */
+@IdGeneratorType(TimeOrderedIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,96 @@
+package edu.kangwon.university.taxicarpool.id;
+
+import java.net.InetAddress;
+import java.time.Instant;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시간 순으로 증가하는 ID 생성기입니다(Snowflake 방식).
+ *
+ * <p>하위부터 같은 밀리초 안의 순번 7비트, 노드 ID 5비트, 기준 시각(2024-01-01 UTC) 이후 경과 밀리초 41비트로
+ * 구성됩니다. 값은 {@code long}이지만 53비트 안에 들어가므로 JSON 숫자로 내려도 클라이언트(JavaScript)의
+ * 안전한 정수 범위({@code Number.MAX_SAFE_INTEGER})를 넘지 않습니다. 노드마다 ID 공간이 나뉘므로 인스턴스 간
+ * 조율 없이 중복되지 않고, 같은 노드에서는 항상 증가하므로 {@code ORDER BY id}가 생성 순서와 같습니다.</p>
+ *
+ * <p>노드 ID는 {@code id.node-id}로 인스턴스마다 다르게 지정해야 합니다. 노드 ID가 겹치면 같은 ID가 나와
+ * INSERT가 키 충돌로 실패하므로, 지정하지 않으면 기동하지 않습니다. 단일 인스턴스인 로컬/테스트 환경만
+ * {@code id.derive-node-id=true}로 호스트 이름에서 유도할 수 있습니다.</p>
+ *
+ * <p>시계가 뒤로 가면 마지막으로 쓴 시각을 계속 사용해 단조 증가를 유지하고, 한 밀리초의 순번(노드당 128개)을
+ * 다 쓰면 다음 밀리초로 넘어갑니다.</p>
+ *
+ * <p>엔티티 ID는 {@link TimeOrderedId}로, 채팅 메시지처럼 저장 전에 ID가 필요한 곳은 이 빈을 직접 주입받아 씁니다.</p>
+ */
+@Slf4j
+@Component
+public class TimeOrderedIdGenerator {
+
+    static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 5;
+    static final int SEQUENCE_BITS = 7;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    private long lastMillis = -1L;
+    private long sequence = 0L;
+
+    @Autowired
+    public TimeOrderedIdGenerator(@Value("${id.node-id:-1}") long nodeId,
+        @Value("${id.derive-node-id:false}") boolean deriveNodeId) {
+        this(resolveNodeId(nodeId, deriveNodeId), System::currentTimeMillis);
+        log.info("ID 생성기 노드 ID: {}", this.nodeId);
+    }
+
+    TimeOrderedIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("id.node-id는 0~" + MAX_NODE_ID + " 범위여야 합니다.");
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * 다음 ID를 반환합니다. 같은 인스턴스에서 반환한 값은 항상 이전 값보다 큽니다.
+     */
+    public synchronized long nextId() {
+        long now = Math.max(clock.getAsLong() - EPOCH_MILLIS, lastMillis);
+        if (now == lastMillis) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                now = lastMillis + 1; // 순번 소진, 다음 밀리초의 첫 순번 사용
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = now;
+        return (now << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    private static long resolveNodeId(long nodeId, boolean deriveNodeId) {
+        if (nodeId >= 0) {
+            return nodeId;
+        }
+        if (!deriveNodeId) {
+            throw new IllegalStateException(
+                "id.node-id(ID_NODE_ID)가 지정되지 않았습니다. 인스턴스마다 0~" + MAX_NODE_ID + " 사이의 서로 다른 값을 지정하세요.");
+        }
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = String.valueOf(ProcessHandle.current().pid());
+        }
+        log.warn("id.node-id가 지정되지 않아 호스트 이름({})에서 노드 ID를 유도합니다. 단일 인스턴스에서만 사용하세요.", host);
+        return (host.hashCode() & 0x7fffffffL) % (MAX_NODE_ID + 1);
+    }
+}
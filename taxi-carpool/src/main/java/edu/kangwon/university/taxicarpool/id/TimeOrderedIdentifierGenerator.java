@@ -0,0 +1,67 @@
+package edu.kangwon.university.taxicarpool.id;
+
+import java.io.Serial;
+import java.lang.reflect.Member;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.resource.beans.container.spi.BeanContainer;
+import org.hibernate.resource.beans.internal.FallbackBeanInstanceProducer;
+import org.hibernate.resource.beans.spi.ManagedBeanRegistry;
+
+/**
+ * {@link TimeOrderedId}가 붙은 엔티티의 ID를 만드는 Hibernate 식별자 생성기입니다.
+ *
+ * <p>Hibernate가 직접 생성하는 객체이므로, 스프링 부트가 Hibernate에 연결해 둔 빈 컨테이너
+ * ({@code SpringBeanContainer})에서 {@link TimeOrderedIdGenerator} 싱글턴을 찾아 씁니다. 각 EntityManagerFactory는
+ * 자신의 스프링 컨텍스트의 빈을 쓰며, 노드 ID와 순번을 채팅 메시지 ID와 공유하므로 한 인스턴스 안의 모든 ID가 같은
+ * 규칙으로 증가합니다.</p>
+ *
+ * <p>{@link ManagedBeanRegistry#getBean(Class)}는 JPA 규칙에 따라 빈을 새로 만들어 같은 노드 ID의 생성기가 둘이
+ * 되므로, 빈 컨테이너에서 캐시된 싱글턴을 조회합니다. 빈은 첫 ID 생성 시점에 찾습니다.</p>
+ */
+public class TimeOrderedIdentifierGenerator implements IdentifierGenerator {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final BeanContainer.LifecycleOptions SINGLETON = new BeanContainer.LifecycleOptions() {
+        @Override
+        public boolean canUseCachedReferences() {
+            return true;
+        }
+
+        @Override
+        public boolean useJpaCompliantCreation() {
+            return false;
+        }
+    };
+
+    private final transient BeanContainer beanContainer;
+    private transient volatile TimeOrderedIdGenerator delegate;
+
+    public TimeOrderedIdentifierGenerator(TimeOrderedId annotation, Member member,
+        CustomIdGeneratorCreationContext context) {
+        this.beanContainer = context.getServiceRegistry()
+            .requireService(ManagedBeanRegistry.class)
+            .getBeanContainer();
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return delegate().nextId();
+    }
+
+    private TimeOrderedIdGenerator delegate() {
+        TimeOrderedIdGenerator generator = delegate;
+        if (generator == null) {
+            if (beanContainer == null) {
+                throw new IllegalStateException("TimeOrderedIdGenerator를 찾을 빈 컨테이너가 Hibernate에 설정되지 않았습니다.");
+            }
+            generator = beanContainer.getBean(TimeOrderedIdGenerator.class, SINGLETON,
+                FallbackBeanInstanceProducer.INSTANCE).getBeanInstance();
+            delegate = generator;
+        }
+        return generator;
+    }
+}
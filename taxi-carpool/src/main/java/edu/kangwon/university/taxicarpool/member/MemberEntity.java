@@ -1,7 +1,7 @@
 package edu.kangwon.university.taxicarpool.member;
 
 import edu.kangwon.university.taxicarpool.chatting.MessageEntity;
-import edu.kangwon.university.taxicarpool.party.PartyEntity;
+import edu.kangwon.university.taxicarpool.id.TimeOrderedId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
@@ -16,7 +16,7 @@ import java.util.List;
 public class MemberEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @NotNull
@@ -34,9 +34,6 @@ public class MemberEntity {
     @Enumerated(EnumType.STRING)
     private Gender gender;
 
-    @ManyToMany(mappedBy = "memberEntities")
-    private List<PartyEntity> parties = new ArrayList<>();
-
     @OneToMany(mappedBy = "sender")
     private List<MessageEntity> sentMessages = new ArrayList<>();
 
@@ -84,11 +81,4 @@ public class MemberEntity {
         }
         this.totalSavedAmount += amountToAdd;
     }
-
-    /**
-     * 파티 생성 횟수를 1 증가
-     */
-    public void incrementPartyCreateCount() {
-        this.partyCreateCount++;
-    }
 }
\ No newline at end of file
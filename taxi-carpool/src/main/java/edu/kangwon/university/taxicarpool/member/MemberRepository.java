@@ -1,7 +1,9 @@
 package edu.kangwon.university.taxicarpool.member;
 
+import java.util.Collection;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,4 +19,22 @@ public interface MemberRepository extends JpaRepository<MemberEntity, Long> {
 
     @Query("select m.tokenVersion from MemberEntity m where m.id = :id")
     int findTokenVersionById(@Param("id") Long id);
+
+    /**
+     * 여러 멤버의 누적 절감액을 한 번의 UPDATE로 증가시킵니다.
+     *
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("update MemberEntity m set m.totalSavedAmount = m.totalSavedAmount + :amount where m.id in :ids")
+    int addTotalSavedAmount(@Param("ids") Collection<Long> ids, @Param("amount") long amount);
+
+    /**
+     * 파티 생성 횟수를 엔티티 조회 없이 원자적으로 1 증가시킵니다.
+     *
+     * @return 갱신된 행 수(멤버가 없으면 0)
+     */
+    @Modifying
+    @Query("update MemberEntity m set m.partyCreateCount = m.partyCreateCount + 1 where m.id = :id")
+    int incrementPartyCreateCount(@Param("id") Long id);
 }
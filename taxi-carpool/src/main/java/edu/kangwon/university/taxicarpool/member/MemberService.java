@@ -1,5 +1,6 @@
 package edu.kangwon.university.taxicarpool.member;
 
+import edu.kangwon.university.taxicarpool.archive.PartyMemberArchiveRepository;
 import edu.kangwon.university.taxicarpool.auth.RefreshTokenRepository;
 import edu.kangwon.university.taxicarpool.auth.reset.PasswordResetTokenRepository;
 import edu.kangwon.university.taxicarpool.chatting.MessageRepository;
@@ -11,9 +12,9 @@ import edu.kangwon.university.taxicarpool.member.dto.MemberUpdateDTO;
 import edu.kangwon.university.taxicarpool.member.exception.DuplicatedEmailException;
 import edu.kangwon.university.taxicarpool.member.exception.DuplicatedNicknameException;
 import edu.kangwon.university.taxicarpool.member.exception.MemberNotFoundException;
-import edu.kangwon.university.taxicarpool.party.PartyEntity;
-import java.util.ArrayList;
-import java.util.List;
+import edu.kangwon.university.taxicarpool.party.PartyMemberRepository;
+import edu.kangwon.university.taxicarpool.party.PartyMembershipCache;
+import edu.kangwon.university.taxicarpool.party.PartyService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -30,6 +31,10 @@ public class MemberService {
     private final FcmTokenRepository fcmTokenRepository;
     private final MessageRepository messageRepository;
     private final PasswordResetTokenRepository passwordResetTokenRepository;
+    private final PartyService partyService;
+    private final PartyMemberArchiveRepository partyMemberArchiveRepository;
+    private final PartyMemberRepository partyMemberRepository;
+    private final PartyMembershipCache partyMembershipCache;
 
     /**
      * 회원을 생성합니다.
@@ -96,6 +101,8 @@ public class MemberService {
                     "이미 사용 중인 닉네임입니다: " + updateDTO.getNewNickname());
             }
             existedEntity.setNickname(updateDTO.getNewNickname());
+            // 채팅 경로의 참여 정보 캐시는 닉네임을 담고 있으므로 참여 중인 파티를 무효화
+            partyMembershipCache.invalidateAll(partyMemberRepository.findPartyIdsByMemberId(memberId));
         }
 
         if (updateDTO.getNewPassword() != null && !updateDTO.getNewPassword().isBlank()) {
@@ -122,14 +129,9 @@ public class MemberService {
         MemberEntity member = memberRepository.findById(memberId)
             .orElseThrow(() -> new MemberNotFoundException("회원을 찾을 수 없습니다: " + memberId));
 
-        // ConcurrentModificationException 방지를 위해 리스트 복사 후 순회
-        List<PartyEntity> partiesToLeave = new ArrayList<>(member.getParties());
-        for (PartyEntity party : partiesToLeave) {
-            party.leave(memberId);
-            // @Transactional 환경이므로 partyRepository.save() 호출은 생략 가능 (Dirty Checking)
-        }
-        // Member 엔티티의 컬렉션에서도 명시적으로 제거
-        member.getParties().clear();
+        // 참여 중인 파티에서 퇴장 처리 (party_member 행 삭제, 호스트 승격, 마지막 인원이면 파티 삭제)
+        partyService.leaveAllParties(memberId);
+        partyMemberArchiveRepository.deleteByMemberId(memberId);
 
         messageRepository.setSenderToNullByMember(member);
 
@@ -0,0 +1,62 @@
+package edu.kangwon.university.taxicarpool.outbox;
+
+import edu.kangwon.university.taxicarpool.id.TimeOrderedId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 커밋 이후에 수행할 부수 효과(브로드캐스트, 푸시)를 업무 데이터와 같은 트랜잭션에 기록하는 아웃박스 행입니다.
+ */
+@Entity(name = "outbox_event")
+@Table(name = "outbox_event", indexes = {
+    @Index(name = "idx_outbox_event_status", columnList = "status, outbox_event_id")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEventEntity {
+
+    @Id
+    @TimeOrderedId
+    @Column(name = "outbox_event_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private OutboxEventType type;
+
+    @Column(name = "aggregate_id")
+    private Long aggregateId; // 파티 ID
+
+    @Lob
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    public OutboxEventEntity(OutboxEventType type, Long aggregateId, String payload) {
+        this.type = type;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+    }
+}
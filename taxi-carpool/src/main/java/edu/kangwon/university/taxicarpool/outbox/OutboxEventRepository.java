@@ -0,0 +1,37 @@
+package edu.kangwon.university.taxicarpool.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * 발송 대기 중이거나, 처리 중 상태로 오래 머문(처리하던 인스턴스가 중단된) 이벤트 ID를 오래된 순으로 조회
+     */
+    @Query("SELECT e.id FROM outbox_event e " +
+        "WHERE e.status = 'PENDING' OR (e.status = 'PROCESSING' AND e.claimedAt < :staleBefore) " +
+        "ORDER BY e.id ASC")
+    List<Long> findDispatchableIds(@Param("staleBefore") LocalDateTime staleBefore, Pageable pageable);
+
+    /**
+     * 이벤트를 처리 중 상태로 선점합니다. 여러 인스턴스 중 한 곳만 1을 받습니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE outbox_event e SET e.status = 'PROCESSING', e.claimedAt = :now, e.attempts = e.attempts + 1 " +
+        "WHERE e.id = :id AND (e.status = 'PENDING' OR (e.status = 'PROCESSING' AND e.claimedAt < :staleBefore))")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE outbox_event e SET e.status = :status, e.processedAt = :now WHERE e.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") OutboxStatus status, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,6 @@
+package edu.kangwon.university.taxicarpool.outbox;
+
+public enum OutboxEventType {
+    STOMP_BROADCAST, // 채팅방 구독자에게 WebSocket 브로드캐스트
+    FCM_PUSH         // 멤버들에게 FCM 푸시 발송
+}
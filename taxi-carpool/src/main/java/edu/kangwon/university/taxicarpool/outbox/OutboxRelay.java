@@ -0,0 +1,130 @@
+package edu.kangwon.university.taxicarpool.outbox;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.kangwon.university.taxicarpool.fcm.FcmPushService;
+import edu.kangwon.university.taxicarpool.fcm.dto.PushMessageDTO;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아웃박스 이벤트를 발송합니다.
+ *
+ * <p>커밋 직후 {@link #dispatchAsync(Long)}로 바로 발송하고, 누락/실패분은 주기적으로 다시 조회해 발송합니다.
+ * 이벤트는 조건부 UPDATE로 선점한 인스턴스만 발송하므로 여러 인스턴스가 동시에 같은 이벤트를 보내지는 않으며,
+ * 처리 중 상태로 오래 머문 이벤트는 다른 인스턴스가 다시 가져갑니다.</p>
+ *
+ * <p>전달은 최소 한 번(at-least-once)입니다. 발송 후 SENT로 표시하기 전에 인스턴스가 중단되거나 표시가 실패하면
+ * 같은 이벤트가 다시 발송될 수 있으므로, 모든 메시지에 아웃박스 이벤트 ID를 담아 보냅니다. STOMP는
+ * {@value #EVENT_ID_HEADER} 헤더, FCM은 data의 {@value #EVENT_ID_DATA_KEY} 값으로, 수신 측은 이 값으로
+ * 중복을 걸러야 합니다.</p>
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    static final String EVENT_ID_HEADER = "event-id";
+    static final String EVENT_ID_DATA_KEY = "eventId";
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {};
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final FcmPushService fcmPushService;
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final int maxAttempts;
+    private final long staleSeconds;
+    private final int batchSize;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+        SimpMessagingTemplate messagingTemplate, FcmPushService fcmPushService, ObjectMapper objectMapper,
+        @Qualifier("pushExecutor") Executor executor,
+        @Value("${outbox.relay.max-attempts:5}") int maxAttempts,
+        @Value("${outbox.relay.stale-seconds:60}") long staleSeconds,
+        @Value("${outbox.relay.batch-size:100}") int batchSize) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.fcmPushService = fcmPushService;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.maxAttempts = maxAttempts;
+        this.staleSeconds = staleSeconds;
+        this.batchSize = batchSize;
+    }
+
+    /** 커밋 직후 호출: 요청 스레드를 막지 않고 발송합니다. 실행기가 가득 차면 주기 재처리에 맡깁니다. */
+    public void dispatchAsync(Long eventId) {
+        try {
+            executor.execute(() -> dispatch(eventId));
+        } catch (RejectedExecutionException e) {
+            log.warn("아웃박스 즉시 발송 생략(실행기 포화), 주기 재처리로 발송합니다. eventId={}", eventId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    public void relayPending() {
+        LocalDateTime staleBefore = LocalDateTime.now().minusSeconds(staleSeconds);
+        List<Long> ids = outboxEventRepository.findDispatchableIds(staleBefore, PageRequest.of(0, batchSize));
+        for (Long id : ids) {
+            dispatch(id);
+        }
+    }
+
+    void dispatch(Long eventId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (outboxEventRepository.claim(eventId, now, now.minusSeconds(staleSeconds)) == 0) {
+            return; // 다른 스레드/인스턴스가 처리 중이거나 이미 처리됨
+        }
+        OutboxEventEntity event = outboxEventRepository.findById(eventId).orElse(null);
+        if (event == null) {
+            return;
+        }
+
+        try {
+            Map<String, Object> payload = objectMapper.readValue(event.getPayload(), PAYLOAD_TYPE);
+            switch (event.getType()) {
+                case STOMP_BROADCAST -> messagingTemplate.convertAndSend(
+                    (String) payload.get("destination"), payload.get("body"),
+                    Map.<String, Object>of(EVENT_ID_HEADER, String.valueOf(eventId)));
+                case FCM_PUSH -> fcmPushService.sendPushToUsers(toLongList(payload.get("targetIds")),
+                    toPushMessage(eventId, payload));
+            }
+            outboxEventRepository.updateStatus(eventId, OutboxStatus.SENT, LocalDateTime.now());
+        } catch (Exception e) {
+            OutboxStatus next = (event.getAttempts() >= maxAttempts) ? OutboxStatus.FAILED : OutboxStatus.PENDING;
+            log.warn("아웃박스 이벤트 발송 실패. eventId={}, type={}, 시도={}, 다음 상태={}: {}",
+                eventId, event.getType(), event.getAttempts(), next, e.getMessage());
+            outboxEventRepository.updateStatus(eventId, next, LocalDateTime.now());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private PushMessageDTO toPushMessage(Long eventId, Map<String, Object> payload) {
+        Object data = payload.get("data");
+        Map<String, String> pushData = (data != null) ? new HashMap<>((Map<String, String>) data) : new HashMap<>();
+        pushData.put(EVENT_ID_DATA_KEY, String.valueOf(eventId));
+        return PushMessageDTO.builder()
+            .title((String) payload.get("title"))
+            .body((String) payload.get("body"))
+            .type((String) payload.get("type"))
+            .data(pushData)
+            .build();
+    }
+
+    private List<Long> toLongList(Object value) {
+        return ((List<?>) value).stream()
+            .map(v -> ((Number) v).longValue())
+            .toList();
+    }
+}
@@ -0,0 +1,78 @@
+package edu.kangwon.university.taxicarpool.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.kangwon.university.taxicarpool.fcm.dto.PushMessageDTO;
+import edu.kangwon.university.taxicarpool.transaction.AfterCommit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 부수 효과를 아웃박스에 기록합니다.
+ *
+ * <p>호출한 트랜잭션에 함께 저장되므로 롤백되면 이벤트도 사라지고, 커밋되면 {@link OutboxRelay}가 바로(커밋 후 비동기)
+ * 발송합니다. 즉시 발송이 실패하거나 인스턴스가 중단되어도 주기적인 재처리로 발송됩니다. 전달은 최소 한 번이며,
+ * 다시 발송된 메시지는 수신 측이 이벤트 ID로 걸러야 합니다({@link OutboxRelay} 참고).</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxRelay outboxRelay;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * WebSocket 브로드캐스트를 예약합니다.
+     *
+     * @param partyId 파티 ID
+     * @param destination 구독 경로(예: /sub/party/{partyId})
+     * @param body 전송할 메시지(JSON으로 직렬화 가능한 객체)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueBroadcast(Long partyId, String destination, Object body) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("destination", destination);
+        payload.put("body", body);
+        append(OutboxEventType.STOMP_BROADCAST, partyId, payload);
+    }
+
+    /**
+     * FCM 푸시 발송을 예약합니다. 대상이 없으면 기록하지 않습니다.
+     *
+     * @param partyId 파티 ID
+     * @param targetIds 수신 멤버 ID 목록
+     * @param message 푸시 메시지
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueuePush(Long partyId, List<Long> targetIds, PushMessageDTO message) {
+        if (targetIds == null || targetIds.isEmpty()) {
+            return;
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("targetIds", targetIds);
+        payload.put("title", message.getTitle());
+        payload.put("body", message.getBody());
+        payload.put("type", message.getType());
+        payload.put("data", message.getData());
+        append(OutboxEventType.FCM_PUSH, partyId, payload);
+    }
+
+    private void append(OutboxEventType type, Long partyId, Map<String, Object> payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 이벤트 직렬화 실패: " + type, e);
+        }
+        OutboxEventEntity event = outboxEventRepository.save(new OutboxEventEntity(type, partyId, json));
+
+        Long eventId = event.getId();
+        AfterCommit.run(() -> outboxRelay.dispatchAsync(eventId));
+    }
+}
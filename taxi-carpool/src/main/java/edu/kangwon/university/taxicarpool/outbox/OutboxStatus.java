@@ -0,0 +1,8 @@
+package edu.kangwon.university.taxicarpool.outbox;
+
+public enum OutboxStatus {
+    PENDING,
+    PROCESSING,
+    SENT,
+    FAILED
+}
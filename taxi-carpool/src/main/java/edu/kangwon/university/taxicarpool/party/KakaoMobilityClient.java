@@ -0,0 +1,129 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.kangwon.university.taxicarpool.party.PartyUtil.PartyUtil;
+import edu.kangwon.university.taxicarpool.party.partyException.KakaoApiException;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 카카오 모빌리티 길찾기 API 클라이언트입니다.
+ *
+ * <p>커넥션 풀(keep-alive 재사용)과 연결/응답 타임아웃을 가진 전용 HTTP 클라이언트를 하나만 만들어 재사용하고,
+ * 응답은 문자열로 복사하지 않고 공용 {@link ObjectMapper}로 스트림에서 바로 읽습니다.</p>
+ *
+ * <p>{@code kakao-mobility} 서킷 브레이커와 벌크헤드로 감싸므로, 카카오가 느려지거나 장애가 나도 동시 호출 수가
+ * 제한되고 열린 서킷에서는 즉시 {@link KakaoApiException}으로 실패합니다.</p>
+ */
+@Slf4j
+@Component
+public class KakaoMobilityClient {
+
+    private final String apiKey;
+    private final ObjectMapper objectMapper;
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate restTemplate;
+
+    public KakaoMobilityClient(ObjectMapper objectMapper,
+        @Value("${kakaomobility.api.key}") String apiKey,
+        @Value("${kakaomobility.http.max-connections:50}") int maxConnections,
+        @Value("${kakaomobility.http.connect-timeout-ms:1000}") long connectTimeoutMs,
+        @Value("${kakaomobility.http.read-timeout-ms:3000}") long readTimeoutMs,
+        @Value("${kakaomobility.http.pool-timeout-ms:500}") long poolTimeoutMs) {
+        this.apiKey = apiKey;
+        this.objectMapper = objectMapper;
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxConnections)
+            .setMaxConnPerRoute(maxConnections) // 호출 대상 호스트가 하나뿐
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                .build())
+            .build();
+        this.httpClient = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeoutMs))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .build())
+            .evictIdleConnections(TimeValue.ofSeconds(30))
+            .build();
+        this.restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+    /**
+     * 미래 출발 시각 기준 길찾기로 예상 택시 요금을 조회합니다.
+     *
+     * @param origin 출발지("경도,위도")
+     * @param destination 도착지("경도,위도")
+     * @param departureTime 출발 시각(yyyyMMddHHmm)
+     * @return 예상 택시 요금(원)
+     * @throws edu.kangwon.university.taxicarpool.party.partyException.KakaoApiException
+     *         호출/파싱에 실패했거나 서킷이 열려 있거나 동시 호출 한도를 넘은 경우
+     */
+    @CircuitBreaker(name = "kakao-mobility", fallbackMethod = "fetchTaxiFareFallback")
+    @Bulkhead(name = "kakao-mobility")
+    public long fetchTaxiFare(String origin, String destination, String departureTime) {
+        String url = PartyUtil.buildFutureDirectionsUrl(origin, destination, departureTime);
+        JsonNode root;
+        try {
+            root = restTemplate.execute(url, HttpMethod.GET,
+                request -> {
+                    request.getHeaders().set(HttpHeaders.AUTHORIZATION, "KakaoAK " + apiKey);
+                    request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+                },
+                response -> readBody(response.getBody()));
+        } catch (RestClientException e) {
+            throw new KakaoApiException("카카오 API 호출 실패. URL=" + url, e);
+        }
+        if (root == null || root.isMissingNode()) {
+            throw new KakaoApiException("카카오 API 호출 실패: 응답 본문이 비어있음. URL=" + url);
+        }
+        return PartyUtil.extractTaxiFare(root);
+    }
+
+    public long fetchTaxiFareFallback(String origin, String destination, String departureTime, Throwable t) {
+        if (t instanceof KakaoApiException kakaoApiException) {
+            throw kakaoApiException;
+        }
+        log.warn("카카오 모빌리티 호출 차단({}): {}", t.getClass().getSimpleName(), t.getMessage());
+        throw new KakaoApiException("카카오 모빌리티 API를 일시적으로 사용할 수 없습니다.", t);
+    }
+
+    private JsonNode readBody(InputStream body) throws IOException {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new KakaoApiException("카카오 모빌리티 API 응답 파싱 실패: JSON 변환 불가", e);
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        httpClient.close();
+    }
+}
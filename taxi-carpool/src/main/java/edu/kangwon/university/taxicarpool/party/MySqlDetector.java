@@ -0,0 +1,31 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 연결된 DB가 MySQL인지 확인합니다.
+ *
+ * <p>MySQL 전용 DDL/마이그레이션을 수행하는 기동 초기화기들이 공유합니다. 확인에 실패하면 MySQL이 아닌 것으로 보고
+ * 해당 초기화를 건너뛰게 합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MySqlDetector {
+
+    private final DataSource dataSource;
+
+    public boolean isMySql() {
+        try (Connection connection = dataSource.getConnection()) {
+            return "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            log.warn("DB 종류 확인 실패, MySQL 전용 초기화를 건너뜁니다: {}", e.getMessage());
+            return false;
+        }
+    }
+}
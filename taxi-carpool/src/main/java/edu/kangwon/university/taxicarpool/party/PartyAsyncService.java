@@ -2,34 +2,29 @@ package edu.kangwon.university.taxicarpool.party;
 
 import edu.kangwon.university.taxicarpool.fcm.FcmPushService;
 import edu.kangwon.university.taxicarpool.fcm.dto.PushMessageDTO;
-import edu.kangwon.university.taxicarpool.member.MemberEntity;
-import edu.kangwon.university.taxicarpool.member.MemberRepository;
-import edu.kangwon.university.taxicarpool.member.exception.MemberNotFoundException;
 import edu.kangwon.university.taxicarpool.party.PartyUtil.PartyUtil;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PartyAsyncService {
 
-    @Value("${kakaomobility.api.key}")
-    private String kakaoMobilityApiKey;
-    private final MemberRepository memberRepository;
     private final FcmPushService fcmPushService;
+    private final PartyFareCache partyFareCache;
+    private final KakaoMobilityClient kakaoMobilityClient;
+    private final PartyFareEstimator partyFareEstimator;
 
     /**
-     * [비동기 작업 1] 카카오 API를 호출하여 예상 요금을 가져옵니다.
+     * [비동기 작업 1] 카카오 API를 호출하여 예상 요금을 가져옵니다. 실패하면 거리 기반 추정 요금을 반환합니다.
      */
-    @Async
+    @Async("kakaoHttpExecutor")
     public CompletableFuture<Long> getKakaoFareAsync(PartyEntity partyEntity) {
         log.info("Starting Kakao API call in thread: {}", Thread.currentThread().getName());
         try {
@@ -41,38 +36,20 @@ public class PartyAsyncService {
             LocalDateTime depTime = PartyUtil.ensureFutureDeparture(partyEntity.getStartDateTime());
             String departureTime = PartyUtil.formatDeparture(depTime);
 
-            String url = PartyUtil.buildFutureDirectionsUrl(origin, destination, departureTime);
-            String kakaoBody = PartyUtil.fetchKakaoDirectionsJson(url, kakaoMobilityApiKey);
-            long totalTaxiFare = PartyUtil.extractTaxiFare(kakaoBody);
+            long totalTaxiFare = partyFareCache.getOrLoad(sx, sy, ex, ey, depTime,
+                () -> kakaoMobilityClient.fetchTaxiFare(origin, destination, departureTime));
 
             return CompletableFuture.completedFuture(totalTaxiFare);
         } catch (Exception e) {
-            log.warn("Kakao API call failed", e);
-            return CompletableFuture.completedFuture(0L);
+            log.warn("Kakao API call failed, falling back to offline estimate: {}", e.getMessage());
+            return CompletableFuture.completedFuture(partyFareEstimator.estimate(partyEntity));
         }
     }
 
     /**
-     * [비동기 작업 2] 멤버의 파티 생성 횟수를 증가시킵니다.
+     * [비동기 작업 2] FCM 푸시 알림을 전송합니다. (Fire-and-forget)
      */
-    @Async
-    @Transactional
-    public void updateMemberCountAsync(Long memberId) {
-        log.info("Starting member count update in thread: {}", Thread.currentThread().getName());
-        try {
-            MemberEntity member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new MemberNotFoundException("멤버를 찾을 수 없습니다."));
-            member.incrementPartyCreateCount();
-            memberRepository.save(member);
-        } catch (Exception e) {
-            log.error("Failed to update member count for memberId: {}", memberId, e);
-        }
-    }
-
-    /**
-     * [비동기 작업 3] FCM 푸시 알림을 전송합니다. (Fire-and-forget)
-     */
-    @Async
+    @Async("pushExecutor")
     public void sendFcmNotificationAsync(PartyEntity partyEntity, Long creatorMemberId) {
         log.info("Starting FCM send in thread: {}", Thread.currentThread().getName());
         try {
@@ -1,6 +1,7 @@
 package edu.kangwon.university.taxicarpool.party;
 
 import edu.kangwon.university.taxicarpool.party.dto.PartyCreateRequestDTO;
+import edu.kangwon.university.taxicarpool.party.dto.PartyCursorResponseDTO;
 import edu.kangwon.university.taxicarpool.party.dto.PartyResponseDTO;
 import edu.kangwon.university.taxicarpool.party.dto.PartyUpdateRequestDTO;
 import io.swagger.v3.oas.annotations.Operation;
@@ -88,6 +89,36 @@ public class PartyController {
         return ResponseEntity.ok(partyList);
     }
 
+    @Operation(summary = "파티 리스트 커서 조회", description = "출발 시간 순 파티 목록을 커서 기반으로 조회합니다. 전체 개수는 제공하지 않습니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<PartyCursorResponseDTO> getPartyListByCursor(
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+        @Parameter(description = "페이지 크기 (최소 1)") @RequestParam(defaultValue = "10") @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.") Integer size
+    ) {
+        Long memberId = (Long) SecurityContextHolder
+            .getContext().getAuthentication().getPrincipal();
+        return ResponseEntity.ok(partyService.getPartyListByCursor(memberId, cursor, size));
+    }
+
+    @Operation(summary = "커스텀 파티 커서 조회", description = "위치·시간 필터 적용 조회를 커서 기반으로 수행합니다. 전체 개수는 제공하지 않습니다.")
+    @GetMapping("/custom/cursor")
+    public ResponseEntity<PartyCursorResponseDTO> getCustomPartyListByCursor(
+        @Parameter(description = "출발지 경도") @RequestParam(required = false) Double userDepartureLng,
+        @Parameter(description = "출발지 위도") @RequestParam(required = false) Double userDepartureLat,
+        @Parameter(description = "도착지 경도") @RequestParam(required = false) Double userDestinationLng,
+        @Parameter(description = "도착지 위도") @RequestParam(required = false) Double userDestinationLat,
+        @Parameter(description = "출발 시간 (ISO 날짜시간)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime userDepartureTime,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+        @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.") Integer size
+    ) {
+        Long memberId = (Long) SecurityContextHolder
+            .getContext().getAuthentication().getPrincipal();
+        return ResponseEntity.ok(partyService.getCustomPartyListByCursor(memberId,
+            userDepartureLng, userDepartureLat,
+            userDestinationLng, userDestinationLat,
+            userDepartureTime, cursor, size));
+    }
+
     @Operation(summary = "파티 생성", description = "새 카풀방을 만듭니다.")
     @PostMapping
     public ResponseEntity<PartyResponseDTO> createParty(
@@ -1,14 +1,14 @@
 package edu.kangwon.university.taxicarpool.party;
 
 import edu.kangwon.university.taxicarpool.chatting.MessageEntity;
+import edu.kangwon.university.taxicarpool.id.TimeOrderedId;
 import edu.kangwon.university.taxicarpool.map.MapPlace;
 import edu.kangwon.university.taxicarpool.member.Gender;
 import edu.kangwon.university.taxicarpool.member.MemberEntity;
-import edu.kangwon.university.taxicarpool.party.partyException.MemberAlreadyInPartyException;
-import edu.kangwon.university.taxicarpool.party.partyException.MemberNotInPartyException;
 import edu.kangwon.university.taxicarpool.party.partyException.PartyAlreadyDeletedException;
 import edu.kangwon.university.taxicarpool.party.partyException.PartyFullException;
 import edu.kangwon.university.taxicarpool.party.partyException.PartyGenderMismatchException;
+import edu.kangwon.university.taxicarpool.party.partyException.PartyNotRecruitingException;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -31,7 +31,7 @@ import java.util.List;
 public class PartyEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     @Column(name = "party_id")
     private Long id;
 
@@ -44,17 +44,7 @@ public class PartyEntity {
     @Column(name = "is_deleted")
     private boolean isDeleted;
 
-    @ManyToMany
-    @JoinTable(
-        name = "party_member",
-        joinColumns = @JoinColumn(name = "party_id"),
-        inverseJoinColumns = @JoinColumn(name = "member_id"),
-        indexes = {
-            @Index(name = "idx_party_member_member_id", columnList = "member_id"),
-            @Index(name = "idx_party_member_party_id", columnList = "party_id")
-        }
-    )
-    private List<MemberEntity> memberEntities = new ArrayList<>();
+    // 참여 멤버는 PartyMemberEntity(party_member)로 관리합니다.
 
     @Column(name = "host_id")
     private Long hostMemberId;
@@ -88,6 +78,8 @@ public class PartyEntity {
     @Column(name = "last_modified_at")
     private LocalDateTime lastModifiedAt;
 
+    // start_point / end_point(SRID 4326 POINT, 공간 인덱스)는 경도/위도 컬럼에서 생성되는 DB 컬럼으로,
+    // PartySpatialIndexInitializer가 관리하며 엔티티에는 매핑하지 않습니다.
     @Embedded
     @AttributeOverrides({
         @AttributeOverride(name = "name", column = @Column(name = "start_location")),
@@ -118,6 +110,11 @@ public class PartyEntity {
     @Column(name = "estimated_fare")
     private Long estimatedFare;
 
+    // 기존 행은 null이며 RECRUITING으로 취급
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private PartyStatus status = PartyStatus.RECRUITING;
+
     public PartyEntity(
         Long hostMemberId,
         PartyOption options,
@@ -185,47 +182,49 @@ public class PartyEntity {
         return this;
     }
 
-    public void join(MemberEntity member) {
+    /**
+     * 참여 가능 여부를 검증하고 인원 수를 늘린 뒤, 저장할 참여 정보를 반환합니다.
+     * 이미 참여했는지 여부는 서비스에서 단일 행 존재 여부로 확인합니다.
+     *
+     * @param hostGender 동성 전용 파티인 경우 호스트의 성별, 아니면 null
+     */
+    public PartyMemberEntity join(MemberEntity member, Gender hostGender) {
         if (this.isDeleted) {
             throw new PartyAlreadyDeletedException("이미 삭제된 파티입니다.");
         }
-        Long memberId = member.getId();
-        boolean alreadyIn = this.memberEntities.stream().anyMatch(m -> m.getId().equals(memberId));
-        if (alreadyIn) {
-            throw new MemberAlreadyInPartyException("이미 이 파티에 참여한 멤버입니다.");
+        if (!isRecruiting()) {
+            throw new PartyNotRecruitingException("모집이 끝난 파티입니다.");
         }
         if (this.currentParticipantCount >= this.maxParticipantCount) {
             throw new PartyFullException("현재 파티의 참여 인원수가 가득찼습니다.");
         }
 
-        if (this.options != null && this.options.isSameGenderOnly()) {
-            if (!this.memberEntities.isEmpty()) {
-                MemberEntity hostMember = this.memberEntities.stream()
-                    .filter(m -> m.getId().equals(this.hostMemberId))
-                    .findFirst()
-                    .orElseThrow(() -> new MemberNotInPartyException("데이터 오류: 파티 내에 호스트 정보가 없습니다."));
-
-                if (hostMember.getGender() != member.getGender()) {
-                    String genderText = (hostMember.getGender() == Gender.MALE) ? "남성" : "여성";
-                    throw new PartyGenderMismatchException(genderText + "만 참여할 수 있는 카풀방입니다.");
-                }
+        if (this.options != null && this.options.isSameGenderOnly() && hostGender != null) {
+            if (hostGender != member.getGender()) {
+                String genderText = (hostGender == Gender.MALE) ? "남성" : "여성";
+                throw new PartyGenderMismatchException(genderText + "만 참여할 수 있는 카풀방입니다.");
             }
         }
 
-        this.memberEntities.add(member);
-        member.getParties().add(this);
-        this.currentParticipantCount = this.memberEntities.size();
+        this.currentParticipantCount++;
+        return new PartyMemberEntity(this, member, PartyMemberRole.MEMBER);
     }
 
-    public void leave(Long memberId) {
-        boolean removed = this.memberEntities.removeIf(m -> m.getId().equals(memberId));
-        if (!removed) {
-            throw new MemberNotInPartyException("이 멤버는 해당 파티에 속해있지 않습니다.");
-        }
+    /** 모집 중인지 여부입니다. 상태가 없는 기존 행은 모집 중으로 취급합니다. */
+    public boolean isRecruiting() {
+        return this.status == null || this.status == PartyStatus.RECRUITING;
+    }
 
+    /**
+     * 참여 행 삭제 후 인원 수와 호스트를 갱신합니다.
+     *
+     * @param memberId 퇴장한 멤버 ID
+     * @param nextHostId 호스트가 퇴장한 경우 승격할 멤버 ID(남은 멤버 중 가장 먼저 참여한 멤버)
+     */
+    public void leave(Long memberId, Long nextHostId) {
         boolean hostLeaving = (this.hostMemberId != null && this.hostMemberId.equals(memberId));
 
-        this.currentParticipantCount = this.memberEntities.size();
+        this.currentParticipantCount = Math.max(0, this.currentParticipantCount - 1);
 
         // 마지막 멤버가 나가면 소프트 삭제
         if (this.currentParticipantCount == 0) {
@@ -234,9 +233,8 @@ public class PartyEntity {
         }
 
         // 호스트가 나갔으면 첫 번째 남은 멤버를 호스트로 승격
-        if (hostLeaving) {
-            MemberEntity nextHost = this.memberEntities.get(0);
-            this.hostMemberId = nextHost.getId();
+        if (hostLeaving && nextHostId != null) {
+            this.hostMemberId = nextHostId;
         }
     }
 
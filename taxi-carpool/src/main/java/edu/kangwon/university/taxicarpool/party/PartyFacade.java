@@ -10,49 +10,123 @@ import edu.kangwon.university.taxicarpool.party.partyException.PartyFullExceptio
 import edu.kangwon.university.taxicarpool.party.partyException.PartyGenderMismatchException;
 import edu.kangwon.university.taxicarpool.party.partyException.PartyLockInterruptedException;
 import edu.kangwon.university.taxicarpool.party.partyException.PartyNotFoundException;
+import edu.kangwon.university.taxicarpool.party.partyException.PartyNotRecruitingException;
 import edu.kangwon.university.taxicarpool.party.partyException.PartyServiceUnavailableException;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import java.time.LocalTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PartyFacade {
 
+    private static final int LOCAL_LOCK_STRIPES = 64;
+    private static final long LOCK_WAIT_SECONDS = 5;
+    private static final long LOCK_LEASE_SECONDS = 10;
+
     private final RedissonClient redissonClient;
     private final PartyService partyService;
+    private final PartySeatGate partySeatGate;
+
+    private final PartyJoinContentionTracker contentionTracker;
+    private final PartyJoinBatcher partyJoinBatcher;
+
+    /** 파티별 참여 요청 일괄 처리(단일 작성자 큐) 사용 여부 */
+    @Value("${party.join.batching.enabled:false}")
+    private boolean batchingEnabled;
+
+    /**
+     * 참여 동시성 제어 방식: atomic(조건부 UPDATE로 좌석 확보, 락 없음) 또는
+     * adaptive(파티별 경합도에 따라 경합 파티만 Redis 락, 나머지는 낙관적 락)
+     */
+    @Value("${party.join.strategy:adaptive}")
+    private String joinStrategy;
+
+    // 파티 ID 기준 로컬 스트라이프 락 (공정 락: 먼저 온 요청이 먼저 Redis 락을 시도)
+    private final ReentrantLock[] localLockStripes = createStripes();
 
     @CircuitBreaker(name = "redis-circuit", fallbackMethod = "joinPartyFailFast")
     public PartyResponseDTO joinParty(Long partyId, Long memberId) {
-        LocalTime now = LocalTime.now();
-        LocalTime startHighTraffic = LocalTime.of(8, 0);
-        LocalTime endHighTraffic = LocalTime.of(20, 0);
+        // Redis 좌석 게이트에서 정원 초과/중복 참여를 먼저 거절하고, 선점한 요청만 DB로 진행
+        PartySeatGate.Reservation reservation = partySeatGate.tryReserve(partyId, memberId);
+        if (reservation == PartySeatGate.Reservation.FULL) {
+            throw new PartyFullException("현재 파티의 참여 인원수가 가득찼습니다.");
+        }
+        if (reservation == PartySeatGate.Reservation.DUPLICATE) {
+            throw new MemberAlreadyInPartyException("이미 이 파티에 참여한 멤버입니다.");
+        }
 
-        if (!now.isBefore(startHighTraffic) && now.isBefore(endHighTraffic)) {
-            log.debug("🚦 [Redis 락 발동] 현재 시간: {}", now);
-            return executeWithRedisLock(partyId, memberId);
+        try {
+            PartyResponseDTO response = join(partyId, memberId);
+            if (reservation == PartySeatGate.Reservation.RESERVED) {
+                partySeatGate.confirm(partyId, memberId);
+            }
+            return response;
+        } catch (RuntimeException e) {
+            if (reservation == PartySeatGate.Reservation.RESERVED) {
+                partySeatGate.release(partyId, memberId);
+            }
+            throw e;
+        }
+    }
+
+    private PartyResponseDTO join(Long partyId, Long memberId) {
+        if (batchingEnabled) {
+            return awaitBatchedJoin(partyId, memberId);
         }
-        else {
-            log.debug("🚦 [낙관적 락 발동] 현재 시간: {}", now);
-            return executeWithOptimisticLock(partyId, memberId);
+        if ("atomic".equalsIgnoreCase(joinStrategy)) {
+            return partyService.joinPartyAtomic(partyId, memberId);
         }
 
+        contentionTracker.recordAttempt(partyId);
+        if (contentionTracker.isContended(partyId)) {
+            log.debug("🚦 [Redis 락 발동] 경합 파티: {}", partyId);
+            return executeWithRedisLock(partyId, memberId);
+        }
+        log.debug("🚦 [낙관적 락 발동] 파티: {}", partyId);
+        return executeWithOptimisticLock(partyId, memberId);
+    }
+
+    /**
+     * 파티별 단일 작성자 큐에 참여 요청을 넣고 결과를 기다립니다. 작성자가 던진 예외는 그대로 다시 던집니다.
+     *
+     * <p>분산 락 대기와 같은 시간(5초)까지 작성자가 요청을 가져가지 않으면 취소하고 거절하며, 이미 처리 중인
+     * 요청은 결과를 끝까지 기다립니다(참여가 커밋됐는데 거절로 응답하고 좌석을 반납하지 않도록).</p>
+     */
+    private PartyResponseDTO awaitBatchedJoin(Long partyId, Long memberId) {
+        return partyJoinBatcher.join(partyId, memberId, LOCK_WAIT_SECONDS, TimeUnit.SECONDS);
     }
 
+    /**
+     * 같은 인스턴스의 동시 요청은 로컬 스트라이프 락에서 먼저 직렬화하고, 로컬 락을 잡은 요청 하나만
+     * Redisson 분산 락을 시도합니다. 대기 시간(5초)은 두 단계가 나누어 씁니다.
+     */
     private PartyResponseDTO executeWithRedisLock(Long partyId, Long memberId) {
         final String lockKey = "party:join:" + partyId;
-        RLock lock = redissonClient.getFairLock(lockKey);
+        ReentrantLock localLock = localLockStripes[Math.floorMod(Long.hashCode(partyId), LOCAL_LOCK_STRIPES)];
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(LOCK_WAIT_SECONDS);
+        boolean localLocked = false;
+        RLock lock = null;
 
         try {
-            boolean isLocked = lock.tryLock(5, 10, TimeUnit.SECONDS);
+            localLocked = localLock.tryLock(LOCK_WAIT_SECONDS, TimeUnit.SECONDS);
+            if (!localLocked) {
+                throw new PartyFullException("현재 파티 참여 요청이 많습니다. 잠시 후에 시도해주세요.");
+            }
+
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            lock = redissonClient.getFairLock(lockKey);
+            boolean isLocked = remainingMillis > 0
+                && lock.tryLock(remainingMillis, TimeUnit.SECONDS.toMillis(LOCK_LEASE_SECONDS), TimeUnit.MILLISECONDS);
 
             if (!isLocked) {
                 throw new PartyFullException("현재 파티 참여 요청이 많습니다. 잠시 후에 시도해주세요.");
@@ -66,6 +140,9 @@ public class PartyFacade {
             if (lock != null && lock.isLocked() && lock.isHeldByCurrentThread()) {
                 lock.unlock();
             }
+            if (localLocked) {
+                localLock.unlock();
+            }
         }
     }
 
@@ -78,6 +155,12 @@ public class PartyFacade {
 
             } catch (ObjectOptimisticLockingFailureException e) {
                 log.warn("🔄 낙관적 락 충돌 발생! 재시도 중... (시도 횟수: {}/{})", i + 1, maxRetries);
+                contentionTracker.recordConflict(partyId);
+
+                // 충돌로 경합 파티가 되었으면 남은 재시도 대신 분산 락으로 전환
+                if (contentionTracker.isContended(partyId)) {
+                    return executeWithRedisLock(partyId, memberId);
+                }
 
                 if (i == maxRetries - 1) {
                     throw new PartyFullException("현재 파티 참여 요청이 많습니다. 잠시 후에 시도해주세요.");
@@ -93,6 +176,14 @@ public class PartyFacade {
         return null;
     }
 
+    private static ReentrantLock[] createStripes() {
+        ReentrantLock[] stripes = new ReentrantLock[LOCAL_LOCK_STRIPES];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock(true);
+        }
+        return stripes;
+    }
+
     public PartyResponseDTO joinPartyFailFast(Long partyId, Long memberId, Throwable t) {
 
         if (t instanceof CallNotPermittedException) {
@@ -102,6 +193,7 @@ public class PartyFacade {
 
         if (t instanceof PartyGenderMismatchException ||
             t instanceof PartyFullException ||
+            t instanceof PartyNotRecruitingException ||
             t instanceof MemberAlreadyInPartyException ||
             t instanceof PartyNotFoundException ||
             t instanceof PartyAlreadyDeletedException ||
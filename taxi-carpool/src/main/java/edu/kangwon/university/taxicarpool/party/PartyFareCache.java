@@ -0,0 +1,163 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카카오 예상 택시 요금 캐시입니다.
+ *
+ * <p>출발/도착 좌표를 격자 셀로 반올림하고, 출발 시각을 평일/주말 + 시간대 구간으로 묶어 키를 만듭니다.
+ * 기숙사 → 역/터미널처럼 자주 반복되는 경로는 외부 API를 다시 호출하지 않고 같은 셀의 요금을 재사용합니다.</p>
+ *
+ * <p>로컬 캐시는 TTL이 있는 LRU이며, {@code party.fare.cache.redis-enabled}가 켜져 있으면 Redis를 2차 캐시로 두어
+ * 여러 인스턴스가 조회 결과를 공유합니다. Redis 장애 시에는 로컬 캐시와 원본 조회만 사용합니다.
+ * 조회에 실패한 요금(0 이하)은 저장하지 않습니다.</p>
+ */
+@Slf4j
+@Component
+public class PartyFareCache {
+
+    private static final String KEY_PREFIX = "party:fare:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean enabled;
+    private final boolean redisEnabled;
+    private final double cellDegrees;
+    private final int bucketMinutes;
+    private final long ttlMillis;
+    private final Map<String, CachedFare> local;
+
+    public PartyFareCache(RedisTemplate<String, String> redisTemplate,
+        @Value("${party.fare.cache.enabled:true}") boolean enabled,
+        @Value("${party.fare.cache.redis-enabled:false}") boolean redisEnabled,
+        @Value("${party.fare.cache.cell-degrees:0.002}") double cellDegrees,
+        @Value("${party.fare.cache.bucket-minutes:30}") int bucketMinutes,
+        @Value("${party.fare.cache.ttl-seconds:21600}") long ttlSeconds,
+        @Value("${party.fare.cache.max-entries:10000}") int maxEntries) {
+        if (cellDegrees <= 0 || bucketMinutes <= 0 || maxEntries <= 0) {
+            throw new IllegalArgumentException("party.fare.cache 설정값은 0보다 커야 합니다.");
+        }
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.redisEnabled = redisEnabled;
+        this.cellDegrees = cellDegrees;
+        this.bucketMinutes = bucketMinutes;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.local = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedFare> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 요금을 반환하고, 없으면 {@code loader}로 조회한 뒤 저장합니다.
+     *
+     * @param sx 출발지 경도
+     * @param sy 출발지 위도
+     * @param ex 도착지 경도
+     * @param ey 도착지 위도
+     * @param departure 출발 시각
+     * @param loader 캐시 미스 시 요금을 조회하는 함수(외부 API 호출)
+     * @return 예상 택시 요금
+     */
+    public long getOrLoad(double sx, double sy, double ex, double ey, LocalDateTime departure, LongSupplier loader) {
+        if (!enabled) {
+            return loader.getAsLong();
+        }
+        String key = toKey(sx, sy, ex, ey, departure);
+
+        Long cached = getLocal(key);
+        if (cached == null) {
+            cached = getRemote(key);
+            if (cached != null) {
+                putLocal(key, cached);
+            }
+        }
+        if (cached != null) {
+            return cached;
+        }
+
+        long fare = loader.getAsLong();
+        if (fare > 0) {
+            putLocal(key, fare);
+            putRemote(key, fare);
+        }
+        return fare;
+    }
+
+    String toKey(double sx, double sy, double ex, double ey, LocalDateTime departure) {
+        DayOfWeek day = departure.getDayOfWeek();
+        char dayType = (day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY) ? 'E' : 'W';
+        int slot = (departure.getHour() * 60 + departure.getMinute()) / bucketMinutes;
+        return KEY_PREFIX + cell(sx) + ":" + cell(sy) + ":" + cell(ex) + ":" + cell(ey) + ":" + dayType + slot;
+    }
+
+    private long cell(double coordinate) {
+        return Math.round(coordinate / cellDegrees);
+    }
+
+    private Long getLocal(String key) {
+        synchronized (local) {
+            CachedFare entry = local.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt < System.currentTimeMillis()) {
+                local.remove(key);
+                return null;
+            }
+            return entry.fare;
+        }
+    }
+
+    private void putLocal(String key, long fare) {
+        synchronized (local) {
+            local.put(key, new CachedFare(fare, System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    private Long getRemote(String key) {
+        if (!redisEnabled) {
+            return null;
+        }
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            return (value != null) ? Long.valueOf(value) : null;
+        } catch (Exception e) {
+            log.warn("요금 캐시 Redis 조회 실패, 원본 조회로 진행합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRemote(String key, long fare) {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(key, String.valueOf(fare), Duration.ofMillis(ttlMillis));
+        } catch (Exception e) {
+            log.warn("요금 캐시 Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private static final class CachedFare {
+
+        private final long fare;
+        private final long expiresAt;
+
+        private CachedFare(long fare, long expiresAt) {
+            this.fare = fare;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
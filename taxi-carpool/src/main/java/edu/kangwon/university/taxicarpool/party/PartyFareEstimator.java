@@ -0,0 +1,120 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import edu.kangwon.university.taxicarpool.party.PartyUtil.PartyUtil;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 API 없이 거리 기반으로 택시 요금을 추정합니다.
+ *
+ * <p>출발/도착 좌표의 대원 거리에 도로 보정 계수를 곱해 주행 거리를 구하고, 지역 택시 요금표(기본요금/기본거리,
+ * 거리·시간 병산 단위, 심야 할증)를 적용합니다. 시간 요금은 전체 주행 시간 중 저속(정체) 구간 비율만큼 부과합니다.
+ * 카카오 길찾기가 느리거나 장애일 때의 대체값으로 쓰며, 설정에 따라 파티 생성 시 미리보기 요금의 기본 추정기로 씁니다.</p>
+ */
+@Slf4j
+@Component
+public class PartyFareEstimator {
+
+    private final boolean primary;
+    private final double roadFactor;
+    private final long baseFare;
+    private final double baseDistanceMeters;
+    private final double distanceUnitMeters;
+    private final double timeUnitSeconds;
+    private final long unitFare;
+    private final double averageSpeedKmh;
+    private final double slowRatio;
+    private final double lateNightSurchargeRate;
+    private final int lateNightStartHour;
+    private final int lateNightEndHour;
+
+    public PartyFareEstimator(
+        @Value("${party.fare.estimator.primary:false}") boolean primary,
+        @Value("${party.fare.estimator.road-factor:1.3}") double roadFactor,
+        @Value("${party.fare.estimator.base-fare:4000}") long baseFare,
+        @Value("${party.fare.estimator.base-distance-meters:2000}") double baseDistanceMeters,
+        @Value("${party.fare.estimator.distance-unit-meters:140}") double distanceUnitMeters,
+        @Value("${party.fare.estimator.time-unit-seconds:34}") double timeUnitSeconds,
+        @Value("${party.fare.estimator.unit-fare:100}") long unitFare,
+        @Value("${party.fare.estimator.average-speed-kmh:30}") double averageSpeedKmh,
+        @Value("${party.fare.estimator.slow-ratio:0.1}") double slowRatio,
+        @Value("${party.fare.estimator.late-night-surcharge-rate:0.2}") double lateNightSurchargeRate,
+        @Value("${party.fare.estimator.late-night-start-hour:22}") int lateNightStartHour,
+        @Value("${party.fare.estimator.late-night-end-hour:4}") int lateNightEndHour) {
+        if (distanceUnitMeters <= 0 || timeUnitSeconds <= 0 || averageSpeedKmh <= 0) {
+            throw new IllegalArgumentException("party.fare.estimator 단위 거리/시간/평균 속도는 0보다 커야 합니다.");
+        }
+        this.primary = primary;
+        this.roadFactor = roadFactor;
+        this.baseFare = baseFare;
+        this.baseDistanceMeters = baseDistanceMeters;
+        this.distanceUnitMeters = distanceUnitMeters;
+        this.timeUnitSeconds = timeUnitSeconds;
+        this.unitFare = unitFare;
+        this.averageSpeedKmh = averageSpeedKmh;
+        this.slowRatio = slowRatio;
+        this.lateNightSurchargeRate = lateNightSurchargeRate;
+        this.lateNightStartHour = lateNightStartHour;
+        this.lateNightEndHour = lateNightEndHour;
+    }
+
+    /** 파티 생성 시 미리보기 요금을 카카오 대신 이 추정기로 계산할지 여부 */
+    public boolean isPrimary() {
+        return primary;
+    }
+
+    /**
+     * 파티의 출발/도착 좌표와 출발 시각으로 요금을 추정합니다.
+     *
+     * @param party 대상 파티
+     * @return 추정 요금(원), 좌표가 없거나 유효하지 않으면 0
+     */
+    public long estimate(PartyEntity party) {
+        try {
+            double[] coords = PartyUtil.getValidatedCoords(party);
+            LocalDateTime depTime = PartyUtil.ensureFutureDeparture(party.getStartDateTime());
+            return estimate(coords[0], coords[1], coords[2], coords[3], depTime);
+        } catch (IllegalArgumentException e) {
+            log.debug("요금 추정 불가. partyId={}: {}", party.getId(), e.getMessage());
+            return 0L;
+        }
+    }
+
+    /**
+     * 좌표와 출발 시각으로 요금을 추정합니다.
+     *
+     * @param sx 출발지 경도
+     * @param sy 출발지 위도
+     * @param ex 도착지 경도
+     * @param ey 도착지 위도
+     * @param departure 출발 시각(심야 할증 판단)
+     * @return 추정 요금(원, 100원 단위)
+     */
+    public long estimate(double sx, double sy, double ex, double ey, LocalDateTime departure) {
+        double roadMeters = PartyUtil.distanceMeters(sx, sy, ex, ey) * roadFactor;
+        double travelSeconds = roadMeters / (averageSpeedKmh * 1000 / 3600);
+
+        // 저속 구간은 거리 대신 시간으로 병산
+        double movingMeters = roadMeters * (1 - slowRatio);
+        double slowSeconds = travelSeconds * slowRatio;
+
+        long units = (long) Math.ceil(Math.max(0, movingMeters - baseDistanceMeters) / distanceUnitMeters)
+            + (long) Math.floor(slowSeconds / timeUnitSeconds);
+        double fare = baseFare + units * unitFare;
+
+        if (isLateNight(departure)) {
+            fare *= 1 + lateNightSurchargeRate;
+        }
+        return Math.round(fare / 100.0) * 100;
+    }
+
+    private boolean isLateNight(LocalDateTime departure) {
+        int hour = departure.getHour();
+        if (lateNightStartHour <= lateNightEndHour) {
+            return hour >= lateNightStartHour && hour < lateNightEndHour;
+        }
+        return hour >= lateNightStartHour || hour < lateNightEndHour;
+    }
+}
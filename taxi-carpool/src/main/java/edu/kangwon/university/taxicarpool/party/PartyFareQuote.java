@@ -0,0 +1,19 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 정산에 사용할 택시 요금과 그 출처입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PartyFareQuote {
+
+    public static final String SOURCE_KAKAO = "KAKAO";
+    public static final String SOURCE_STORED = "STORED";       // 생성 시 저장된 예상 요금
+    public static final String SOURCE_ESTIMATED = "ESTIMATED"; // 거리 기반 추정 요금
+
+    private final long fare;
+    private final String source;
+}
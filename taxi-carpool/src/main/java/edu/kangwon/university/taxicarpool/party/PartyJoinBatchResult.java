@@ -0,0 +1,18 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import edu.kangwon.university.taxicarpool.party.dto.PartyResponseDTO;
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일괄 참여 처리 결과입니다. 참여에 성공한 멤버는 모두 같은 파티 응답을 받고,
+ * 거절된 멤버는 단건 참여와 같은 예외를 받습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PartyJoinBatchResult {
+
+    private final PartyResponseDTO response; // 처리 후 파티 상태(모두 거절되면 null)
+    private final Map<Long, RuntimeException> rejections;
+}
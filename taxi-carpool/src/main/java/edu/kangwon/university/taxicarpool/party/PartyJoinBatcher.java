@@ -0,0 +1,260 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import edu.kangwon.university.taxicarpool.party.dto.PartyResponseDTO;
+import edu.kangwon.university.taxicarpool.party.partyException.MemberAlreadyInPartyException;
+import edu.kangwon.university.taxicarpool.party.partyException.PartyFullException;
+import edu.kangwon.university.taxicarpool.party.partyException.PartyLockInterruptedException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파티별 참여 요청 큐와 단일 작성자(writer)입니다.
+ *
+ * <p>요청은 파티별 큐에 쌓이고, 파티마다 한 번에 하나의 작성자만 큐를 비워
+ * {@link PartyService#joinPartyBatch(Long, List)}로 한 트랜잭션에 처리합니다. 작성자는 짧게 기다려
+ * ({@code party.join.batching.linger-ms}) 몰린 요청을 모은 뒤 처리하며, 각 호출자는 자신의 결과를
+ * {@link CompletableFuture}로 받습니다.</p>
+ *
+ * <p>작성자는 요청을 일괄 처리에 넣기 전에 선점(claim)하고, 기다리다 포기하는 호출자는 선점되지 않은 요청만
+ * 취소할 수 있습니다. 따라서 처리 중인 요청은 취소되지 않고 호출자가 결과를 끝까지 받습니다. 다른 경로의 참여와
+ * 버전이 충돌하면 일괄 처리를 새 트랜잭션으로 다시 시도합니다.</p>
+ */
+@Slf4j
+@Component
+public class PartyJoinBatcher {
+
+    private static final int MAX_BATCH_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 50;
+
+    private final PartyService partyService;
+    private final Executor executor;
+    private final long lingerMillis;
+    private final Map<Long, PartyQueue> queues = new ConcurrentHashMap<>();
+
+    public PartyJoinBatcher(PartyService partyService,
+        @Qualifier("dbTaskExecutor") Executor executor,
+        @Value("${party.join.batching.linger-ms:20}") long lingerMillis) {
+        this.partyService = partyService;
+        this.executor = executor;
+        this.lingerMillis = lingerMillis;
+    }
+
+    public CompletableFuture<PartyResponseDTO> submit(Long partyId, Long memberId) {
+        return enqueue(partyId, memberId).getFuture();
+    }
+
+    /**
+     * 참여 요청을 넣고 최대 {@code timeout}까지 결과를 기다립니다.
+     *
+     * <p>그때까지 작성자가 요청을 가져가지 않았으면 취소하고 {@link PartyFullException}을 던집니다. 이미 작성자가
+     * 처리 중이면 취소하지 않고 그 결과(참여 성공 또는 거절 예외)를 끝까지 기다립니다.</p>
+     */
+    public PartyResponseDTO join(Long partyId, Long memberId, long timeout, TimeUnit unit) {
+        JoinRequest request = enqueue(partyId, memberId);
+        try {
+            return request.getFuture().get(timeout, unit);
+        } catch (TimeoutException e) {
+            if (request.abandon()) {
+                throw new PartyFullException("현재 파티 참여 요청이 많습니다. 잠시 후에 시도해주세요.");
+            }
+            return awaitClaimed(request);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (request.abandon()) {
+                throw new PartyLockInterruptedException("서버 처리 중 지연이 발생했습니다. 잠시 후 다시 시도해주세요.", e);
+            }
+            return awaitClaimed(request);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    // 작성자가 이미 가져간 요청: 커밋 여부가 결과에 반영되므로 끝까지 기다림
+    private PartyResponseDTO awaitClaimed(JoinRequest request) {
+        try {
+            return request.getFuture().join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private RuntimeException unwrap(Throwable cause) {
+        return (cause instanceof RuntimeException runtime) ? runtime : new IllegalStateException(cause);
+    }
+
+    private JoinRequest enqueue(Long partyId, Long memberId) {
+        JoinRequest request = new JoinRequest(memberId, new CompletableFuture<>());
+        // 큐 제거(removeIfIdle)와 같은 키 잠금 안에서 넣으므로, 제거되는 큐에 요청이 들어가지 않음
+        PartyQueue queue = queues.compute(partyId, (id, existing) -> {
+            PartyQueue target = existing != null ? existing : new PartyQueue();
+            target.requests.add(request);
+            return target;
+        });
+        scheduleDrain(partyId, queue);
+        return request;
+    }
+
+    private void scheduleDrain(Long partyId, PartyQueue queue) {
+        if (queue.draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> drain(partyId, queue));
+            } catch (RuntimeException e) {
+                // 실행기가 거절하면(종료 중 등) 대기 중인 요청을 실패시키고 다음 요청이 작성자를 다시 띄울 수 있게 함
+                log.warn("파티 참여 작성자 실행 실패. partyId={}: {}", partyId, e.getMessage());
+                queue.draining.set(false);
+                failPending(queue, e);
+                removeIfIdle(partyId, queue);
+            }
+        }
+    }
+
+    private void drain(Long partyId, PartyQueue queue) {
+        try {
+            if (lingerMillis > 0) {
+                Thread.sleep(lingerMillis);
+            }
+            List<JoinRequest> batch = new ArrayList<>();
+            JoinRequest next;
+            while ((next = queue.requests.poll()) != null) {
+                // 호출자가 기다리다 포기한(시간 초과/취소) 요청은 처리하지 않음. 선점한 요청은 더 이상 취소되지 않음
+                if (!next.getFuture().isDone() && next.claim()) {
+                    batch.add(next);
+                }
+            }
+            if (!batch.isEmpty()) {
+                process(partyId, batch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            queue.draining.set(false);
+            // 작성자 종료 직전에 들어온 요청이 남아 있으면 다시 작성자를 띄움
+            if (!removeIfIdle(partyId, queue)) {
+                scheduleDrain(partyId, queue);
+            }
+        }
+    }
+
+    /**
+     * 큐가 비어 있으면 submit과 같은 키 잠금 안에서 제거합니다. 비어 있지 않으면 남겨 두고 false를 반환합니다.
+     */
+    private boolean removeIfIdle(Long partyId, PartyQueue queue) {
+        boolean[] removed = {false};
+        queues.computeIfPresent(partyId, (id, current) -> {
+            if (current == queue && queue.requests.isEmpty()) {
+                removed[0] = true;
+                return null;
+            }
+            return current;
+        });
+        return removed[0] || queues.get(partyId) != queue;
+    }
+
+    private void failPending(PartyQueue queue, RuntimeException cause) {
+        JoinRequest pending;
+        while ((pending = queue.requests.poll()) != null) {
+            pending.getFuture().completeExceptionally(cause);
+        }
+    }
+
+    private void process(Long partyId, List<JoinRequest> batch) {
+        // 같은 멤버의 중복 요청은 하나로 처리하고 결과를 함께 전달
+        Map<Long, List<JoinRequest>> byMember = new LinkedHashMap<>();
+        for (JoinRequest request : batch) {
+            byMember.computeIfAbsent(request.getMemberId(), id -> new ArrayList<>()).add(request);
+        }
+
+        try {
+            PartyJoinBatchResult result = joinWithRetry(partyId, new ArrayList<>(byMember.keySet()));
+            byMember.forEach((memberId, requests) -> {
+                RuntimeException rejection = result.getRejections().get(memberId);
+                for (int i = 0; i < requests.size(); i++) {
+                    if (rejection == null && i == 0) {
+                        requests.get(i).getFuture().complete(result.getResponse());
+                    } else if (rejection != null) {
+                        requests.get(i).getFuture().completeExceptionally(rejection);
+                    } else {
+                        requests.get(i).getFuture().completeExceptionally(
+                            new MemberAlreadyInPartyException("이미 이 파티에 참여한 멤버입니다."));
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("파티 일괄 참여 처리 실패. partyId={}, 요청 수={}: {}", partyId, batch.size(), e.getMessage());
+            batch.forEach(request -> request.getFuture().completeExceptionally(e));
+        }
+    }
+
+    // 다른 노드/경로의 참여와 버전이 충돌하면 새 트랜잭션으로 다시 시도하고, 끝내 실패하면 혼잡으로 거절
+    private PartyJoinBatchResult joinWithRetry(Long partyId, List<Long> memberIds) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return partyService.joinPartyBatch(partyId, memberIds);
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt == MAX_BATCH_ATTEMPTS) {
+                    throw new PartyFullException("현재 파티 참여 요청이 많습니다. 잠시 후에 시도해주세요.");
+                }
+                log.debug("파티 일괄 참여 버전 충돌, 재시도합니다. partyId={}, 시도={}", partyId, attempt);
+                try {
+                    Thread.sleep(RETRY_BACKOFF_MILLIS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new PartyLockInterruptedException("서버 처리 중 지연이 발생했습니다. 잠시 후 다시 시도해주세요.", ie);
+                }
+            }
+        }
+    }
+
+    private static final class PartyQueue {
+
+        private final Queue<JoinRequest> requests = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class JoinRequest {
+
+        private static final int PENDING = 0;
+        private static final int CLAIMED = 1;
+        private static final int ABANDONED = 2;
+
+        private final Long memberId;
+        private final CompletableFuture<PartyResponseDTO> future;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        /** 작성자가 일괄 처리에 넣기 전에 호출합니다. 호출자가 먼저 포기했으면 false */
+        boolean claim() {
+            return state.compareAndSet(PENDING, CLAIMED);
+        }
+
+        /** 기다리던 호출자가 포기할 때 호출합니다. 작성자가 이미 가져갔으면 false */
+        boolean abandon() {
+            if (state.compareAndSet(PENDING, ABANDONED)) {
+                future.cancel(false);
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파티별 참여 요청 수와 낙관적 락 충돌 수를 슬라이딩 윈도우로 집계하여 경합 여부를 판단합니다.
+ *
+ * <p>윈도우를 여러 버킷으로 나눈 링 버퍼로 관리하며, 윈도우 내 참여 요청 수 또는 충돌 수가 임계값 이상이면
+ * 경합 파티로 보고 한 윈도우 동안 그 상태를 유지합니다(상태가 빠르게 오가지 않도록). 인스턴스 로컬 통계이며,
+ * 오래 요청이 없는 파티는 주기적으로 제거됩니다.</p>
+ */
+@Slf4j
+@Component
+public class PartyJoinContentionTracker {
+
+    private static final int BUCKETS = 10;
+
+    private final long windowMillis;
+    private final long bucketMillis;
+    private final int joinThreshold;
+    private final int conflictThreshold;
+    private final Map<Long, Window> windows = new ConcurrentHashMap<>();
+
+    public PartyJoinContentionTracker(
+        @Value("${party.join.adaptive.window-ms:10000}") long windowMillis,
+        @Value("${party.join.adaptive.join-threshold:20}") int joinThreshold,
+        @Value("${party.join.adaptive.conflict-threshold:3}") int conflictThreshold) {
+        this.windowMillis = windowMillis;
+        this.bucketMillis = Math.max(1, windowMillis / BUCKETS);
+        this.joinThreshold = joinThreshold;
+        this.conflictThreshold = conflictThreshold;
+    }
+
+    public void recordAttempt(Long partyId) {
+        window(partyId).add(System.currentTimeMillis(), 1, 0);
+    }
+
+    public void recordConflict(Long partyId) {
+        window(partyId).add(System.currentTimeMillis(), 0, 1);
+    }
+
+    /** 최근 윈도우에서 참여 요청 또는 충돌이 임계값 이상이었으면 true */
+    public boolean isContended(Long partyId) {
+        Window w = windows.get(partyId);
+        return w != null && w.isContended(System.currentTimeMillis());
+    }
+
+    /** 윈도우 두 개 이상 요청이 없던 파티 통계를 제거합니다. */
+    @Scheduled(fixedDelayString = "${party.join.adaptive.cleanup-ms:60000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        windows.entrySet().removeIf(e -> now - e.getValue().lastTouched > windowMillis * 2);
+    }
+
+    private Window window(Long partyId) {
+        return windows.computeIfAbsent(partyId, Window::new);
+    }
+
+    private final class Window {
+
+        private final Long partyId;
+        private final long[] epochs = new long[BUCKETS];
+        private final int[] joins = new int[BUCKETS];
+        private final int[] conflicts = new int[BUCKETS];
+        private volatile long lastTouched;
+        private long escalatedUntil;
+
+        Window(Long partyId) {
+            this.partyId = partyId;
+        }
+
+        synchronized void add(long now, int join, int conflict) {
+            long epoch = now / bucketMillis;
+            int idx = (int) (epoch % BUCKETS);
+            if (epochs[idx] != epoch) {
+                epochs[idx] = epoch;
+                joins[idx] = 0;
+                conflicts[idx] = 0;
+            }
+            joins[idx] += join;
+            conflicts[idx] += conflict;
+            lastTouched = now;
+
+            if (!isEscalated(now) && exceedsThreshold(epoch)) {
+                escalatedUntil = now + windowMillis;
+                log.info("파티 참여 경합 감지, 분산 락으로 전환합니다. partyId={}", partyId);
+            }
+        }
+
+        synchronized boolean isContended(long now) {
+            return isEscalated(now) || exceedsThreshold(now / bucketMillis);
+        }
+
+        private boolean isEscalated(long now) {
+            return now < escalatedUntil;
+        }
+
+        private boolean exceedsThreshold(long currentEpoch) {
+            int joinSum = 0;
+            int conflictSum = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                if (currentEpoch - epochs[i] < BUCKETS) {
+                    joinSum += joins[i];
+                    conflictSum += conflicts[i];
+                }
+            }
+            return joinSum >= joinThreshold || conflictSum >= conflictThreshold;
+        }
+    }
+}
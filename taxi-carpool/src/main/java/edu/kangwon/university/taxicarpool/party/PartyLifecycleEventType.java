@@ -0,0 +1,7 @@
+package edu.kangwon.university.taxicarpool.party;
+
+public enum PartyLifecycleEventType {
+    DEPARTURE,  // 출발 시각: 검색 대상에서 제외, DEPARTED 전환
+    SETTLEMENT, // 출발 + 정산 유예 시간: 절감액 자동 정산
+    AUTO_CLOSE  // 출발 + 종료 시간: CLOSED 전환
+}
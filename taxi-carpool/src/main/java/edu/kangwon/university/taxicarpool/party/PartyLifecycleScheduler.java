@@ -0,0 +1,180 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import edu.kangwon.university.taxicarpool.transaction.AfterCommit;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 파티의 시간 기반 상태 전환(출발, 자동 정산, 자동 종료)을 계층형 타이밍 휠로 처리합니다.
+ *
+ * <p>활성 파티의 다가올 이벤트를 인메모리 휠에 두고, 같은 틱에 만료된 이벤트는 종류별로 모아 한 번의 UPDATE로
+ * 상태를 바꿉니다. 휠은 기동 시 DB에서 다시 만들고, 다른 인스턴스에서 생성/수정된 파티는 주기적으로 DB와 대조해
+ * 반영합니다. 모든 전환은 조건부 UPDATE라 여러 인스턴스가 같은 이벤트를 처리해도 결과가 같습니다.</p>
+ *
+ * <p>처리에 실패했거나 인스턴스 중단으로 놓친 출발/종료 전환은 대조 때 시각이 지났는데 전환되지 않은 파티를
+ * DB에서 찾아 다시 처리합니다. 정산 누락은 {@link PartySettlementService}의 주기 점검이 보정합니다.</p>
+ *
+ * <p>출발 알림은 인스턴스 간 정확히 한 번 발송이 필요하므로 {@link PartyReminderQueue}가 담당합니다.</p>
+ */
+@Slf4j
+@Component
+public class PartyLifecycleScheduler {
+
+    private final PartyRepository partyRepository;
+    private final PartySearchIndex partySearchIndex;
+    private final PartySettlementService partySettlementService;
+    private final TransactionTemplate transactionTemplate;
+    private final PartyTimingWheel wheel;
+    private final long settlementGraceMinutes;
+    private final long closeAfterMinutes;
+    private final int sweepBatchSize;
+    private final Map<Long, LocalDateTime> scheduledStarts = new ConcurrentHashMap<>();
+
+    public PartyLifecycleScheduler(PartyRepository partyRepository, PartySearchIndex partySearchIndex,
+        PartySettlementService partySettlementService, PlatformTransactionManager transactionManager,
+        @Value("${party.lifecycle.tick-ms:1000}") long tickMillis,
+        @Value("${party.settlement.grace-minutes:30}") long settlementGraceMinutes,
+        @Value("${party.lifecycle.close-after-minutes:360}") long closeAfterMinutes,
+        @Value("${party.lifecycle.sweep-batch-size:500}") int sweepBatchSize) {
+        this.partyRepository = partyRepository;
+        this.partySearchIndex = partySearchIndex;
+        this.partySettlementService = partySettlementService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.wheel = new PartyTimingWheel(tickMillis, System.currentTimeMillis());
+        this.settlementGraceMinutes = settlementGraceMinutes;
+        this.closeAfterMinutes = closeAfterMinutes;
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    /**
+     * 파티의 생명주기 이벤트를 (다시) 등록합니다. 트랜잭션 안에서 호출되면 커밋 이후에 등록합니다.
+     */
+    public void schedule(Long partyId, LocalDateTime startDateTime) {
+        AfterCommit.run(() -> register(partyId, startDateTime));
+    }
+
+    /** 파티의 남은 생명주기 이벤트를 취소합니다. */
+    public void cancel(Long partyId) {
+        AfterCommit.run(() -> {
+            wheel.cancel(partyId);
+            scheduledStarts.remove(partyId);
+        });
+    }
+
+    /**
+     * 기동 시 휠을 채우고, 이후 주기적으로 DB와 대조해 다른 인스턴스의 생성/수정/삭제와 누락된 전환을 반영합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${party.lifecycle.resync-ms:60000}", initialDelayString = "${party.lifecycle.resync-ms:60000}")
+    public void resync() {
+        sweepOverdue();
+        try {
+            List<PartyRepository.PartyStartRow> rows =
+                partyRepository.findLifecyclePending(LocalDateTime.now().minusMinutes(closeAfterMinutes));
+            Set<Long> activeIds = new HashSet<>();
+            for (PartyRepository.PartyStartRow row : rows) {
+                activeIds.add(row.getId());
+                if (!row.getStartDateTime().equals(scheduledStarts.get(row.getId()))) {
+                    register(row.getId(), row.getStartDateTime());
+                }
+            }
+            for (Long partyId : scheduledStarts.keySet()) {
+                if (!activeIds.contains(partyId)) {
+                    wheel.cancel(partyId);
+                    scheduledStarts.remove(partyId);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("파티 생명주기 휠 대조 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${party.lifecycle.tick-ms:1000}")
+    public void tick() {
+        Map<PartyLifecycleEventType, List<Long>> due = wheel.advance(System.currentTimeMillis());
+        if (due.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<PartyLifecycleEventType, List<Long>> entry : due.entrySet()) {
+            try {
+                handle(entry.getKey(), entry.getValue());
+            } catch (Exception e) {
+                log.warn("파티 생명주기 이벤트 처리 실패(다음 대조/정산 주기에 재시도). type={}, partyIds={}: {}",
+                    entry.getKey(), entry.getValue(), e.getMessage());
+            }
+        }
+    }
+
+    // 시각이 지났는데 전환되지 않은 파티를 다시 전환(휠에서 처리 실패했거나 놓친 이벤트)
+    private void sweepOverdue() {
+        LocalDateTime now = LocalDateTime.now();
+        Pageable batch = Pageable.ofSize(sweepBatchSize);
+        try {
+            List<Long> departed = partyRepository.findOverdueDepartureIds(now, batch);
+            if (!departed.isEmpty()) {
+                handle(PartyLifecycleEventType.DEPARTURE, departed);
+            }
+            List<Long> closed = partyRepository.findOverdueCloseIds(now.minusMinutes(closeAfterMinutes), batch);
+            if (!closed.isEmpty()) {
+                handle(PartyLifecycleEventType.AUTO_CLOSE, closed);
+            }
+            if (!departed.isEmpty() || !closed.isEmpty()) {
+                log.info("누락된 파티 상태 전환 보정: 출발 {}건, 종료 {}건", departed.size(), closed.size());
+            }
+        } catch (Exception e) {
+            log.warn("누락된 파티 상태 전환 보정 실패: {}", e.getMessage());
+        }
+    }
+
+    private void handle(PartyLifecycleEventType type, List<Long> partyIds) {
+        switch (type) {
+            case DEPARTURE -> {
+                Integer departed = transactionTemplate.execute(
+                    status -> partyRepository.markDeparted(partyIds, LocalDateTime.now()));
+                // 일정이 바뀐 파티가 섞여 있으면 인덱스는 그대로 둔다 (출발 시각 필터가 걸러냄)
+                if (departed != null && departed == partyIds.size()) {
+                    partyIds.forEach(partySearchIndex::remove);
+                }
+            }
+            case SETTLEMENT -> partySettlementService.settle(partyIds);
+            case AUTO_CLOSE -> {
+                transactionTemplate.executeWithoutResult(status -> partyRepository.markClosed(partyIds,
+                    LocalDateTime.now().minusMinutes(closeAfterMinutes)));
+                partyIds.forEach(scheduledStarts::remove);
+            }
+        }
+    }
+
+    private void register(Long partyId, LocalDateTime startDateTime) {
+        wheel.cancel(partyId);
+        scheduledStarts.remove(partyId);
+        if (startDateTime == null) {
+            return;
+        }
+        Map<PartyLifecycleEventType, LocalDateTime> events = new HashMap<>();
+        events.put(PartyLifecycleEventType.DEPARTURE, startDateTime);
+        events.put(PartyLifecycleEventType.SETTLEMENT, startDateTime.plusMinutes(settlementGraceMinutes));
+        events.put(PartyLifecycleEventType.AUTO_CLOSE, startDateTime.plusMinutes(closeAfterMinutes));
+        events.forEach((type, at) -> wheel.add(partyId, type, toEpochMillis(at)));
+        scheduledStarts.put(partyId, startDateTime);
+    }
+
+    private long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,60 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 조회용 파티 컬럼 프로젝션입니다.
+ *
+ * <p>엔티티를 영속성 컨텍스트에 적재하지 않고 응답에 필요한 컬럼만 조회하며,
+ * 멤버 정보는 {@link PartyMemberRow}로 페이지 단위 일괄 조회하여 조립합니다.</p>
+ */
+public interface PartyListRow {
+
+    Long getId();
+
+    String getName();
+
+    boolean isDeleted();
+
+    Long getHostMemberId();
+
+    LocalDateTime getEndDate();
+
+    Boolean getSameGenderOnly();
+
+    Boolean getCostShareBeforeDropOff();
+
+    Boolean getQuietMode();
+
+    Boolean getDestinationChangeIn5Minutes();
+
+    LocalDateTime getStartDateTime();
+
+    String getComment();
+
+    int getCurrentParticipantCount();
+
+    int getMaxParticipantCount();
+
+    String getStartName();
+
+    String getStartRoadAddressName();
+
+    Double getStartX();
+
+    Double getStartY();
+
+    String getEndName();
+
+    String getEndRoadAddressName();
+
+    Double getEndX();
+
+    Double getEndY();
+
+    String getNotification();
+
+    boolean isSavingsCalculated();
+
+    Long getEstimatedFare();
+}
@@ -7,16 +7,30 @@ import edu.kangwon.university.taxicarpool.party.dto.PartyCreateRequestDTO;
 import edu.kangwon.university.taxicarpool.party.dto.PartyOptionDTO;
 import edu.kangwon.university.taxicarpool.party.dto.PartyResponseDTO;
 import edu.kangwon.university.taxicarpool.party.dto.PartyUpdateRequestDTO;
-import edu.kangwon.university.taxicarpool.member.MemberEntity;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
 
 @Component
 public class PartyMapper {
 
-    public PartyResponseDTO convertToResponseDTO(PartyEntity partyEntity) {
+    /**
+     * 일괄 조회한 멤버 정보로 응답 DTO를 만듭니다. 파티의 멤버 컬렉션을 지연 로딩하지 않습니다.
+     */
+    public PartyResponseDTO convertToResponseDTO(PartyEntity partyEntity, List<PartyMemberRow> members) {
+        List<Long> memberIds = new ArrayList<>();
+        Gender hostGender = null;
+        for (PartyMemberRow member : members) {
+            memberIds.add(member.getMemberId());
+            if (member.getMemberId().equals(partyEntity.getHostMemberId())) {
+                hostGender = member.getGender();
+            }
+        }
+        return convertToResponseDTO(partyEntity, memberIds, hostGender);
+    }
+
+    private PartyResponseDTO convertToResponseDTO(PartyEntity partyEntity, List<Long> memberIds, Gender hostGender) {
         MapPlaceDTO startDto = null;
         MapPlaceDTO endDto = null;
         PartyOptionDTO optionDto = null;
@@ -40,16 +54,6 @@ public class PartyMapper {
             );
         }
 
-        List<Long> memberIds = partyEntity.getMemberEntities().stream()
-            .map(MemberEntity::getId)
-            .collect(Collectors.toList());
-
-        Gender hostGender = partyEntity.getMemberEntities().stream()
-            .filter(member -> member.getId().equals(partyEntity.getHostMemberId()))
-            .findFirst()
-            .map(MemberEntity::getGender)
-            .orElse(null);
-
         PartyOption opt = partyEntity.getOptions();
         if (opt != null) {
             optionDto = new PartyOptionDTO(
@@ -81,6 +85,70 @@ public class PartyMapper {
         );
     }
 
+    /**
+     * 목록 조회용 프로젝션과 일괄 조회한 멤버 정보로 응답 DTO를 만듭니다. 엔티티나 멤버 컬렉션을 적재하지 않습니다.
+     */
+    public PartyResponseDTO convertToResponseDTO(PartyListRow row, List<PartyMemberRow> members) {
+        MapPlaceDTO startDto = null;
+        MapPlaceDTO endDto = null;
+        PartyOptionDTO optionDto = null;
+
+        if (row.getStartX() != null && row.getStartY() != null) {
+            startDto = new MapPlaceDTO(
+                row.getStartName(),
+                row.getStartRoadAddressName(),
+                row.getStartX(),
+                row.getStartY()
+            );
+        }
+        if (row.getEndX() != null && row.getEndY() != null) {
+            endDto = new MapPlaceDTO(
+                row.getEndName(),
+                row.getEndRoadAddressName(),
+                row.getEndX(),
+                row.getEndY()
+            );
+        }
+
+        List<Long> memberIds = new ArrayList<>();
+        Gender hostGender = null;
+        for (PartyMemberRow member : members) {
+            memberIds.add(member.getMemberId());
+            if (member.getMemberId().equals(row.getHostMemberId())) {
+                hostGender = member.getGender();
+            }
+        }
+
+        if (row.getSameGenderOnly() != null) {
+            optionDto = new PartyOptionDTO(
+                row.getSameGenderOnly(),
+                Boolean.TRUE.equals(row.getCostShareBeforeDropOff()),
+                Boolean.TRUE.equals(row.getQuietMode()),
+                Boolean.TRUE.equals(row.getDestinationChangeIn5Minutes())
+            );
+        }
+
+        return new PartyResponseDTO(
+            row.getId(),
+            row.getName(),
+            row.isDeleted(),
+            memberIds,
+            row.getHostMemberId(),
+            hostGender,
+            row.getEndDate(),
+            optionDto,
+            row.getStartDateTime(),
+            row.getComment(),
+            row.getCurrentParticipantCount(),
+            row.getMaxParticipantCount(),
+            startDto,
+            endDto,
+            row.getNotification(),
+            row.isSavingsCalculated(),
+            row.getEstimatedFare()
+        );
+    }
+
     public PartyEntity convertToEntity(PartyCreateRequestDTO createRequestDTO) {
 
         MapPlaceDTO sp = createRequestDTO.getStartPlace();
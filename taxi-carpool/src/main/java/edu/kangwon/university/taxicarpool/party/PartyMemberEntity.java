@@ -0,0 +1,81 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import edu.kangwon.university.taxicarpool.member.MemberEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import java.time.LocalDateTime;
+
+/**
+ * 파티 참여 정보(party_member)입니다.
+ *
+ * <p>(party_id, member_id)를 키로 하는 한 행이 한 명의 참여를 나타내므로, 참여/퇴장/참여 여부 확인이
+ * 파티의 전체 멤버 컬렉션을 적재하지 않고 단일 행 INSERT/DELETE/EXISTS로 처리됩니다.
+ * 키를 애플리케이션에서 지정하므로 {@link Persistable}로 신규 여부를 알려 저장 시 사전 SELECT를 생략합니다.</p>
+ */
+@Entity(name = "party_member")
+@Table(name = "party_member",
+    uniqueConstraints = @UniqueConstraint(name = "uk_party_member_party_member", columnNames = {"party_id", "member_id"}),
+    indexes = @Index(name = "idx_party_member_member_id", columnList = "member_id"))
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PartyMemberEntity implements Persistable<PartyMemberId> {
+
+    @EmbeddedId
+    private PartyMemberId id;
+
+    @MapsId("partyId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "party_id")
+    private PartyEntity party;
+
+    @MapsId("memberId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id")
+    private MemberEntity member;
+
+    @CreatedDate
+    @Column(name = "joined_at", updatable = false)
+    private LocalDateTime joinedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "role")
+    private PartyMemberRole role;
+
+    @Column(name = "last_read_message_id")
+    private Long lastReadMessageId;
+
+    @Transient
+    private boolean isNew = true;
+
+    public PartyMemberEntity(PartyEntity party, MemberEntity member, PartyMemberRole role) {
+        this.id = new PartyMemberId(party.getId(), member.getId());
+        this.party = party;
+        this.member = member;
+        this.role = role;
+    }
+
+    public void setRole(PartyMemberRole role) {
+        this.role = role;
+    }
+
+    public void setLastReadMessageId(Long lastReadMessageId) {
+        this.lastReadMessageId = lastReadMessageId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
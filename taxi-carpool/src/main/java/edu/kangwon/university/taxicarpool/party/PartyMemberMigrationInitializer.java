@@ -0,0 +1,83 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 party_member 조인 테이블을 {@link PartyMemberEntity} 구조로 옮깁니다.
+ *
+ * <p>{@code ddl-auto=update}는 새 컬럼(role, joined_at, last_read_message_id)만 추가하고 기본 키를 만들거나
+ * 기존 행을 채우지 않으므로, 애플리케이션 기동 후 MySQL인 경우에만 다음을 확인하여 필요할 때 한 번 수행합니다.</p>
+ * <ul>
+ *     <li>(party_id, member_id) 기본 키가 없으면 추가합니다. 중복 행이 있으면 추가하지 않고 오류를 남기므로,
+ *     중복을 정리한 뒤 다시 기동해야 합니다.</li>
+ *     <li>role이 비어 있는 행은 파티 호스트면 HOST, 아니면 MEMBER로 채웁니다.</li>
+ *     <li>joined_at이 비어 있는 행은 파티 생성 시각으로 채웁니다(호스트 승계 순서는 멤버 ID 순).</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartyMemberMigrationInitializer {
+
+    private final MySqlDetector mySqlDetector;
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!mySqlDetector.isMySql()) {
+            return;
+        }
+        try {
+            addPrimaryKey();
+            backfillRole();
+            backfillJoinedAt();
+        } catch (Exception e) {
+            log.error("party_member 마이그레이션 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void addPrimaryKey() {
+        Integer exists = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_schema.TABLE_CONSTRAINTS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'party_member' AND CONSTRAINT_TYPE = 'PRIMARY KEY'",
+            Integer.class);
+        if (exists != null && exists > 0) {
+            return;
+        }
+        Integer duplicates = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM (SELECT 1 FROM party_member GROUP BY party_id, member_id HAVING COUNT(*) > 1) d",
+            Integer.class);
+        if (duplicates != null && duplicates > 0) {
+            log.error("party_member에 중복 (party_id, member_id) {}쌍이 있어 기본 키를 추가하지 않았습니다. "
+                + "중복 행을 정리한 뒤 다시 기동하세요.", duplicates);
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE party_member ADD PRIMARY KEY (party_id, member_id)");
+        log.info("party_member 기본 키(party_id, member_id) 생성 완료");
+    }
+
+    private void backfillRole() {
+        int updated = jdbcTemplate.update(
+            "UPDATE party_member pm JOIN party p ON p.party_id = pm.party_id " +
+                "SET pm.role = CASE WHEN pm.member_id = p.host_id THEN 'HOST' ELSE 'MEMBER' END " +
+                "WHERE pm.role IS NULL");
+        if (updated > 0) {
+            log.info("party_member.role {}건 채움", updated);
+        }
+    }
+
+    private void backfillJoinedAt() {
+        int updated = jdbcTemplate.update(
+            "UPDATE party_member pm JOIN party p ON p.party_id = pm.party_id " +
+                "SET pm.joined_at = COALESCE(p.created_at, NOW()) " +
+                "WHERE pm.joined_at IS NULL");
+        if (updated > 0) {
+            log.info("party_member.joined_at {}건 채움", updated);
+        }
+    }
+}
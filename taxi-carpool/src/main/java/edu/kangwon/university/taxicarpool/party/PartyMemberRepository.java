@@ -0,0 +1,73 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import edu.kangwon.university.taxicarpool.member.Gender;
+import edu.kangwon.university.taxicarpool.member.MemberEntity;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PartyMemberRepository extends JpaRepository<PartyMemberEntity, PartyMemberId> {
+
+    @Query("SELECT COUNT(pm) > 0 FROM party_member pm WHERE pm.id.partyId = :partyId AND pm.id.memberId = :memberId")
+    boolean existsByPartyIdAndMemberId(@Param("partyId") Long partyId, @Param("memberId") Long memberId);
+
+    /**
+     * 한 멤버의 참여 행 하나만 삭제합니다.
+     * @return 삭제된 행 수(참여하지 않은 경우 0)
+     */
+    @Modifying
+    @Query("DELETE FROM party_member pm WHERE pm.id.partyId = :partyId AND pm.id.memberId = :memberId")
+    int deleteByPartyIdAndMemberId(@Param("partyId") Long partyId, @Param("memberId") Long memberId);
+
+    /** 보관 테이블로 옮긴 파티들의 참여 행을 삭제합니다. */
+    @Modifying
+    @Query("DELETE FROM party_member pm WHERE pm.id.partyId IN :partyIds")
+    int deleteByPartyIdIn(@Param("partyIds") Collection<Long> partyIds);
+
+    @Modifying
+    @Query("UPDATE party_member pm SET pm.role = :role WHERE pm.id.partyId = :partyId AND pm.id.memberId = :memberId")
+    int updateRole(@Param("partyId") Long partyId, @Param("memberId") Long memberId, @Param("role") PartyMemberRole role);
+
+    /** 참여 순서(먼저 참여한 순)의 멤버 ID 목록 */
+    @Query("SELECT pm.id.memberId FROM party_member pm WHERE pm.id.partyId = :partyId " +
+        "ORDER BY pm.joinedAt ASC, pm.id.memberId ASC")
+    List<Long> findMemberIdsByPartyId(@Param("partyId") Long partyId);
+
+    @Query("SELECT m FROM party_member pm JOIN pm.member m WHERE pm.id.partyId = :partyId " +
+        "ORDER BY pm.joinedAt ASC, pm.id.memberId ASC")
+    List<MemberEntity> findMembersByPartyId(@Param("partyId") Long partyId);
+
+    @Query("SELECT pm.id.partyId FROM party_member pm WHERE pm.id.memberId = :memberId")
+    List<Long> findPartyIdsByMemberId(@Param("memberId") Long memberId);
+
+    @Query("SELECT m.gender FROM party_member pm JOIN pm.member m " +
+        "WHERE pm.id.partyId = :partyId AND pm.id.memberId = :memberId")
+    Optional<Gender> findMemberGender(@Param("partyId") Long partyId, @Param("memberId") Long memberId);
+
+    /**
+     * 여러 파티의 멤버 ID와 성별을 한 번에 조회합니다.
+     * @param partyIds 파티 ID 목록
+     * @return (파티 ID, 멤버 ID, 성별) 목록, 파티별 참여 순
+     */
+    @Query("SELECT pm.id.partyId AS partyId, pm.id.memberId AS memberId, m.gender AS gender " +
+        "FROM party_member pm JOIN pm.member m WHERE pm.id.partyId IN :partyIds " +
+        "ORDER BY pm.joinedAt ASC, pm.id.memberId ASC")
+    List<PartyMemberRow> findRowsByPartyIdIn(@Param("partyIds") Collection<Long> partyIds);
+
+    /**
+     * 인메모리 검색 인덱스 구성을 위해 출발 전인 활성 파티의 참여 정보를 조회합니다.
+     * @param now 현재 시간
+     * @return (파티 ID, 멤버 ID, 성별) 목록
+     */
+    @Query("SELECT pm.id.partyId AS partyId, pm.id.memberId AS memberId, m.gender AS gender " +
+        "FROM party_member pm JOIN pm.member m JOIN pm.party p " +
+        "WHERE p.isDeleted = false AND p.startDateTime >= :now")
+    List<PartyMemberRow> findActiveRows(@Param("now") LocalDateTime now);
+}
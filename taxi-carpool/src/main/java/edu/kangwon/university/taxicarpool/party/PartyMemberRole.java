@@ -0,0 +1,6 @@
+package edu.kangwon.university.taxicarpool.party;
+
+public enum PartyMemberRole {
+    HOST,
+    MEMBER
+}
@@ -0,0 +1,15 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import edu.kangwon.university.taxicarpool.member.Gender;
+
+/**
+ * 목록 조회 시 페이지의 파티들에 대해 일괄 조회하는 (파티 ID, 멤버 ID, 성별) 프로젝션입니다.
+ */
+public interface PartyMemberRow {
+
+    Long getPartyId();
+
+    Long getMemberId();
+
+    Gender getGender();
+}
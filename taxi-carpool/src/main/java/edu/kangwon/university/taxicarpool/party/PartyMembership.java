@@ -0,0 +1,50 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * 채팅 경로에서 쓰는 파티 참여 정보 스냅샷입니다.
+ *
+ * <p>멤버 ID와 닉네임(참여 순), 호스트 ID와 푸시 제목에 쓰는 출발 시각/도착지 이름만 담습니다.
+ * {@link PartyMembershipCache}가 참여/퇴장/삭제/수정 시 무효화합니다.</p>
+ */
+@Getter
+public class PartyMembership {
+
+    private final Long partyId;
+    private final Long hostMemberId;
+    private final LocalDateTime startDateTime;
+    private final String destinationName;
+    private final Map<Long, String> nicknames;
+
+    public PartyMembership(Long partyId, Long hostMemberId, LocalDateTime startDateTime,
+        String destinationName, Map<Long, String> nicknames) {
+        this.partyId = partyId;
+        this.hostMemberId = hostMemberId;
+        this.startDateTime = startDateTime;
+        this.destinationName = destinationName;
+        this.nicknames = new LinkedHashMap<>(nicknames);
+    }
+
+    public boolean isMember(Long memberId) {
+        return nicknames.containsKey(memberId);
+    }
+
+    public boolean isHost(Long memberId) {
+        return hostMemberId != null && hostMemberId.equals(memberId);
+    }
+
+    public String getNickname(Long memberId) {
+        return nicknames.get(memberId);
+    }
+
+    /** 참여 순 멤버 ID 목록 */
+    public List<Long> getMemberIds() {
+        return new ArrayList<>(nicknames.keySet());
+    }
+}
@@ -0,0 +1,177 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import edu.kangwon.university.taxicarpool.member.MemberEntity;
+import edu.kangwon.university.taxicarpool.transaction.AfterCommit;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파티별 참여 정보({@link PartyMembership}) 캐시입니다.
+ *
+ * <p>채팅 전송/히스토리/참가자 조회/공지 수정은 매번 파티와 멤버 목록을 다시 읽지 않고 이 캐시로 참여 여부와
+ * 호스트 여부를 판정합니다. 로컬 캐시는 TTL이 있는 LRU이며, 참여/퇴장/삭제/수정 시 커밋 이후 무효화하고
+ * Redis 토픽으로 다른 인스턴스에도 무효화를 전파합니다.</p>
+ *
+ * <p>무효화 이전에 시작된 조회 결과는 저장하지 않으므로 커밋 직전 상태가 캐시에 남지 않습니다.
+ * Redis 장애로 전파가 누락되어도 다른 인스턴스의 캐시는 TTL이 지나면 DB 기준으로 다시 채워집니다.</p>
+ */
+@Slf4j
+@Component
+public class PartyMembershipCache {
+
+    private static final String INVALIDATE_TOPIC = "party:membership:invalidate";
+
+    private final PartyRepository partyRepository;
+    private final PartyMemberRepository partyMemberRepository;
+    private final RedissonClient redissonClient;
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final Map<Long, CachedMembership> local;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PartyMembershipCache(PartyRepository partyRepository,
+        PartyMemberRepository partyMemberRepository, RedissonClient redissonClient,
+        @Value("${party.membership.cache.enabled:true}") boolean enabled,
+        @Value("${party.membership.cache.ttl-seconds:60}") long ttlSeconds,
+        @Value("${party.membership.cache.max-entries:10000}") int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("party.membership.cache.max-entries는 0보다 커야 합니다.");
+        }
+        this.partyRepository = partyRepository;
+        this.partyMemberRepository = partyMemberRepository;
+        this.redissonClient = redissonClient;
+        this.enabled = enabled;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.local = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedMembership> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            topic().addListener(String.class, (channel, partyId) -> evictLocal(Long.valueOf(partyId)));
+        } catch (Exception e) {
+            log.warn("참여 정보 캐시 무효화 구독 실패, TTL로만 갱신됩니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 파티의 참여 정보를 반환합니다. 캐시에 없으면 DB에서 읽어 저장합니다.
+     *
+     * @param partyId 파티 ID
+     * @return 참여 정보, 운영 테이블에 파티가 없으면 null
+     */
+    public PartyMembership get(Long partyId) {
+        if (enabled) {
+            PartyMembership cached = getLocal(partyId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        long generation = invalidations.get();
+        PartyMembership loaded = load(partyId);
+        if (enabled && loaded != null) {
+            synchronized (local) {
+                if (invalidations.get() == generation) {
+                    local.put(partyId, new CachedMembership(loaded, System.currentTimeMillis() + ttlMillis));
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 참여/퇴장/삭제/수정 시 호출합니다. 트랜잭션 안에서 호출되면 커밋 이후에 무효화합니다.
+     */
+    public void invalidate(Long partyId) {
+        invalidateAll(List.of(partyId));
+    }
+
+    public void invalidateAll(Collection<Long> partyIds) {
+        if (!enabled || partyIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(partyIds);
+        AfterCommit.run(() -> evict(ids));
+    }
+
+    private void evict(Collection<Long> partyIds) {
+        for (Long partyId : partyIds) {
+            evictLocal(partyId);
+            try {
+                topic().publish(String.valueOf(partyId));
+            } catch (Exception e) {
+                log.warn("참여 정보 캐시 무효화 전파 실패. partyId={}: {}", partyId, e.getMessage());
+            }
+        }
+    }
+
+    private void evictLocal(Long partyId) {
+        synchronized (local) {
+            invalidations.incrementAndGet();
+            local.remove(partyId);
+        }
+    }
+
+    private PartyMembership getLocal(Long partyId) {
+        synchronized (local) {
+            CachedMembership entry = local.get(partyId);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt < System.currentTimeMillis()) {
+                local.remove(partyId);
+                return null;
+            }
+            return entry.membership;
+        }
+    }
+
+    private PartyMembership load(Long partyId) {
+        PartyEntity party = partyRepository.findById(partyId).orElse(null);
+        if (party == null) {
+            return null;
+        }
+        Map<Long, String> nicknames = new LinkedHashMap<>();
+        for (MemberEntity member : partyMemberRepository.findMembersByPartyId(partyId)) {
+            nicknames.put(member.getId(), member.getNickname());
+        }
+        String destinationName = party.getEndPlace() != null ? party.getEndPlace().getName() : null;
+        return new PartyMembership(partyId, party.getHostMemberId(), party.getStartDateTime(),
+            destinationName, nicknames);
+    }
+
+    private RTopic topic() {
+        return redissonClient.getTopic(INVALIDATE_TOPIC, StringCodec.INSTANCE);
+    }
+
+    private static final class CachedMembership {
+
+        private final PartyMembership membership;
+        private final long expiresAt;
+
+        private CachedMembership(PartyMembership membership, long expiresAt) {
+            this.membership = membership;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
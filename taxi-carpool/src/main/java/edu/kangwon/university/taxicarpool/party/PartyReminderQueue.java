@@ -0,0 +1,158 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import edu.kangwon.university.taxicarpool.transaction.AfterCommit;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 출발 알림 지연 큐입니다.
+ *
+ * <p>Redis Sorted Set에 파티 ID를 알림 시각(출발 시각 - {@code party.reminder.lead-minutes}, epoch ms)을 점수로 넣어 두고,
+ * 도래한 항목을 Lua 스크립트 한 번으로 조회와 동시에 제거합니다. 제거에 성공한 인스턴스만 항목을 가져가므로
+ * 여러 인스턴스가 동시에 꺼내도 같은 파티를 두 번 가져가지 않습니다.</p>
+ *
+ * <p>등록은 트랜잭션 커밋 이후에 하며, 등록 누락(Redis 장애, 꺼낸 직후 인스턴스 중단 등)은 기동 시와 주기적으로
+ * DB의 미발송 파티와 대조해 다시 채웁니다. 최종 중복 방지는 DB의 발송 여부 플래그가 담당합니다.</p>
+ */
+@Slf4j
+@Component
+public class PartyReminderQueue {
+
+    private static final String QUEUE_KEY = "party:reminder:queue";
+
+    private static final RedisScript<List<Object>> CLAIM_SCRIPT = listScript("""
+        local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+        if #ids > 0 then redis.call('ZREM', KEYS[1], unpack(ids)) end
+        return ids
+        """);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PartyRepository partyRepository;
+    private final long leadMinutes;
+    private final long retryDelayMs;
+
+    public PartyReminderQueue(RedisTemplate<String, String> redisTemplate, PartyRepository partyRepository,
+        @Value("${party.reminder.lead-minutes:10}") long leadMinutes,
+        @Value("${party.reminder.retry-delay-ms:5000}") long retryDelayMs) {
+        this.redisTemplate = redisTemplate;
+        this.partyRepository = partyRepository;
+        this.leadMinutes = leadMinutes;
+        this.retryDelayMs = retryDelayMs;
+    }
+
+    /**
+     * 출발 알림을 등록(또는 알림 시각을 갱신)합니다. 트랜잭션 안에서 호출되면 커밋 이후에 등록합니다.
+     * 출발까지 1분도 남지 않은 파티는 등록하지 않습니다.
+     */
+    public void schedule(Long partyId, LocalDateTime startDateTime) {
+        if (startDateTime == null || !startDateTime.isAfter(LocalDateTime.now().plusMinutes(1))) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            try {
+                redisTemplate.opsForZSet().add(QUEUE_KEY, String.valueOf(partyId), fireAt(startDateTime));
+            } catch (Exception e) {
+                log.warn("출발 알림 등록 실패, 주기 대조에서 다시 등록합니다. partyId={}: {}", partyId, e.getMessage());
+            }
+        });
+    }
+
+    /** 등록된 출발 알림을 취소합니다. 트랜잭션 안에서 호출되면 커밋 이후에 취소합니다. */
+    public void cancel(Long partyId) {
+        AfterCommit.run(() -> {
+            try {
+                redisTemplate.opsForZSet().remove(QUEUE_KEY, String.valueOf(partyId));
+            } catch (Exception e) {
+                log.warn("출발 알림 취소 실패(발송 시 DB에서 다시 확인). partyId={}: {}", partyId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 알림 시각이 도래한 파티 ID를 최대 {@code limit}개 꺼냅니다. 꺼낸 항목은 큐에서 제거됩니다.
+     *
+     * @return 파티 ID 목록, Redis 장애 시 빈 목록
+     */
+    public List<Long> claimDue(int limit) {
+        try {
+            List<Object> ids = redisTemplate.execute(CLAIM_SCRIPT, List.of(QUEUE_KEY),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(limit));
+            if (ids == null || ids.isEmpty()) {
+                return List.of();
+            }
+            return ids.stream().map(id -> Long.valueOf(id.toString())).toList();
+        } catch (Exception e) {
+            log.warn("출발 알림 큐 조회 실패: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 꺼냈지만 처리하지 못한 파티 ID를 {@code retry-delay-ms} 뒤에 다시 꺼내도록 큐에 되돌립니다.
+     * 그 사이 다시 등록된 항목은 건드리지 않으며, 되돌리기마저 실패하면 주기 대조가 채웁니다.
+     */
+    public void requeue(List<Long> partyIds) {
+        if (partyIds.isEmpty()) {
+            return;
+        }
+        try {
+            double retryAt = System.currentTimeMillis() + retryDelayMs;
+            Set<TypedTuple<String>> tuples = new HashSet<>();
+            for (Long partyId : partyIds) {
+                tuples.add(new DefaultTypedTuple<>(String.valueOf(partyId), retryAt));
+            }
+            redisTemplate.opsForZSet().addIfAbsent(QUEUE_KEY, tuples);
+        } catch (Exception e) {
+            log.warn("출발 알림 되돌리기 실패, 주기 대조에서 다시 등록합니다. partyIds={}: {}", partyIds, e.getMessage());
+        }
+    }
+
+    /**
+     * 출발 알림을 아직 보내지 않은 파티를 DB에서 읽어 큐에 없는 항목만 추가합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${party.reminder.reconcile-ms:600000}", initialDelayString = "${party.reminder.reconcile-ms:600000}")
+    public void reconcile() {
+        try {
+            List<PartyRepository.PartyStartRow> rows =
+                partyRepository.findReminderPending(LocalDateTime.now().plusMinutes(1));
+            if (rows.isEmpty()) {
+                return;
+            }
+            Set<TypedTuple<String>> tuples = new HashSet<>();
+            for (PartyRepository.PartyStartRow row : rows) {
+                tuples.add(new DefaultTypedTuple<>(String.valueOf(row.getId()), fireAt(row.getStartDateTime())));
+            }
+            Long added = redisTemplate.opsForZSet().addIfAbsent(QUEUE_KEY, tuples);
+            if (added != null && added > 0) {
+                log.info("출발 알림 큐 대조: 누락된 {}건 등록", added);
+            }
+        } catch (Exception e) {
+            log.warn("출발 알림 큐 대조 실패: {}", e.getMessage());
+        }
+    }
+
+    private double fireAt(LocalDateTime startDateTime) {
+        long fireAt = startDateTime.minusMinutes(leadMinutes).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return Math.max(fireAt, System.currentTimeMillis());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisScript<List<Object>> listScript(String script) {
+        return new DefaultRedisScript<>(script, (Class<List<Object>>) (Class<?>) List.class);
+    }
+}
@@ -1,11 +1,15 @@
 package edu.kangwon.university.taxicarpool.party;
 
+import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,42 +18,82 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface PartyRepository extends JpaRepository<PartyEntity, Long> {
 
+    // 목록 조회용 파티 컬럼 프로젝션(PartyListRow)의 SELECT 절
+    String PARTY_LIST_ROW_SELECT = "SELECT p.id AS id, p.name AS name, p.isDeleted AS deleted, " +
+        "p.hostMemberId AS hostMemberId, p.endDate AS endDate, " +
+        "p.options.sameGenderOnly AS sameGenderOnly, p.options.costShareBeforeDropOff AS costShareBeforeDropOff, " +
+        "p.options.quietMode AS quietMode, p.options.destinationChangeIn5Minutes AS destinationChangeIn5Minutes, " +
+        "p.startDateTime AS startDateTime, p.comment AS comment, " +
+        "p.currentParticipantCount AS currentParticipantCount, p.maxParticipantCount AS maxParticipantCount, " +
+        "p.startPlace.name AS startName, p.startPlace.roadAddressName AS startRoadAddressName, " +
+        "p.startPlace.x AS startX, p.startPlace.y AS startY, " +
+        "p.endPlace.name AS endName, p.endPlace.roadAddressName AS endRoadAddressName, " +
+        "p.endPlace.x AS endX, p.endPlace.y AS endY, " +
+        "p.notification AS notification, p.savingsCalculated AS savingsCalculated, p.estimatedFare AS estimatedFare ";
+
     Optional<PartyEntity> findById(Long partyId);
 
     Optional<PartyEntity> findByIdAndIsDeletedFalse(Long partyId);
 
-    @Query(value = "SELECT p FROM party p " +
+    @Query(value = PARTY_LIST_ROW_SELECT + "FROM party p " +
         "WHERE p.isDeleted = false " +
-        "AND p.startDateTime >= :now " +
-        "AND NOT EXISTS (SELECT 1 FROM p.memberEntities m WHERE m.id = :memberId)",
+        "AND p.startDateTime >= :now AND (p.status IS NULL OR p.status = 'RECRUITING') " +
+        "AND NOT EXISTS (SELECT 1 FROM party_member pm WHERE pm.party = p AND pm.member.id = :memberId)",
         countQuery = "SELECT COUNT(p) FROM party p " +
             "WHERE p.isDeleted = false " +
-            "AND p.startDateTime >= :now " +
-            "AND NOT EXISTS (SELECT 1 FROM p.memberEntities m WHERE m.id = :memberId)")
-    Page<PartyEntity> findGeneralPartyListNotJoined(
+            "AND p.startDateTime >= :now AND (p.status IS NULL OR p.status = 'RECRUITING') " +
+            "AND NOT EXISTS (SELECT 1 FROM party_member pm WHERE pm.party = p AND pm.member.id = :memberId)")
+    Page<PartyListRow> findGeneralPartyListNotJoined(
+        @Param("memberId") Long memberId,
+        @Param("now") LocalDateTime now,
+        Pageable pageable
+    );
+
+    /**
+     * 참여하지 않은 파티 목록을 (출발 시간, 파티 ID) 키셋 커서 이후부터 조회합니다. 전체 개수는 세지 않습니다.
+     * @param cursorTime 마지막으로 반환한 파티의 출발 시간
+     * @param cursorId 마지막으로 반환한 파티의 ID
+     * @param pageable 조회 건수(page는 항상 0)
+     * @return 출발 시간, 파티 ID 오름차순 파티 목록 프로젝션
+     */
+    @Query(PARTY_LIST_ROW_SELECT + "FROM party p " +
+        "WHERE p.isDeleted = false " +
+        "AND p.startDateTime >= :now AND (p.status IS NULL OR p.status = 'RECRUITING') " +
+        "AND NOT EXISTS (SELECT 1 FROM party_member pm WHERE pm.party = p AND pm.member.id = :memberId) " +
+        "AND (p.startDateTime > :cursorTime OR (p.startDateTime = :cursorTime AND p.id > :cursorId)) " +
+        "ORDER BY p.startDateTime ASC, p.id ASC")
+    List<PartyListRow> findGeneralPartyListNotJoinedAfter(
         @Param("memberId") Long memberId,
         @Param("now") LocalDateTime now,
+        @Param("cursorTime") LocalDateTime cursorTime,
+        @Param("cursorId") Long cursorId,
         Pageable pageable
     );
 
+    /**
+     * 주어진 ID의 파티 컬럼을 프로젝션으로 조회합니다. 순서는 보장하지 않습니다.
+     * @param partyIds 파티 ID 목록
+     * @return 파티 목록 프로젝션
+     */
+    @Query(PARTY_LIST_ROW_SELECT + "FROM party p WHERE p.id IN :partyIds")
+    List<PartyListRow> findListRowsByIdIn(@Param("partyIds") Collection<Long> partyIds);
+
     // 모든 파라미터가 온 경우
+    // 출발/도착 POINT 공간 인덱스로 바운딩 박스 내 후보만 추린 뒤 정확한 거리로 정렬
     @Query(value = "SELECT p.*, " +
-        " (ST_Distance_Sphere(" +
-        "    ST_GeomFromText(CONCAT('POINT(', p.start_longitude, ' ', p.start_latitude, ')')), " +
-        "    ST_GeomFromText(CONCAT('POINT(', :userDepartureLng, ' ', :userDepartureLat, ')'))" +
-        " ) + " +
-        " ST_Distance_Sphere(" +
-        "    ST_GeomFromText(CONCAT('POINT(', p.end_longitude, ' ', p.end_latitude, ')')), " +
-        "    ST_GeomFromText(CONCAT('POINT(', :userDestinationLng, ' ', :userDestinationLat, ')'))"
-        +
-        " )" +
+        " (ST_Distance_Sphere(p.start_point, ST_SRID(POINT(:userDepartureLng, :userDepartureLat), 4326)) + " +
+        "  ST_Distance_Sphere(p.end_point, ST_SRID(POINT(:userDestinationLng, :userDestinationLat), 4326))" +
         " ) AS total_distance " +
         "FROM party p " +
-        "WHERE p.is_deleted = false AND p.start_date_time >= NOW() " +
+        "WHERE p.is_deleted = false AND p.start_date_time >= NOW() AND (p.status IS NULL OR p.status = 'RECRUITING') " +
+        "AND MBRContains(ST_GeomFromText(:departureBox, 4326, 'axis-order=long-lat'), p.start_point) " +
+        "AND MBRContains(ST_GeomFromText(:destinationBox, 4326, 'axis-order=long-lat'), p.end_point) " +
         "AND p.party_id NOT IN (SELECT pm.party_id FROM party_member pm WHERE pm.member_id = :memberId) " +
         "ORDER BY total_distance ASC, ABS(TIMESTAMPDIFF(MINUTE, p.start_date_time, :userDepartureTime)) ASC",
         countQuery = "SELECT COUNT(*) FROM party p " +
-            "WHERE p.is_deleted = false AND p.start_date_time >= NOW() " +
+            "WHERE p.is_deleted = false AND p.start_date_time >= NOW() AND (p.status IS NULL OR p.status = 'RECRUITING') " +
+            "AND MBRContains(ST_GeomFromText(:departureBox, 4326, 'axis-order=long-lat'), p.start_point) " +
+            "AND MBRContains(ST_GeomFromText(:destinationBox, 4326, 'axis-order=long-lat'), p.end_point) " +
             "AND p.party_id NOT IN (SELECT pm.party_id FROM party_member pm WHERE pm.member_id = :memberId)",
         nativeQuery = true)
     Page<PartyEntity> findCustomPartyList(
@@ -59,22 +103,22 @@ public interface PartyRepository extends JpaRepository<PartyEntity, Long> {
         @Param("userDestinationLng") Double userDestinationLng,
         @Param("userDestinationLat") Double userDestinationLat,
         @Param("userDepartureTime") LocalDateTime userDepartureTime,
+        @Param("departureBox") String departureBox,
+        @Param("destinationBox") String destinationBox,
         Pageable pageable
     );
 
-    // 출발지 또는 도착지에 대한 파라미터가 오지 않은 경우(오버로딩)
+    // 출발지에 대한 파라미터가 오지 않은 경우(오버로딩)
     @Query(value = "SELECT p.*, " +
-        " ST_Distance_Sphere(" +
-        "    ST_GeomFromText(CONCAT('POINT(', p.end_longitude, ' ', p.end_latitude, ')')), " +
-        "    ST_GeomFromText(CONCAT('POINT(', :userDestinationLng, ' ', :userDestinationLat, ')'))"
-        +
-        " ) AS total_distance " +
+        " ST_Distance_Sphere(p.end_point, ST_SRID(POINT(:userDestinationLng, :userDestinationLat), 4326)) AS total_distance " +
         "FROM party p " +
-        "WHERE p.is_deleted = false AND p.start_date_time >= NOW() " +
+        "WHERE p.is_deleted = false AND p.start_date_time >= NOW() AND (p.status IS NULL OR p.status = 'RECRUITING') " +
+        "AND MBRContains(ST_GeomFromText(:destinationBox, 4326, 'axis-order=long-lat'), p.end_point) " +
         "AND p.party_id NOT IN (SELECT pm.party_id FROM party_member pm WHERE pm.member_id = :memberId) " +
         "ORDER BY total_distance ASC, ABS(TIMESTAMPDIFF(MINUTE, p.start_date_time, :userDepartureTime)) ASC",
         countQuery = "SELECT COUNT(*) FROM party p " +
-            "WHERE p.is_deleted = false AND p.start_date_time >= NOW() " +
+            "WHERE p.is_deleted = false AND p.start_date_time >= NOW() AND (p.status IS NULL OR p.status = 'RECRUITING') " +
+            "AND MBRContains(ST_GeomFromText(:destinationBox, 4326, 'axis-order=long-lat'), p.end_point) " +
             "AND p.party_id NOT IN (SELECT pm.party_id FROM party_member pm WHERE pm.member_id = :memberId)",
         nativeQuery = true)
     Page<PartyEntity> findCustomPartyList(
@@ -82,27 +126,47 @@ public interface PartyRepository extends JpaRepository<PartyEntity, Long> {
         @Param("userDestinationLng") Double userDestinationLng,
         @Param("userDestinationLat") Double userDestinationLat,
         @Param("userDepartureTime") LocalDateTime userDepartureTime,
+        @Param("destinationBox") String destinationBox,
+        Pageable pageable
+    );
+
+    // 도착지에 대한 파라미터가 오지 않은 경우
+    @Query(value = "SELECT p.*, " +
+        " ST_Distance_Sphere(p.start_point, ST_SRID(POINT(:userDepartureLng, :userDepartureLat), 4326)) AS total_distance " +
+        "FROM party p " +
+        "WHERE p.is_deleted = false AND p.start_date_time >= NOW() AND (p.status IS NULL OR p.status = 'RECRUITING') " +
+        "AND MBRContains(ST_GeomFromText(:departureBox, 4326, 'axis-order=long-lat'), p.start_point) " +
+        "AND p.party_id NOT IN (SELECT pm.party_id FROM party_member pm WHERE pm.member_id = :memberId) " +
+        "ORDER BY total_distance ASC, ABS(TIMESTAMPDIFF(MINUTE, p.start_date_time, :userDepartureTime)) ASC",
+        countQuery = "SELECT COUNT(*) FROM party p " +
+            "WHERE p.is_deleted = false AND p.start_date_time >= NOW() AND (p.status IS NULL OR p.status = 'RECRUITING') " +
+            "AND MBRContains(ST_GeomFromText(:departureBox, 4326, 'axis-order=long-lat'), p.start_point) " +
+            "AND p.party_id NOT IN (SELECT pm.party_id FROM party_member pm WHERE pm.member_id = :memberId)",
+        nativeQuery = true)
+    Page<PartyEntity> findCustomPartyListByDeparture(
+        @Param("memberId") Long memberId,
+        @Param("userDepartureLng") Double userDepartureLng,
+        @Param("userDepartureLat") Double userDepartureLat,
+        @Param("userDepartureTime") LocalDateTime userDepartureTime,
+        @Param("departureBox") String departureBox,
         Pageable pageable
     );
 
     // 출발 시간 파라미터가 오지 않은 경우
     @Query(value = "SELECT p.*, " +
-        " (ST_Distance_Sphere(" +
-        "    ST_GeomFromText(CONCAT('POINT(', p.start_longitude, ' ', p.start_latitude, ')')), " +
-        "    ST_GeomFromText(CONCAT('POINT(', :userDepartureLng, ' ', :userDepartureLat, ')'))" +
-        " ) + " +
-        " ST_Distance_Sphere(" +
-        "    ST_GeomFromText(CONCAT('POINT(', p.end_longitude, ' ', p.end_latitude, ')')), " +
-        "    ST_GeomFromText(CONCAT('POINT(', :userDestinationLng, ' ', :userDestinationLat, ')'))"
-        +
-        " )" +
+        " (ST_Distance_Sphere(p.start_point, ST_SRID(POINT(:userDepartureLng, :userDepartureLat), 4326)) + " +
+        "  ST_Distance_Sphere(p.end_point, ST_SRID(POINT(:userDestinationLng, :userDestinationLat), 4326))" +
         " ) AS total_distance " +
         "FROM party p " +
-        "WHERE p.is_deleted = false AND p.start_date_time >= NOW() " +
+        "WHERE p.is_deleted = false AND p.start_date_time >= NOW() AND (p.status IS NULL OR p.status = 'RECRUITING') " +
+        "AND MBRContains(ST_GeomFromText(:departureBox, 4326, 'axis-order=long-lat'), p.start_point) " +
+        "AND MBRContains(ST_GeomFromText(:destinationBox, 4326, 'axis-order=long-lat'), p.end_point) " +
         "AND p.party_id NOT IN (SELECT pm.party_id FROM party_member pm WHERE pm.member_id = :memberId) " +
         "ORDER BY total_distance ASC, p.start_date_time ASC",
         countQuery = "SELECT COUNT(*) FROM party p " +
-            "WHERE p.is_deleted = false AND p.start_date_time >= NOW() " +
+            "WHERE p.is_deleted = false AND p.start_date_time >= NOW() AND (p.status IS NULL OR p.status = 'RECRUITING') " +
+            "AND MBRContains(ST_GeomFromText(:departureBox, 4326, 'axis-order=long-lat'), p.start_point) " +
+            "AND MBRContains(ST_GeomFromText(:destinationBox, 4326, 'axis-order=long-lat'), p.end_point) " +
             "AND p.party_id NOT IN (SELECT pm.party_id FROM party_member pm WHERE pm.member_id = :memberId)",
         nativeQuery = true)
     Page<PartyEntity> findCustomPartyList(
@@ -111,10 +175,119 @@ public interface PartyRepository extends JpaRepository<PartyEntity, Long> {
         @Param("userDepartureLat") Double userDepartureLat,
         @Param("userDestinationLng") Double userDestinationLng,
         @Param("userDestinationLat") Double userDestinationLat,
+        @Param("departureBox") String departureBox,
+        @Param("destinationBox") String destinationBox,
         Pageable pageable
     );
 
-    @Query("SELECT p FROM party p JOIN p.memberEntities m WHERE m.id = :memberId AND p.isDeleted = false " +
+    /**
+     * 커스텀 검색 커서 페이지네이션용 정렬 키 조회 결과입니다.
+     */
+    interface ScoredPartyRow {
+
+        Long getPartyId();
+
+        Double getTotalDistance();
+
+        Long getTimeGap();
+    }
+
+    /**
+     * 파티 ID와 출발 시각만 담은 조회 결과입니다(알림 큐/생명주기 휠 대조용).
+     */
+    interface PartyStartRow {
+
+        Long getId();
+
+        LocalDateTime getStartDateTime();
+    }
+
+    // 커서 기반 커스텀 검색: (거리 합(m, 소수점 버림), 기준 시각과의 차이(분), 파티 ID) 키셋 이후의 정렬 키만 조회하고 전체 개수는 세지 않음
+    // 거리는 인메모리 인덱스와 같은 정수 미터로 맞춰 두 경로 사이에서 커서를 이어 써도 행이 빠지거나 반복되지 않음
+    // 출발 시간 미입력 시 refTime은 첫 페이지 조회 시각으로 고정되어 출발 시간 오름차순과 같은 순서가 됨
+    @Query(value = "SELECT t.party_id AS partyId, t.total_distance AS totalDistance, t.time_gap AS timeGap FROM (" +
+        " SELECT p.party_id, FLOOR(ST_Distance_Sphere(p.start_point, ST_SRID(POINT(:userDepartureLng, :userDepartureLat), 4326)) + " +
+        "  ST_Distance_Sphere(p.end_point, ST_SRID(POINT(:userDestinationLng, :userDestinationLat), 4326))) AS total_distance, " +
+        "  ABS(TIMESTAMPDIFF(MINUTE, p.start_date_time, :refTime)) AS time_gap " +
+        " FROM party p " +
+        " WHERE p.is_deleted = false AND p.start_date_time >= NOW() AND (p.status IS NULL OR p.status = 'RECRUITING') " +
+        " AND MBRContains(ST_GeomFromText(:departureBox, 4326, 'axis-order=long-lat'), p.start_point) " +
+        " AND MBRContains(ST_GeomFromText(:destinationBox, 4326, 'axis-order=long-lat'), p.end_point) " +
+        " AND p.party_id NOT IN (SELECT pm.party_id FROM party_member pm WHERE pm.member_id = :memberId)" +
+        ") t " +
+        "WHERE t.total_distance > :lastScore " +
+        "OR (t.total_distance = :lastScore AND (t.time_gap > :lastGap OR (t.time_gap = :lastGap AND t.party_id > :lastId))) " +
+        "ORDER BY t.total_distance ASC, t.time_gap ASC, t.party_id ASC " +
+        "LIMIT :limit",
+        nativeQuery = true)
+    List<ScoredPartyRow> findCustomPartyScoresAfter(
+        @Param("memberId") Long memberId,
+        @Param("userDepartureLng") Double userDepartureLng,
+        @Param("userDepartureLat") Double userDepartureLat,
+        @Param("userDestinationLng") Double userDestinationLng,
+        @Param("userDestinationLat") Double userDestinationLat,
+        @Param("departureBox") String departureBox,
+        @Param("destinationBox") String destinationBox,
+        @Param("refTime") LocalDateTime refTime,
+        @Param("lastScore") long lastScore,
+        @Param("lastGap") long lastGap,
+        @Param("lastId") long lastId,
+        @Param("limit") int limit
+    );
+
+    // 커서 기반 커스텀 검색: 출발지 미입력
+    @Query(value = "SELECT t.party_id AS partyId, t.total_distance AS totalDistance, t.time_gap AS timeGap FROM (" +
+        " SELECT p.party_id, FLOOR(ST_Distance_Sphere(p.end_point, ST_SRID(POINT(:userDestinationLng, :userDestinationLat), 4326))) AS total_distance, " +
+        "  ABS(TIMESTAMPDIFF(MINUTE, p.start_date_time, :refTime)) AS time_gap " +
+        " FROM party p " +
+        " WHERE p.is_deleted = false AND p.start_date_time >= NOW() AND (p.status IS NULL OR p.status = 'RECRUITING') " +
+        " AND MBRContains(ST_GeomFromText(:destinationBox, 4326, 'axis-order=long-lat'), p.end_point) " +
+        " AND p.party_id NOT IN (SELECT pm.party_id FROM party_member pm WHERE pm.member_id = :memberId)" +
+        ") t " +
+        "WHERE t.total_distance > :lastScore " +
+        "OR (t.total_distance = :lastScore AND (t.time_gap > :lastGap OR (t.time_gap = :lastGap AND t.party_id > :lastId))) " +
+        "ORDER BY t.total_distance ASC, t.time_gap ASC, t.party_id ASC " +
+        "LIMIT :limit",
+        nativeQuery = true)
+    List<ScoredPartyRow> findCustomPartyScoresByDestinationAfter(
+        @Param("memberId") Long memberId,
+        @Param("userDestinationLng") Double userDestinationLng,
+        @Param("userDestinationLat") Double userDestinationLat,
+        @Param("destinationBox") String destinationBox,
+        @Param("refTime") LocalDateTime refTime,
+        @Param("lastScore") long lastScore,
+        @Param("lastGap") long lastGap,
+        @Param("lastId") long lastId,
+        @Param("limit") int limit
+    );
+
+    // 커서 기반 커스텀 검색: 도착지 미입력
+    @Query(value = "SELECT t.party_id AS partyId, t.total_distance AS totalDistance, t.time_gap AS timeGap FROM (" +
+        " SELECT p.party_id, FLOOR(ST_Distance_Sphere(p.start_point, ST_SRID(POINT(:userDepartureLng, :userDepartureLat), 4326))) AS total_distance, " +
+        "  ABS(TIMESTAMPDIFF(MINUTE, p.start_date_time, :refTime)) AS time_gap " +
+        " FROM party p " +
+        " WHERE p.is_deleted = false AND p.start_date_time >= NOW() AND (p.status IS NULL OR p.status = 'RECRUITING') " +
+        " AND MBRContains(ST_GeomFromText(:departureBox, 4326, 'axis-order=long-lat'), p.start_point) " +
+        " AND p.party_id NOT IN (SELECT pm.party_id FROM party_member pm WHERE pm.member_id = :memberId)" +
+        ") t " +
+        "WHERE t.total_distance > :lastScore " +
+        "OR (t.total_distance = :lastScore AND (t.time_gap > :lastGap OR (t.time_gap = :lastGap AND t.party_id > :lastId))) " +
+        "ORDER BY t.total_distance ASC, t.time_gap ASC, t.party_id ASC " +
+        "LIMIT :limit",
+        nativeQuery = true)
+    List<ScoredPartyRow> findCustomPartyScoresByDepartureAfter(
+        @Param("memberId") Long memberId,
+        @Param("userDepartureLng") Double userDepartureLng,
+        @Param("userDepartureLat") Double userDepartureLat,
+        @Param("departureBox") String departureBox,
+        @Param("refTime") LocalDateTime refTime,
+        @Param("lastScore") long lastScore,
+        @Param("lastGap") long lastGap,
+        @Param("lastId") long lastId,
+        @Param("limit") int limit
+    );
+
+    @Query("SELECT p FROM party_member pm JOIN pm.party p WHERE pm.member.id = :memberId AND p.isDeleted = false " +
         "ORDER BY " +
         // 1. 종료되지 않은 파티(1)가 종료된 파티(2)보다 먼저 오도록 정렬
         "CASE WHEN p.startDateTime >= :now THEN 1 ELSE 2 END ASC, " +
@@ -125,15 +298,147 @@ public interface PartyRepository extends JpaRepository<PartyEntity, Long> {
     List<PartyEntity> findAllByMemberIdSorted(@Param("memberId") Long memberId, @Param("now") LocalDateTime now);
 
     /**
-     * 출발 알림을 보내야 하는 파티 목록을 조회합니다.
-     * @param after 지금으로부터 10분 뒤 시간
-     * @param before 지금으로부터 11분 뒤 시간
-     * @return 조건에 맞는 파티 엔티티 목록
+     * 인메모리 검색 인덱스 구성을 위해 출발 전인 활성 파티를 조회합니다.
+     * @param now 현재 시간
+     * @return 삭제되지 않고 출발 시간이 지나지 않은 모집 중 파티 엔티티 목록
      */
-    @Query("SELECT p FROM party p WHERE p.isDeleted = false AND p.departureNotificationSent = false AND p.startDateTime > :after AND p.startDateTime <= :before")
-    List<PartyEntity> findPartiesForDepartureReminder(
-        @Param("after") LocalDateTime after,
-        @Param("before") LocalDateTime before
-    );
+    @Query("SELECT p FROM party p WHERE p.isDeleted = false AND p.startDateTime >= :now " +
+        "AND (p.status IS NULL OR p.status = 'RECRUITING')")
+    List<PartyEntity> findAllActive(@Param("now") LocalDateTime now);
+
+    /**
+     * 정원이 남아 있고 삭제되지 않은 모집 중 파티의 좌석 하나를 단일 UPDATE로 확보합니다.
+     * 엔티티 기반 참여(낙관적 락)와 함께 쓰일 수 있도록 버전도 올립니다.
+     * @param partyId 파티 ID
+     * @return 확보에 성공하면 1, 정원 초과/삭제/모집 종료/없는 파티면 0
+     */
+    @Modifying
+    @Query("UPDATE party p SET p.currentParticipantCount = p.currentParticipantCount + 1, p.version = p.version + 1 " +
+        "WHERE p.id = :partyId AND p.isDeleted = false AND p.currentParticipantCount < p.maxParticipantCount " +
+        "AND (p.status IS NULL OR p.status = 'RECRUITING')")
+    int claimSeat(@Param("partyId") Long partyId);
+
+    /**
+     * 출발 시각이 [departedAfter, departedBefore) 구간인 미정산 파티를 ID 순으로 조회합니다(ID 키셋 페이지).
+     * departedAfter가 null이면 하한 없이 조회합니다(백필).
+     */
+    @Query("SELECT p FROM party p WHERE p.isDeleted = false AND p.savingsCalculated = false " +
+        "AND (:departedAfter IS NULL OR p.startDateTime >= :departedAfter) " +
+        "AND p.startDateTime < :departedBefore AND p.id > :afterId ORDER BY p.id ASC")
+    List<PartyEntity> findUnsettledDepartedAfter(@Param("departedAfter") LocalDateTime departedAfter,
+        @Param("departedBefore") LocalDateTime departedBefore,
+        @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 주어진 파티 중 아직 정산되지 않은 파티를 쓰기 락으로 조회합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM party p WHERE p.id IN :ids AND p.savingsCalculated = false")
+    List<PartyEntity> lockUnsettledByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 파티들을 정산 완료로 표시합니다. 동시에 진행 중인 수동 정산이 충돌하도록 버전을 올립니다.
+     */
+    @Modifying
+    @Query("UPDATE party p SET p.savingsCalculated = true, p.version = p.version + 1 WHERE p.id IN :ids")
+    int markSavingsCalculated(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 예상 요금이 아직 계산 중(null)인 파티에만 요금을 기록합니다.
+     * 요금은 참여 경합과 무관하므로 버전을 올리지 않습니다.
+     *
+     * @return 갱신된 행 수(이미 기록되었거나 파티가 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE party p SET p.estimatedFare = :fare WHERE p.id = :partyId AND p.estimatedFare IS NULL")
+    int updateEstimatedFareIfPending(@Param("partyId") Long partyId, @Param("fare") long fare);
+
+    /**
+     * 출발 알림을 아직 보내지 않았고 출발 시각이 {@code after} 이후인 파티를 조회합니다(알림 큐 대조용).
+     */
+    @Query("SELECT p.id AS id, p.startDateTime AS startDateTime FROM party p " +
+        "WHERE p.isDeleted = false AND p.departureNotificationSent = false AND p.startDateTime > :after")
+    List<PartyStartRow> findReminderPending(@Param("after") LocalDateTime after);
+
+    /**
+     * 종료되지 않은 활성 파티 중 출발 시각이 {@code after} 이후인 파티를 조회합니다(생명주기 휠 구성용).
+     */
+    @Query("SELECT p.id AS id, p.startDateTime AS startDateTime FROM party p " +
+        "WHERE p.isDeleted = false AND (p.status IS NULL OR p.status <> 'CLOSED') AND p.startDateTime > :after")
+    List<PartyStartRow> findLifecyclePending(@Param("after") LocalDateTime after);
+
+    /**
+     * 출발 시각이 지났는데 아직 모집 중인 파티 ID를 조회합니다(누락된 출발 전환 보정용).
+     */
+    @Query("SELECT p.id FROM party p WHERE p.isDeleted = false AND (p.status IS NULL OR p.status = 'RECRUITING') " +
+        "AND p.startDateTime <= :now ORDER BY p.id ASC")
+    List<Long> findOverdueDepartureIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 종료 시각이 지났는데 아직 종료되지 않은 파티 ID를 조회합니다(누락된 종료 전환 보정용).
+     */
+    @Query("SELECT p.id FROM party p WHERE (p.status IS NULL OR p.status <> 'CLOSED') " +
+        "AND p.startDateTime <= :startedBefore ORDER BY p.id ASC")
+    List<Long> findOverdueCloseIds(@Param("startedBefore") LocalDateTime startedBefore, Pageable pageable);
+
+    /**
+     * 출발 시각이 지난 모집 중 파티들을 출발 상태로 전환합니다. 다른 인스턴스의 휠이 변경 전 출발 시각으로
+     * 호출해도, 출발 시각이 뒤로 미뤄진 파티는 전환하지 않습니다.
+     */
+    @Modifying
+    @Query("UPDATE party p SET p.status = 'DEPARTED' " +
+        "WHERE p.id IN :ids AND p.isDeleted = false AND (p.status IS NULL OR p.status = 'RECRUITING') " +
+        "AND p.startDateTime <= :now")
+    int markDeparted(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * {@code startedBefore} 이전에 출발한 파티들을 종료 상태로 전환합니다(출발 시각이 미뤄진 파티는 제외).
+     */
+    @Modifying
+    @Query("UPDATE party p SET p.status = 'CLOSED' WHERE p.id IN :ids AND (p.status IS NULL OR p.status <> 'CLOSED') " +
+        "AND p.startDateTime <= :startedBefore")
+    int markClosed(@Param("ids") Collection<Long> ids, @Param("startedBefore") LocalDateTime startedBefore);
+
+    /**
+     * 주어진 파티 중 출발 알림을 아직 보내지 않은 활성 파티를 쓰기 락으로 조회합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM party p WHERE p.id IN :ids AND p.isDeleted = false AND p.departureNotificationSent = false")
+    List<PartyEntity> lockReminderPendingByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 파티들의 출발 알림 발송 여부를 한 번에 표시합니다.
+     */
+    @Modifying
+    @Query("UPDATE party p SET p.departureNotificationSent = true WHERE p.id IN :ids")
+    int markDepartureNotificationSent(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 파티 공지사항만 갱신합니다. 참여 경합과 무관한 필드이므로 버전은 올리지 않습니다.
+     */
+    @Modifying
+    @Query("UPDATE party p SET p.notification = :notification, p.lastModifiedAt = :now WHERE p.id = :partyId")
+    int updateNotification(@Param("partyId") Long partyId, @Param("notification") String notification,
+        @Param("now") LocalDateTime now);
+
+    /**
+     * 출발 시간이 기준 이전인 보관 대상 파티 ID를 출발 시간 순으로 조회합니다. 삭제된 파티도 포함합니다.
+     */
+    @Query("SELECT p.id FROM party p WHERE p.startDateTime < :before ORDER BY p.startDateTime ASC, p.id ASC")
+    List<Long> findArchivableIds(@Param("before") LocalDateTime before, Pageable pageable);
+
+    /**
+     * 주어진 파티 중 아직 보관 대상인 파티를 쓰기 락으로 조회합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM party p WHERE p.id IN :ids AND p.startDateTime < :before")
+    List<PartyEntity> lockArchivableByIdIn(@Param("ids") Collection<Long> ids, @Param("before") LocalDateTime before);
+
+    /**
+     * 보관 테이블로 옮긴 파티 행을 삭제합니다. 메시지/참여 행을 먼저 삭제해야 합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM party p WHERE p.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 
 }
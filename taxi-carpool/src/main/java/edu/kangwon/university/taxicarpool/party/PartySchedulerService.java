@@ -1,66 +1,105 @@
 package edu.kangwon.university.taxicarpool.party;
 
-import edu.kangwon.university.taxicarpool.fcm.FcmPushService;
 import edu.kangwon.university.taxicarpool.fcm.dto.PushMessageDTO;
-import edu.kangwon.university.taxicarpool.member.MemberEntity;
-import lombok.RequiredArgsConstructor;
+import edu.kangwon.university.taxicarpool.outbox.OutboxService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class PartySchedulerService {
 
     private final PartyRepository partyRepository;
-    private final FcmPushService fcmPushService;
+    private final PartyMemberRepository partyMemberRepository;
+    private final PartyReminderQueue partyReminderQueue;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final int reminderBatchSize;
+
+    public PartySchedulerService(PartyRepository partyRepository, PartyMemberRepository partyMemberRepository,
+        PartyReminderQueue partyReminderQueue, OutboxService outboxService,
+        PlatformTransactionManager transactionManager,
+        @Value("${party.reminder.batch-size:100}") int reminderBatchSize) {
+        this.partyRepository = partyRepository;
+        this.partyMemberRepository = partyMemberRepository;
+        this.partyReminderQueue = partyReminderQueue;
+        this.outboxService = outboxService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reminderBatchSize = reminderBatchSize;
+    }
 
     /**
-     * 매분 0초에 실행되어 출발 10분 전인 파티의 멤버들에게 알림을 보냅니다.
-     * (cron = "초 분 시 일 월 요일")
+     * 출발 알림 큐에서 알림 시각이 도래한 파티를 꺼내 멤버들에게 알림을 보냅니다.
+     *
+     * <p>큐에서 꺼내는 동작이 원자적이라 여러 인스턴스가 동시에 실행해도 같은 파티를 한 곳만 처리하며,
+     * 발송 여부 플래그를 행 잠금 후 한 번에 갱신하고 푸시는 같은 트랜잭션에서 아웃박스에 기록합니다.</p>
+     *
+     * <p>꺼내기(Redis)는 트랜잭션 밖에서 하고 도래한 항목이 있을 때만 트랜잭션을 엽니다. 트랜잭션이 롤백되면
+     * 꺼낸 ID를 큐에 되돌려 다시 처리합니다.</p>
      */
-    @Scheduled(cron = "0 * * * * *") // 매분 0초에 실행
-    @Transactional
+    @Scheduled(fixedDelayString = "${party.reminder.poll-ms:1000}")
     public void sendDepartureReminders() {
-        // 1. 10분 ~ 11분 뒤 출발하는 파티 조회
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime after10Minutes = now.plusMinutes(10);
-        LocalDateTime before11Minutes = now.plusMinutes(11);
+        // 1. 알림 시각이 도래한 파티 꺼내기
+        List<Long> dueIds = partyReminderQueue.claimDue(reminderBatchSize);
+        if (dueIds.isEmpty()) {
+            return;
+        }
 
-        List<PartyEntity> parties = partyRepository.findPartiesForDepartureReminder(after10Minutes, before11Minutes);
+        try {
+            transactionTemplate.executeWithoutResult(status -> sendReminders(dueIds));
+        } catch (RuntimeException e) {
+            log.warn("출발 알림 {}건 처리 실패, 큐에 되돌립니다: {}", dueIds.size(), e.getMessage());
+            partyReminderQueue.requeue(dueIds);
+        }
+    }
 
+    private void sendReminders(List<Long> dueIds) {
+        // 2. 아직 알림을 보내지 않은 활성 파티만 잠그고 발송 완료로 표시 (중복 방지)
+        List<PartyEntity> parties = partyRepository.lockReminderPendingByIdIn(dueIds);
+        if (parties.isEmpty()) {
+            return;
+        }
+        partyRepository.markDepartureNotificationSent(parties.stream().map(PartyEntity::getId).toList());
+
+        // 3. 대상 파티들의 멤버 ID를 한 번에 조회
+        Map<Long, List<Long>> memberIdsByParty = partyMemberRepository.findRowsByPartyIdIn(
+                parties.stream().map(PartyEntity::getId).toList()).stream()
+            .collect(Collectors.groupingBy(PartyMemberRow::getPartyId,
+                Collectors.mapping(PartyMemberRow::getMemberId, Collectors.toList())));
+
+        LocalDateTime now = LocalDateTime.now();
         for (PartyEntity party : parties) {
-            // 2. 파티 멤버 ID 목록 추출
-            List<Long> memberIds = party.getMemberEntities().stream()
-                .map(MemberEntity::getId)
-                .collect(Collectors.toList());
+            List<Long> memberIds = memberIdsByParty.getOrDefault(party.getId(), List.of());
 
             if (memberIds.isEmpty()) {
                 continue; // 멤버가 없으면 건너뛰기
             }
 
-            // 3. 푸시 메시지 생성
+            // 4. 푸시 메시지 생성
             String formattedDepartureTime = party.getStartDateTime().format(DateTimeFormatter.ofPattern("HH:mm"));
             String destinationName = party.getEndPlace().getName();
+            long minutesLeft = Math.max(1, Duration.between(now, party.getStartDateTime()).toMinutes());
             PushMessageDTO pushMessage = PushMessageDTO.builder()
                 .title("곧 택시가 출발해요! 🚕")
                 // 본문 내용을 party.getName() 대신 destinationName으로 변경
-                .body(String.format("%s행 카풀이 10분 뒤(%s) 출발합니다. 늦지 않게 준비해주세요!",
-                    destinationName, formattedDepartureTime))
+                .body(String.format("%s행 카풀이 %d분 뒤(%s) 출발합니다. 늦지 않게 준비해주세요!",
+                    destinationName, minutesLeft, formattedDepartureTime))
                 .type("DEPARTURE_REMINDER")
                 .build();
             pushMessage.getData().put("partyId", String.valueOf(party.getId()));
 
-            // 4. FCM 푸시 발송
-            fcmPushService.sendPushToUsers(memberIds, pushMessage);
-
-            // 5. 알림 발송 완료 플래그 업데이트 (중복 방지)
-            party.setDepartureNotificationSent(true);
-            partyRepository.save(party);
+            // 5. FCM 푸시 발송 (커밋 이후 아웃박스에서 발송)
+            outboxService.enqueuePush(party.getId(), memberIds, pushMessage);
         }
     }
-}
\ No newline at end of file
+}
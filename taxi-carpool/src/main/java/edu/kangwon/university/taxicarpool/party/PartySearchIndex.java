@@ -0,0 +1,334 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import edu.kangwon.university.taxicarpool.party.PartyUtil.PartyCursor;
+import edu.kangwon.university.taxicarpool.party.PartyUtil.PartyScore;
+import edu.kangwon.university.taxicarpool.party.PartyUtil.PartySearchFilter;
+import edu.kangwon.university.taxicarpool.party.PartyUtil.PartyUtil;
+import edu.kangwon.university.taxicarpool.party.PartyUtil.SearchVariant;
+import edu.kangwon.university.taxicarpool.transaction.AfterCommit;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 출발 전인 활성 파티의 인메모리 공간 인덱스입니다.
+ *
+ * <p>출발지/도착지 좌표를 검색 반경 크기의 격자 셀로 버킷팅하여, 커스텀 검색 시 바운딩 박스에 걸친 셀만
+ * 확인한 뒤 메모리에서 거리/시간 순으로 정렬합니다. {@link PartyService}의 생성/수정/삭제/참여/퇴장 시 갱신되며,
+ * 트랜잭션 안에서 호출되면 커밋된 뒤에만 반영하므로 롤백된 변경은 인덱스에 남지 않습니다.
+ * 다른 인스턴스에서 발생한 변경은 주기적인 DB 재적재로 반영됩니다. 적재 전이거나 비활성화된 경우
+ * {@link #isReady()}가 false를 반환하며, 이때 서비스는 DB 쿼리로 조회합니다.</p>
+ */
+@Slf4j
+@Component
+public class PartySearchIndex {
+
+    private final PartyRepository partyRepository;
+    private final PartyMemberRepository partyMemberRepository;
+    private final boolean enabled;
+    private final double radiusMeters;
+    private final double cellDegrees;
+
+    private volatile Grid grid = new Grid();
+    private volatile boolean ready = false;
+
+    public PartySearchIndex(PartyRepository partyRepository, PartyMemberRepository partyMemberRepository,
+        @Value("${party.search.index.enabled:true}") boolean enabled,
+        @Value("${party.search.radius-meters:5000}") double radiusMeters) {
+        this.partyRepository = partyRepository;
+        this.partyMemberRepository = partyMemberRepository;
+        this.enabled = enabled;
+        this.radiusMeters = radiusMeters;
+        this.cellDegrees = radiusMeters / 111_320.0;
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * DB의 활성 파티로 인덱스를 다시 구성합니다. 기동 직후 및 주기적으로 실행됩니다.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${party.search.index.refresh-ms:30000}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<PartyEntity> parties = partyRepository.findAllActive(now);
+            Map<Long, Set<Long>> membersByParty = partyMemberRepository.findActiveRows(now).stream()
+                .collect(Collectors.groupingBy(PartyMemberRow::getPartyId,
+                    Collectors.mapping(PartyMemberRow::getMemberId, Collectors.toUnmodifiableSet())));
+            Grid fresh = new Grid();
+            for (PartyEntity party : parties) {
+                IndexedParty indexed = toIndexed(party, membersByParty.getOrDefault(party.getId(), Set.of()));
+                if (indexed != null) {
+                    fresh.put(indexed);
+                }
+            }
+            this.grid = fresh;
+            this.ready = true;
+            log.debug("파티 검색 인덱스 재구성 완료: {}건", parties.size());
+        } catch (Exception e) {
+            log.warn("파티 검색 인덱스 재구성 실패, DB 조회로 대체합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 파티 생성/수정/참여/퇴장 시 인덱스를 갱신합니다. 삭제되었거나 출발했거나 모집이 끝난 파티는 제거합니다.
+     * 스냅샷(멤버 목록 포함)은 호출 시점에 만들고, 트랜잭션 안에서 호출되면 커밋 이후에 반영합니다.
+     */
+    public void upsert(PartyEntity party) {
+        if (!enabled || party.getId() == null) {
+            return;
+        }
+        if (party.isDeleted() || !party.isRecruiting() || party.getStartDateTime() == null
+            || party.getStartDateTime().isBefore(LocalDateTime.now())) {
+            remove(party.getId());
+            return;
+        }
+        IndexedParty indexed = toIndexed(party, Set.copyOf(partyMemberRepository.findMemberIdsByPartyId(party.getId())));
+        if (indexed != null) {
+            AfterCommit.run(() -> grid.put(indexed));
+        }
+    }
+
+    /** 파티를 인덱스에서 제거합니다. 트랜잭션 안에서 호출되면 커밋 이후에 제거합니다. */
+    public void remove(Long partyId) {
+        if (!enabled || partyId == null) {
+            return;
+        }
+        AfterCommit.run(() -> grid.remove(partyId));
+    }
+
+    /**
+     * DB에서 삭제되었거나 없는 것으로 확인된 파티를 즉시 제거합니다. 커밋된 상태를 읽고 확인한 것이므로 커밋을 기다리지 않습니다.
+     */
+    public void evictStale(Collection<Long> partyIds) {
+        if (!enabled) {
+            return;
+        }
+        partyIds.forEach(grid::remove);
+    }
+
+    /**
+     * 검색 조건에 맞는 파티 ID를 DB 커스텀 검색 쿼리와 같은 순서로 정렬하여 페이지로 반환합니다.
+     */
+    public Page<Long> search(Long memberId, PartySearchFilter f, SearchVariant variant, Pageable pageable) {
+        List<Scored> scored = collect(memberId, f, variant);
+
+        Comparator<Scored> order = Comparator.comparingDouble(Scored::getDistance);
+        order = (variant == SearchVariant.NO_TIME)
+            ? order.thenComparing(s -> s.getParty().getStartDateTime())
+            : order.thenComparingLong(Scored::getMinutesApart);
+        scored.sort(order);
+
+        int from = (int) Math.min(pageable.getOffset(), scored.size());
+        int to = Math.min(from + pageable.getPageSize(), scored.size());
+        List<Long> pageIds = scored.subList(from, to).stream()
+            .map(s -> s.getParty().getId())
+            .toList();
+
+        return new PageImpl<>(pageIds, pageable, scored.size());
+    }
+
+    /**
+     * 커서 이후의 검색 결과를 (거리, 기준 시각과의 차이(분), 파티 ID) 순으로 최대 {@code limit}건 반환합니다.
+     *
+     * <p>정렬 키는 DB 커서 쿼리와 같은 방식(같은 지구 반지름의 하버사인 거리, 정수 미터로 버림)으로 계산되며,
+     * 전체 개수는 세지 않습니다.</p>
+     *
+     * @param refTime 시간 차이 계산 기준 시각(출발 시간 미입력 시 첫 페이지 조회 시각)
+     * @param after 마지막으로 반환한 결과의 커서
+     * @param limit 최대 반환 건수
+     */
+    public List<PartyScore> searchAfter(Long memberId, PartySearchFilter f, SearchVariant variant,
+        LocalDateTime refTime, PartyCursor after, int limit) {
+        return collect(memberId, f, variant).stream()
+            .map(s -> new PartyScore(s.getParty().getId(), (long) Math.floor(s.getDistance()),
+                Math.abs(Duration.between(s.getParty().getStartDateTime(), refTime).toMinutes())))
+            .filter(s -> s.isAfter(after))
+            .sorted(Comparator.comparingLong(PartyScore::getDistance)
+                .thenComparingLong(PartyScore::getGap)
+                .thenComparing(PartyScore::getPartyId))
+            .limit(limit)
+            .toList();
+    }
+
+    private List<Scored> collect(Long memberId, PartySearchFilter f, SearchVariant variant) {
+        Grid current = this.grid;
+        LocalDateTime now = LocalDateTime.now();
+
+        Set<Long> candidateIds = switch (variant) {
+            case ALL, NO_TIME -> intersect(
+                current.candidates(current.startCells, f.getDepLng(), f.getDepLat()),
+                current.candidates(current.endCells, f.getDstLng(), f.getDstLat()));
+            case NO_DEPARTURE -> current.candidates(current.endCells, f.getDstLng(), f.getDstLat());
+            case NO_DESTINATION -> current.candidates(current.startCells, f.getDepLng(), f.getDepLat());
+        };
+
+        List<Scored> scored = new ArrayList<>();
+        for (Long id : candidateIds) {
+            IndexedParty p = current.byId.get(id);
+            if (p == null || p.getStartDateTime().isBefore(now) || p.getMemberIds().contains(memberId)) {
+                continue;
+            }
+            if (!matchesBoxes(p, f, variant)) {
+                continue;
+            }
+            scored.add(score(p, f, variant));
+        }
+        return scored;
+    }
+
+    private boolean matchesBoxes(IndexedParty p, PartySearchFilter f, SearchVariant variant) {
+        boolean needStart = variant != SearchVariant.NO_DEPARTURE;
+        boolean needEnd = variant != SearchVariant.NO_DESTINATION;
+        if (needStart && !inBox(p.getStartLng(), p.getStartLat(), f.getDepLng(), f.getDepLat())) {
+            return false;
+        }
+        return !needEnd || inBox(p.getEndLng(), p.getEndLat(), f.getDstLng(), f.getDstLat());
+    }
+
+    private boolean inBox(double lng, double lat, double centerLng, double centerLat) {
+        double[] box = PartyUtil.toBoundingBox(centerLng, centerLat, radiusMeters);
+        return lng >= box[0] && lat >= box[1] && lng <= box[2] && lat <= box[3];
+    }
+
+    private Scored score(IndexedParty p, PartySearchFilter f, SearchVariant variant) {
+        double distance = 0;
+        if (variant != SearchVariant.NO_DEPARTURE) {
+            distance += PartyUtil.distanceMeters(p.getStartLng(), p.getStartLat(), f.getDepLng(), f.getDepLat());
+        }
+        if (variant != SearchVariant.NO_DESTINATION) {
+            distance += PartyUtil.distanceMeters(p.getEndLng(), p.getEndLat(), f.getDstLng(), f.getDstLat());
+        }
+        long minutesApart = f.hasTime()
+            ? Math.abs(Duration.between(p.getStartDateTime(), f.getDepTime()).toMinutes())
+            : 0L;
+        return new Scored(p, distance, minutesApart);
+    }
+
+    private Set<Long> intersect(Set<Long> a, Set<Long> b) {
+        Set<Long> smaller = a.size() <= b.size() ? a : b;
+        Set<Long> larger = (smaller == a) ? b : a;
+        return smaller.stream().filter(larger::contains).collect(Collectors.toSet());
+    }
+
+    private IndexedParty toIndexed(PartyEntity party, Set<Long> memberIds) {
+        if (party.getStartPlace() == null || party.getEndPlace() == null) {
+            return null;
+        }
+        return new IndexedParty(
+            party.getId(),
+            party.getStartPlace().getX(), party.getStartPlace().getY(),
+            party.getEndPlace().getX(), party.getEndPlace().getY(),
+            party.getStartDateTime(),
+            memberIds
+        );
+    }
+
+    private long cellKey(double lng, double lat) {
+        long cx = (long) Math.floor(lng / cellDegrees);
+        long cy = (long) Math.floor(lat / cellDegrees);
+        return (cx << 32) ^ (cy & 0xffffffffL);
+    }
+
+    /** 파티 ID → 스냅샷, 격자 셀 → 파티 ID 집합(출발지/도착지 각각) */
+    private class Grid {
+
+        private final Map<Long, IndexedParty> byId = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> startCells = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> endCells = new ConcurrentHashMap<>();
+
+        synchronized void put(IndexedParty party) {
+            remove(party.getId());
+            byId.put(party.getId(), party);
+            startCells.computeIfAbsent(cellKey(party.getStartLng(), party.getStartLat()),
+                k -> ConcurrentHashMap.newKeySet()).add(party.getId());
+            endCells.computeIfAbsent(cellKey(party.getEndLng(), party.getEndLat()),
+                k -> ConcurrentHashMap.newKeySet()).add(party.getId());
+        }
+
+        synchronized void remove(Long partyId) {
+            IndexedParty old = byId.remove(partyId);
+            if (old == null) {
+                return;
+            }
+            removeFromCell(startCells, cellKey(old.getStartLng(), old.getStartLat()), partyId);
+            removeFromCell(endCells, cellKey(old.getEndLng(), old.getEndLat()), partyId);
+        }
+
+        private void removeFromCell(Map<Long, Set<Long>> cells, long key, Long partyId) {
+            Set<Long> ids = cells.get(key);
+            if (ids != null) {
+                ids.remove(partyId);
+                if (ids.isEmpty()) {
+                    cells.remove(key);
+                }
+            }
+        }
+
+        /** 중심 좌표의 바운딩 박스에 걸친 셀들의 파티 ID */
+        Set<Long> candidates(Map<Long, Set<Long>> cells, double lng, double lat) {
+            double[] box = PartyUtil.toBoundingBox(lng, lat, radiusMeters);
+            long minX = (long) Math.floor(box[0] / cellDegrees);
+            long maxX = (long) Math.floor(box[2] / cellDegrees);
+            long minY = (long) Math.floor(box[1] / cellDegrees);
+            long maxY = (long) Math.floor(box[3] / cellDegrees);
+
+            Set<Long> result = new HashSet<>();
+            for (long cx = minX; cx <= maxX; cx++) {
+                for (long cy = minY; cy <= maxY; cy++) {
+                    Set<Long> ids = cells.get((cx << 32) ^ (cy & 0xffffffffL));
+                    if (ids != null) {
+                        result.addAll(ids);
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class IndexedParty {
+
+        private final Long id;
+        private final double startLng;
+        private final double startLat;
+        private final double endLng;
+        private final double endLat;
+        private final LocalDateTime startDateTime;
+        private final Set<Long> memberIds;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Scored {
+
+        private final IndexedParty party;
+        private final double distance;
+        private final long minutesApart;
+    }
+}
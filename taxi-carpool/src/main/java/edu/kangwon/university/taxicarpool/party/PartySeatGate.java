@@ -0,0 +1,193 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import edu.kangwon.university.taxicarpool.transaction.AfterCommit;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파티 참여 요청을 DB 트랜잭션 전에 걸러내는 Redis 좌석 게이트입니다.
+ *
+ * <p>파티별 멤버 Sorted Set과 최대 인원 키를 두고, Lua 스크립트 한 번의 왕복으로 중복 참여/정원 초과를 판정하고
+ * 좌석을 선점합니다. 선점에 성공한 요청만 DB 참여 트랜잭션으로 진행하므로 인기 파티에 요청이 몰려도
+ * 대부분의 실패 요청은 락 대기나 DB 접근 없이 바로 거절됩니다.</p>
+ *
+ * <p>멤버의 점수는 만료 시각(epoch ms)입니다. DB에 있는 멤버와 참여가 확정된 멤버는 만료되지 않고({@code +inf}),
+ * 선점만 한 멤버는 {@code reservation-ttl-seconds} 뒤 만료되어 다음 판정 때 스크립트 안에서 제거됩니다.
+ * 따라서 선점 후 반환하지 못하고 중단된 인스턴스의 좌석도 요청이 계속 몰리는 파티에서 스스로 풀립니다.
+ * 키 전체의 TTL은 채울 때 정한 뒤 연장하지 않습니다.</p>
+ *
+ * <p>키가 없으면 DB의 현재 멤버/정원으로 채운 뒤 다시 판정하며, 퇴장/삭제/정원 변경 시에는 키를 지워
+ * 다음 요청에서 다시 채웁니다. DB가 최종 기준이므로 Redis 장애 시에는 게이트를 통과시킵니다.</p>
+ */
+@Slf4j
+@Component
+public class PartySeatGate {
+
+    public enum Reservation {
+        RESERVED,   // 좌석 선점 성공
+        FULL,       // 정원 초과
+        DUPLICATE,  // 이미 참여(또는 선점)한 멤버
+        BYPASS      // 게이트 비활성/Redis 장애/파티 없음: DB에서 판정
+    }
+
+    // ARGV: 멤버 ID, 현재 시각(ms), 선점 만료 시각(ms)
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+        local max = redis.call('GET', KEYS[2])
+        if not max then return -1 end
+        redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[2])
+        if redis.call('ZSCORE', KEYS[1], ARGV[1]) then return 2 end
+        if redis.call('ZCARD', KEYS[1]) >= tonumber(max) then return 0 end
+        redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1])
+        local ttl = redis.call('PTTL', KEYS[2])
+        if ttl > 0 then redis.call('PEXPIRE', KEYS[1], ttl) end
+        return 1
+        """, Long.class);
+
+    // 선점이 남아 있을 때만(XX) 만료되지 않는 좌석으로 바꿈
+    private static final RedisScript<Long> CONFIRM_SCRIPT = new DefaultRedisScript<>("""
+        return redis.call('ZADD', KEYS[1], 'XX', '+inf', ARGV[1])
+        """, Long.class);
+
+    // ARGV: 최대 인원, 키 TTL(초), DB 멤버 ID...
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[2]) == 1 then return 0 end
+        redis.call('DEL', KEYS[1])
+        for i = 3, #ARGV do redis.call('ZADD', KEYS[1], '+inf', ARGV[i]) end
+        if #ARGV >= 3 then redis.call('EXPIRE', KEYS[1], ARGV[2]) end
+        redis.call('SET', KEYS[2], ARGV[1], 'EX', ARGV[2])
+        return 1
+        """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PartyRepository partyRepository;
+    private final PartyMemberRepository partyMemberRepository;
+    private final boolean enabled;
+    private final long ttlSeconds;
+    private final long reservationTtlMillis;
+
+    public PartySeatGate(RedisTemplate<String, String> redisTemplate,
+        PartyRepository partyRepository, PartyMemberRepository partyMemberRepository,
+        @Value("${party.join.seat-gate.enabled:true}") boolean enabled,
+        @Value("${party.join.seat-gate.ttl-seconds:600}") long ttlSeconds,
+        @Value("${party.join.seat-gate.reservation-ttl-seconds:30}") long reservationTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.partyRepository = partyRepository;
+        this.partyMemberRepository = partyMemberRepository;
+        this.enabled = enabled;
+        this.ttlSeconds = ttlSeconds;
+        this.reservationTtlMillis = reservationTtlSeconds * 1000;
+    }
+
+    /**
+     * 좌석 선점을 시도합니다. {@link Reservation#RESERVED}를 받은 호출자는 DB 참여가 성공하면
+     * {@link #confirm(Long, Long)}로 확정하고, 실패하면 {@link #release(Long, Long)}로 반환해야 합니다.
+     */
+    public Reservation tryReserve(Long partyId, Long memberId) {
+        if (!enabled) {
+            return Reservation.BYPASS;
+        }
+        try {
+            Long result = reserve(partyId, memberId);
+            if (result == null || result == -1) {
+                if (!seed(partyId)) {
+                    return Reservation.BYPASS;
+                }
+                result = reserve(partyId, memberId);
+            }
+            if (result == null || result == -1) {
+                return Reservation.BYPASS;
+            }
+            if (result == 0) {
+                return Reservation.FULL;
+            }
+            return (result == 2) ? Reservation.DUPLICATE : Reservation.RESERVED;
+        } catch (Exception e) {
+            log.warn("좌석 게이트 Redis 오류, DB에서 판정합니다. partyId={}: {}", partyId, e.getMessage());
+            return Reservation.BYPASS;
+        }
+    }
+
+    /**
+     * DB 참여가 성공했을 때 선점을 만료되지 않는 좌석으로 확정합니다. 실패하면 선점이 만료되며,
+     * 이후 요청은 DB에서 정원 초과로 거절됩니다.
+     */
+    public void confirm(Long partyId, Long memberId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.execute(CONFIRM_SCRIPT, List.of(membersKey(partyId)), String.valueOf(memberId));
+        } catch (Exception e) {
+            log.warn("좌석 게이트 확정 실패(선점 만료 후 DB에서 판정). partyId={}: {}", partyId, e.getMessage());
+        }
+    }
+
+    /** DB 참여가 실패했을 때 선점한 좌석을 반환합니다. */
+    public void release(Long partyId, Long memberId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.opsForZSet().remove(membersKey(partyId), String.valueOf(memberId));
+        } catch (Exception e) {
+            log.warn("좌석 게이트 반환 실패, 키를 무효화합니다. partyId={}: {}", partyId, e.getMessage());
+            deleteKeys(partyId);
+        }
+    }
+
+    /**
+     * 퇴장/삭제/정원 변경 시 호출하여 다음 참여 요청에서 DB 기준으로 다시 채우게 합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 지워, 커밋 전 상태로 다시 채워지지 않도록 합니다.
+     */
+    public void invalidate(Long partyId) {
+        if (!enabled) {
+            return;
+        }
+        AfterCommit.run(() -> deleteKeys(partyId));
+    }
+
+    private void deleteKeys(Long partyId) {
+        try {
+            redisTemplate.delete(List.of(membersKey(partyId), maxKey(partyId)));
+        } catch (Exception e) {
+            log.warn("좌석 게이트 무효화 실패. partyId={}: {}", partyId, e.getMessage());
+        }
+    }
+
+    private Long reserve(Long partyId, Long memberId) {
+        long now = System.currentTimeMillis();
+        return redisTemplate.execute(RESERVE_SCRIPT,
+            List.of(membersKey(partyId), maxKey(partyId)),
+            String.valueOf(memberId), String.valueOf(now), String.valueOf(now + reservationTtlMillis));
+    }
+
+    private boolean seed(Long partyId) {
+        PartyEntity party = partyRepository.findByIdAndIsDeletedFalse(partyId).orElse(null);
+        if (party == null) {
+            return false;
+        }
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(party.getMaxParticipantCount()));
+        args.add(String.valueOf(ttlSeconds));
+        for (Long memberId : partyMemberRepository.findMemberIdsByPartyId(partyId)) {
+            args.add(String.valueOf(memberId));
+        }
+        redisTemplate.execute(SEED_SCRIPT, List.of(membersKey(partyId), maxKey(partyId)), args.toArray());
+        return true;
+    }
+
+    // 해시 태그({partyId})로 두 키를 같은 슬롯에 두어 클러스터에서도 한 스크립트로 다룰 수 있게 함
+    private String membersKey(Long partyId) {
+        return "party:seat:{" + partyId + "}:members";
+    }
+
+    private String maxKey(Long partyId) {
+        return "party:seat:{" + partyId + "}:max";
+    }
+}
@@ -1,34 +1,56 @@
 package edu.kangwon.university.taxicarpool.party;
 
+import edu.kangwon.university.taxicarpool.archive.PartyArchiveService;
 import edu.kangwon.university.taxicarpool.chatting.ChattingService;
 import edu.kangwon.university.taxicarpool.chatting.MessageType;
-import edu.kangwon.university.taxicarpool.fcm.FcmPushService;
 import edu.kangwon.university.taxicarpool.fcm.dto.PushMessageDTO;
+import edu.kangwon.university.taxicarpool.member.Gender;
 import edu.kangwon.university.taxicarpool.member.MemberEntity;
 import edu.kangwon.university.taxicarpool.member.MemberRepository;
 import edu.kangwon.university.taxicarpool.member.exception.MemberNotFoundException;
+import edu.kangwon.university.taxicarpool.outbox.OutboxService;
+import edu.kangwon.university.taxicarpool.party.PartyUtil.PartyCursor;
+import edu.kangwon.university.taxicarpool.party.PartyUtil.PartyScore;
 import edu.kangwon.university.taxicarpool.party.PartyUtil.PartySearchFilter;
 import edu.kangwon.university.taxicarpool.party.PartyUtil.PartyUtil;
 import edu.kangwon.university.taxicarpool.party.PartyUtil.SearchVariant;
 import edu.kangwon.university.taxicarpool.party.dto.PartyCreateRequestDTO;
+import edu.kangwon.university.taxicarpool.party.dto.PartyCursorResponseDTO;
+import edu.kangwon.university.taxicarpool.party.dto.PartyFareUpdateDTO;
 import edu.kangwon.university.taxicarpool.party.dto.PartyResponseDTO;
 import edu.kangwon.university.taxicarpool.party.dto.PartyUpdateRequestDTO;
+import edu.kangwon.university.taxicarpool.party.partyException.MemberAlreadyInPartyException;
+import edu.kangwon.university.taxicarpool.party.partyException.MemberNotInPartyException;
+import edu.kangwon.university.taxicarpool.party.partyException.PartyAlreadyDeletedException;
 import edu.kangwon.university.taxicarpool.party.partyException.PartyFullException;
+import edu.kangwon.university.taxicarpool.party.partyException.PartyGenderMismatchException;
 import edu.kangwon.university.taxicarpool.party.partyException.PartyInvalidMaxParticipantException;
 import edu.kangwon.university.taxicarpool.party.partyException.PartyNotFoundException;
+import edu.kangwon.university.taxicarpool.party.partyException.PartyNotRecruitingException;
 import edu.kangwon.university.taxicarpool.party.partyException.UnauthorizedHostAccessException;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -37,38 +59,72 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
 public class PartyService {
 
-    @Value("${kakaomobility.api.key}")
-    private String kakaoMobilityApiKey;
+    // 걸러진 파티 때문에 짧아진 검색 페이지를 다시 조회하는 최대 횟수
+    private static final int MAX_PAGE_FILL_ATTEMPTS = 3;
+
+    @Value("${party.search.radius-meters:5000}")
+    private double searchRadiusMeters;
+    @Value("${party.fare.deadline-ms:5000}")
+    private long fareDeadlineMs;
     private final PartyRepository partyRepository;
     private final PartyMapper partyMapper;
     private final MemberRepository memberRepository;
     private final ChattingService chattingService;
-    private final FcmPushService fcmPushService;
+    private final OutboxService outboxService;
     private final PartyAsyncService partyAsyncService;
     private final RedissonClient redissonClient;
     private final PlatformTransactionManager transactionManager;
+    private final PartySearchIndex partySearchIndex;
+    private final PartyMemberRepository partyMemberRepository;
+    private final PartySeatGate partySeatGate;
+    private final PartyReminderQueue partyReminderQueue;
+    private final PartyLifecycleScheduler partyLifecycleScheduler;
+    private final PartySettlementService partySettlementService;
+    private final PartyFareEstimator partyFareEstimator;
+    private final PartyArchiveService partyArchiveService;
+    private final PartyMembershipCache partyMembershipCache;
+    private final Executor dbTaskExecutor;
 
     @Autowired
     PartyService(PartyRepository partyRepository,
         PartyMapper partyMapper,
         MemberRepository memberRepository, ChattingService chattingService,
-        FcmPushService fcmPushService, PartyAsyncService partyAsyncService,
-        RedissonClient redissonClient, PlatformTransactionManager transactionManager
+        OutboxService outboxService, PartyAsyncService partyAsyncService,
+        RedissonClient redissonClient, PlatformTransactionManager transactionManager,
+        PartySearchIndex partySearchIndex, PartyMemberRepository partyMemberRepository,
+        PartySeatGate partySeatGate, PartyReminderQueue partyReminderQueue,
+        PartyLifecycleScheduler partyLifecycleScheduler,
+        PartySettlementService partySettlementService,
+        PartyFareEstimator partyFareEstimator, PartyArchiveService partyArchiveService,
+        PartyMembershipCache partyMembershipCache,
+        @Qualifier("dbTaskExecutor") Executor dbTaskExecutor
     ) {
         this.partyRepository = partyRepository;
         this.partyMapper = partyMapper;
         this.memberRepository = memberRepository;
         this.chattingService = chattingService;
-        this.fcmPushService = fcmPushService;
+        this.outboxService = outboxService;
         this.partyAsyncService = partyAsyncService;
         this.redissonClient = redissonClient;
         this.transactionManager = transactionManager;
+        this.partySearchIndex = partySearchIndex;
+        this.partyMemberRepository = partyMemberRepository;
+        this.partySeatGate = partySeatGate;
+        this.partyReminderQueue = partyReminderQueue;
+        this.partyLifecycleScheduler = partyLifecycleScheduler;
+        this.partySettlementService = partySettlementService;
+        this.partyFareEstimator = partyFareEstimator;
+        this.partyArchiveService = partyArchiveService;
+        this.partyMembershipCache = partyMembershipCache;
+        this.dbTaskExecutor = dbTaskExecutor;
     }
 
     /**
@@ -85,7 +141,7 @@ public class PartyService {
     public PartyResponseDTO getParty(Long partyId) {
         PartyEntity partyEntity = partyRepository.findByIdAndIsDeletedFalse(partyId)
             .orElseThrow(() -> new PartyNotFoundException("해당 파티가 존재하지 않습니다."));
-        return partyMapper.convertToResponseDTO(partyEntity);
+        return toResponseDTO(partyEntity);
     }
 
     /**
@@ -100,17 +156,20 @@ public class PartyService {
     @Transactional(readOnly = true)
     public Page<PartyResponseDTO> getPartyList(Long memberId, Integer page, Integer size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Direction.ASC, "startDateTime"));
-        Page<PartyEntity> partyEntities = partyRepository.findGeneralPartyListNotJoined(
+        Page<PartyListRow> rows = partyRepository.findGeneralPartyListNotJoined(
             memberId, LocalDateTime.now(), pageable
         );
-        return partyEntities.map(partyMapper::convertToResponseDTO);
+        return new PageImpl<>(toResponseDTOs(rows.getContent()), pageable, rows.getTotalElements());
     }
 
     /**
      * 사용자 입력(출발지/도착지/출발시간)을 기준으로 커스텀 필터된 파티 목록을 조회합니다.
      *
      * <p>세 그룹(출발지, 도착지, 출발시간) 중 최소 1개 이상은 필수이며,
-     * 둘 이상 누락 시 예외가 발생합니다. 과거 출발시간은 허용하지 않습니다.</p>
+     * 둘 이상 누락 시 예외가 발생합니다. 과거 출발시간은 허용하지 않습니다.
+     * 입력 좌표 기준 반경({@code party.search.radius-meters}) 바운딩 박스로 공간 인덱스에서 후보를 추린 뒤
+     * 정확한 거리 순으로 정렬합니다. 인메모리 검색 인덱스가 준비된 경우 인덱스에서 정렬한 뒤
+     * 해당 페이지의 파티만 ID로 조회하며, 준비되지 않은 경우 DB 쿼리로 조회합니다.</p>
      *
      * @param userDepartureLng 사용자 출발지 경도(x)
      * @param userDepartureLat 사용자 출발지 위도(y)
@@ -144,39 +203,193 @@ public class PartyService {
 
         Pageable pageable = PageRequest.of(page, size);
 
+        if (partySearchIndex.isReady()) {
+            // 다른 인스턴스에서 삭제된 파티가 인덱스에 남아 있으면 걸러진 만큼 페이지가 짧아지므로, 제거 후 다시 조회
+            for (int attempt = 1; ; attempt++) {
+                Page<Long> partyIds = partySearchIndex.search(memberId, f, variant, pageable);
+                Map<Long, PartyListRow> rows = loadRows(partyIds.getContent());
+                List<Long> stale = missingIds(partyIds.getContent(), rows);
+                if (stale.isEmpty() || attempt == MAX_PAGE_FILL_ATTEMPTS) {
+                    return new PageImpl<>(toResponseDTOs(inOrder(partyIds.getContent(), rows)), pageable,
+                        partyIds.getTotalElements() - stale.size());
+                }
+                partySearchIndex.evictStale(stale);
+            }
+        }
+
         Page<PartyEntity> entities = switch (variant) {
             case ALL -> partyRepository.findCustomPartyList(
                 memberId,
                 f.getDepLng(), f.getDepLat(),
                 f.getDstLng(), f.getDstLat(),
-                f.getDepTime(), pageable
+                f.getDepTime(),
+                PartyUtil.toBoundingBoxWkt(f.getDepLng(), f.getDepLat(), searchRadiusMeters),
+                PartyUtil.toBoundingBoxWkt(f.getDstLng(), f.getDstLat(), searchRadiusMeters),
+                pageable
             );
             case NO_DEPARTURE -> partyRepository.findCustomPartyList(
                 memberId,
                 f.getDstLng(), f.getDstLat(),
-                f.getDepTime(), pageable
+                f.getDepTime(),
+                PartyUtil.toBoundingBoxWkt(f.getDstLng(), f.getDstLat(), searchRadiusMeters),
+                pageable
             );
-            case NO_DESTINATION -> partyRepository.findCustomPartyList(
+            case NO_DESTINATION -> partyRepository.findCustomPartyListByDeparture(
                 memberId,
                 f.getDepLng(), f.getDepLat(),
-                f.getDepTime(), pageable
+                f.getDepTime(),
+                PartyUtil.toBoundingBoxWkt(f.getDepLng(), f.getDepLat(), searchRadiusMeters),
+                pageable
             );
             case NO_TIME -> partyRepository.findCustomPartyList(
                 memberId,
                 f.getDepLng(), f.getDepLat(),
                 f.getDstLng(), f.getDstLat(),
+                PartyUtil.toBoundingBoxWkt(f.getDepLng(), f.getDepLat(), searchRadiusMeters),
+                PartyUtil.toBoundingBoxWkt(f.getDstLng(), f.getDstLat(), searchRadiusMeters),
                 pageable
             );
         };
 
-        return entities.map(partyMapper::convertToResponseDTO);
+        return new PageImpl<>(entitiesToResponseDTOs(entities.getContent()), pageable, entities.getTotalElements());
+
+    }
+
+    /**
+     * 참여하지 않은 파티 목록을 커서 기반으로 조회합니다.
+     *
+     * <p>(출발 시간, 파티 ID) 키셋 이후의 파티를 {@code size + 1}건 조회하여 다음 페이지 존재 여부를 판단하며,
+     * 오프셋 스캔과 전체 개수 조회를 하지 않습니다.</p>
+     *
+     * @param cursor 이전 응답의 {@code nextCursor}, 첫 페이지는 null
+     * @param size 페이지 크기
+     * @return 파티 응답 DTO 목록과 다음 커서
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public PartyCursorResponseDTO getPartyListByCursor(Long memberId, String cursor, Integer size) {
+        LocalDateTime now = LocalDateTime.now();
+        PartyCursor after = (cursor == null || cursor.isBlank())
+            ? PartyCursor.firstByTime(now)
+            : PartyCursor.decodeTime(cursor);
+
+        List<PartyListRow> rows = partyRepository.findGeneralPartyListNotJoinedAfter(
+            memberId, now, after.getTime(), after.getPartyId(), PageRequest.of(0, size + 1)
+        );
 
+        boolean hasNext = rows.size() > size;
+        List<PartyListRow> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            PartyListRow last = content.get(content.size() - 1);
+            nextCursor = PartyCursor.ofTime(last.getStartDateTime(), last.getId()).encodeTime();
+        }
+        return new PartyCursorResponseDTO(toResponseDTOs(content), nextCursor, hasNext);
+    }
+
+    /**
+     * 커스텀 필터된 파티 목록을 커서 기반으로 조회합니다.
+     *
+     * <p>입력 검증은 {@link #getCustomPartyList}와 같으며, (거리 합, 기준 시각과의 차이(분), 파티 ID) 순으로
+     * 정렬합니다. 기준 시각은 출발 시간 입력 시 해당 시간, 미입력 시 첫 페이지 조회 시각이며 커서에 함께 담깁니다.
+     * 인메모리 검색 인덱스가 준비된 경우 인덱스에서, 아니면 DB에서 정렬 키만 조회한 뒤 해당 파티를 ID로 조회합니다.</p>
+     *
+     * @param cursor 이전 응답의 {@code nextCursor}, 첫 페이지는 null
+     * @param size 페이지 크기
+     * @return 파티 응답 DTO 목록과 다음 커서
+     * @throws edu.kangwon.university.taxicarpool.party.partyException.PartyGetCustomException
+     *         입력 조합이 유효하지 않거나 출발시간이 과거인 경우
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public PartyCursorResponseDTO getCustomPartyListByCursor(
+        Long memberId,
+        Double userDepartureLng,
+        Double userDepartureLat,
+        Double userDestinationLng,
+        Double userDestinationLat,
+        LocalDateTime userDepartureTime,
+        String cursor, Integer size) {
+
+        PartySearchFilter f = new PartySearchFilter(
+            userDepartureLng, userDepartureLat,
+            userDestinationLng, userDestinationLat,
+            userDepartureTime
+        );
+
+        PartyUtil.validateSearchFilter(f);
+        SearchVariant variant = PartyUtil.toSearchVariant(f);
+
+        PartyCursor after = (cursor == null || cursor.isBlank())
+            ? PartyCursor.firstByScore(LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES))
+            : PartyCursor.decodeScore(cursor);
+        LocalDateTime refTime = f.hasTime() ? f.getDepTime() : after.getTime();
+
+        // 정렬 키 조회와 파티 조회 사이에 삭제된(또는 인덱스에 남아 있던) 파티가 걸러지면 페이지가 짧아지므로,
+        // 걸러진 파티를 인덱스에서 제거하고 같은 커서에서 다시 조회
+        List<PartyScore> rows;
+        Map<Long, PartyListRow> loaded;
+        for (int attempt = 1; ; attempt++) {
+            rows = partySearchIndex.isReady()
+                ? partySearchIndex.searchAfter(memberId, f, variant, refTime, after, size + 1)
+                : findCustomPartyScoresAfter(memberId, f, variant, refTime, after, size + 1);
+            loaded = loadRows(rows.stream().map(PartyScore::getPartyId).toList());
+            List<Long> stale = missingIds(rows.stream().map(PartyScore::getPartyId).toList(), loaded);
+            if (stale.isEmpty() || attempt == MAX_PAGE_FILL_ATTEMPTS) {
+                Set<Long> staleIds = Set.copyOf(stale);
+                rows = rows.stream().filter(r -> !staleIds.contains(r.getPartyId())).toList();
+                break;
+            }
+            partySearchIndex.evictStale(stale);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<PartyScore> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            PartyScore last = content.get(content.size() - 1);
+            nextCursor = PartyCursor.ofScore(last.getDistance(), last.getGap(), refTime, last.getPartyId())
+                .encodeScore();
+        }
+        return new PartyCursorResponseDTO(
+            toResponseDTOs(inOrder(content.stream().map(PartyScore::getPartyId).toList(), loaded)), nextCursor, hasNext);
+    }
+
+    private List<PartyScore> findCustomPartyScoresAfter(Long memberId, PartySearchFilter f, SearchVariant variant,
+        LocalDateTime refTime, PartyCursor after, int limit) {
+        List<PartyRepository.ScoredPartyRow> rows = switch (variant) {
+            case ALL, NO_TIME -> partyRepository.findCustomPartyScoresAfter(
+                memberId,
+                f.getDepLng(), f.getDepLat(),
+                f.getDstLng(), f.getDstLat(),
+                PartyUtil.toBoundingBoxWkt(f.getDepLng(), f.getDepLat(), searchRadiusMeters),
+                PartyUtil.toBoundingBoxWkt(f.getDstLng(), f.getDstLat(), searchRadiusMeters),
+                refTime, after.getScore(), after.getGap(), after.getPartyId(), limit
+            );
+            case NO_DEPARTURE -> partyRepository.findCustomPartyScoresByDestinationAfter(
+                memberId,
+                f.getDstLng(), f.getDstLat(),
+                PartyUtil.toBoundingBoxWkt(f.getDstLng(), f.getDstLat(), searchRadiusMeters),
+                refTime, after.getScore(), after.getGap(), after.getPartyId(), limit
+            );
+            case NO_DESTINATION -> partyRepository.findCustomPartyScoresByDepartureAfter(
+                memberId,
+                f.getDepLng(), f.getDepLat(),
+                PartyUtil.toBoundingBoxWkt(f.getDepLng(), f.getDepLat(), searchRadiusMeters),
+                refTime, after.getScore(), after.getGap(), after.getPartyId(), limit
+            );
+        };
+        return rows.stream()
+            .map(r -> new PartyScore(r.getPartyId(), r.getTotalDistance().longValue(), r.getTimeGap()))
+            .toList();
     }
 
     /**
      * 파티를 생성합니다.
      *
-     * <p>호스트 멤버 ID를 파티에 설정하고, 해당 멤버를 초기 참가자로 등록합니다.</p>
+     * <p>호스트 멤버 ID를 파티에 설정하고, 해당 멤버를 초기 참가자로 등록합니다.
+     * 예상 요금은 외부 API를 기다리지 않도록 비어 있는 상태(null)로 응답하고, 커밋 이후 비동기로 채웁니다.
+     * {@code party.fare.estimator.primary}가 켜져 있으면 거리 기반 추정 요금을 바로 채웁니다.</p>
      *
      * @param createRequestDTO 파티 생성 요청 DTO
      * @param CreatorMemberId 파티 생성자(호스트) 멤버 ID
@@ -197,26 +410,68 @@ public class PartyService {
             throw new IllegalArgumentException("파티방을 만든 멤버의 Id가 null임.");
         }
 
-        CompletableFuture<Long> kakaoFareFuture = partyAsyncService.getKakaoFareAsync(partyEntity);
-        partyAsyncService.updateMemberCountAsync(CreatorMemberId);
-        partyAsyncService.sendFcmNotificationAsync(partyEntity, CreatorMemberId);
+        try {
+            partyAsyncService.sendFcmNotificationAsync(partyEntity, CreatorMemberId);
+        } catch (TaskRejectedException e) {
+            log.warn("푸시 실행기 포화로 파티 생성 알림을 생략합니다. memberId={}", CreatorMemberId);
+        }
 
         MemberEntity member = memberRepository.findById(CreatorMemberId)
             .orElseThrow(() -> new MemberNotFoundException("파티방을 만든 멤버가 존재하지 않습니다."));
+        memberRepository.incrementPartyCreateCount(CreatorMemberId);
 
-        long totalTaxiFare = 0L;
-        try {
-            totalTaxiFare = kakaoFareFuture.get();
-        } catch (Exception e) {
-            log.warn("Kakao API 비동기 작업 실패, 기본값(0)으로 진행: {}", e.getMessage());
+        // 예상 요금은 거리 기반 추정기가 기본이면 바로 채우고, 아니면 null(계산 중)로 저장한 뒤 커밋 이후 비동기로 채움
+        if (partyFareEstimator.isPrimary()) {
+            partyEntity.setEstimatedFare(partyFareEstimator.estimate(partyEntity));
         }
-
-        partyEntity.setEstimatedFare(totalTaxiFare);
-        partyEntity.getMemberEntities().add(member);
         partyEntity.setCurrentParticipantCount(1);
 
         PartyEntity savedPartyEntity = partyRepository.save(partyEntity);
-        return partyMapper.convertToResponseDTO(savedPartyEntity);
+        partyMemberRepository.save(new PartyMemberEntity(savedPartyEntity, member, PartyMemberRole.HOST));
+        partySearchIndex.upsert(savedPartyEntity);
+        partyReminderQueue.schedule(savedPartyEntity.getId(), savedPartyEntity.getStartDateTime());
+        partyLifecycleScheduler.schedule(savedPartyEntity.getId(), savedPartyEntity.getStartDateTime());
+        if (savedPartyEntity.getEstimatedFare() == null) {
+            scheduleFareEstimation(savedPartyEntity);
+        }
+        return toResponseDTO(savedPartyEntity);
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 카카오 예상 요금 조회를 시작합니다.
+     *
+     * <p>응답은 {@code party.fare.deadline-ms} 안에 오지 않으면 거리 기반 추정 요금으로 대체되며, 결과는 아직 요금이 비어 있을 때만 기록하고
+     * {@code /sub/party/{partyId}/fare}로 구독자에게 알립니다.</p>
+     */
+    private void scheduleFareEstimation(PartyEntity party) {
+        Long partyId = party.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                long fallbackFare = partyFareEstimator.estimate(party);
+                try {
+                    partyAsyncService.getKakaoFareAsync(party)
+                        .completeOnTimeout(fallbackFare, fareDeadlineMs, TimeUnit.MILLISECONDS)
+                        .thenAcceptAsync(fare -> applyEstimatedFare(partyId, fare), dbTaskExecutor);
+                } catch (TaskRejectedException e) {
+                    log.warn("외부 HTTP 실행기 포화, 거리 기반 추정 요금을 사용합니다. partyId={}", partyId);
+                    dbTaskExecutor.execute(() -> applyEstimatedFare(partyId, fallbackFare));
+                }
+            }
+        });
+    }
+
+    private void applyEstimatedFare(Long partyId, long fare) {
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                if (partyRepository.updateEstimatedFareIfPending(partyId, fare) == 1) {
+                    outboxService.enqueueBroadcast(partyId, "/sub/party/" + partyId + "/fare",
+                        new PartyFareUpdateDTO(partyId, fare));
+                }
+            });
+        } catch (Exception e) {
+            log.warn("예상 요금 반영 실패. partyId={}: {}", partyId, e.getMessage());
+        }
     }
 
     /**
@@ -234,6 +489,8 @@ public class PartyService {
      *         호스트가 아닌 사용자가 수정하려는 경우
      * @throws edu.kangwon.university.taxicarpool.party.partyException.PartyInvalidMaxParticipantException
      *         현재 인원보다 작은 최대 인원을 설정한 경우
+     * @throws edu.kangwon.university.taxicarpool.party.partyException.PartyNotRecruitingException
+     *         이미 출발했거나 종료된 파티를 수정하려는 경우
      */
     @Transactional
     public PartyResponseDTO updateParty(Long partyId, Long memberId,
@@ -245,14 +502,32 @@ public class PartyService {
             throw new UnauthorizedHostAccessException("호스트만 수정할 수 있습니다.");
         }
 
+        // 출발/종료된 파티는 일정을 바꿔도 상태가 되돌아가지 않으므로 수정 자체를 막는다
+        if (!existingPartyEntity.isRecruiting()) {
+            throw new PartyNotRecruitingException("모집이 끝난 파티는 수정할 수 없습니다.");
+        }
+
         if(existingPartyEntity.getCurrentParticipantCount() > updateRequestDTO.getMaxParticipantCount()) {
             throw new PartyInvalidMaxParticipantException("현재 참여 인원보다 작은 최대 인원으로 설정할 수 없습니다.");
         }
 
+        LocalDateTime previousStart = existingPartyEntity.getStartDateTime();
         partyMapper.convertToEntityByUpdate(existingPartyEntity, updateRequestDTO);
+        boolean startChanged = !Objects.equals(previousStart, existingPartyEntity.getStartDateTime());
+        if (startChanged) {
+            // 출발 시각이 바뀌면 새 시각 기준으로 다시 알림
+            existingPartyEntity.setDepartureNotificationSent(false);
+        }
 
         PartyEntity savedPartyEntity = partyRepository.save(existingPartyEntity);
-        return partyMapper.convertToResponseDTO(savedPartyEntity);
+        partySearchIndex.upsert(savedPartyEntity);
+        partySeatGate.invalidate(partyId);
+        partyMembershipCache.invalidate(partyId);
+        if (startChanged) {
+            partyReminderQueue.schedule(partyId, savedPartyEntity.getStartDateTime());
+            partyLifecycleScheduler.schedule(partyId, savedPartyEntity.getStartDateTime());
+        }
+        return toResponseDTO(savedPartyEntity);
     }
 
     /**
@@ -277,12 +552,16 @@ public class PartyService {
         }
 
         // 알림 대상: 남아있는 파티원(요청자/호스트 제외)
-        List<Long> targetIds = partyEntity.getMemberEntities().stream()
-            .map(MemberEntity::getId)
+        List<Long> targetIds = partyMemberRepository.findMemberIdsByPartyId(partyId).stream()
             .filter(id -> !id.equals(memberId))
             .toList();
 
         partyEntity.setDeleted(true);
+        partySearchIndex.remove(partyId);
+        partySeatGate.invalidate(partyId);
+        partyMembershipCache.invalidate(partyId);
+        partyReminderQueue.cancel(partyId);
+        partyLifecycleScheduler.cancel(partyId);
 
         if (!targetIds.isEmpty()) {
             PushMessageDTO msg = PartyUtil.createPartyPushMessage(
@@ -291,7 +570,7 @@ public class PartyService {
                 "PARTY_DELETED",
                 null
             );
-            fcmPushService.sendPushToUsers(targetIds, msg);
+            outboxService.enqueuePush(partyId, targetIds, msg);
         }
 
         Map<String, Object> response = new HashMap<>();
@@ -329,14 +608,171 @@ public class PartyService {
         MemberEntity member = memberRepository.findById(memberId)
             .orElseThrow(() -> new MemberNotFoundException("해당 멤버가 존재하지 않습니다."));
 
-        party.join(member);
+        if (partyMemberRepository.existsByPartyIdAndMemberId(partyId, memberId)) {
+            throw new MemberAlreadyInPartyException("이미 이 파티에 참여한 멤버입니다.");
+        }
+        Gender hostGender = null;
+        if (party.getOptions() != null && party.getOptions().isSameGenderOnly()) {
+            hostGender = partyMemberRepository.findMemberGender(partyId, party.getHostMemberId())
+                .orElseThrow(() -> new MemberNotInPartyException("데이터 오류: 파티 내에 호스트 정보가 없습니다."));
+        }
+
+        PartyMemberEntity partyMember = party.join(member, hostGender);
+        partyMemberRepository.save(partyMember);
 
         PartyEntity saved = partyRepository.save(party);
+        return afterJoin(saved, member);
+    }
 
-        chattingService.createSystemMessage(saved, member, MessageType.ENTER);
-        sendJoinPushNotification(saved, member, memberId);
+    /**
+     * 락 없이 파티에 참가합니다.
+     *
+     * <p>정원/삭제 여부를 조건으로 한 단일 UPDATE로 좌석을 확보한 뒤 같은 트랜잭션에서 참여 행을 INSERT합니다.
+     * 동시 요청은 해당 파티 행의 쓰기 락에서만 직렬화되므로 분산 락이나 버전 충돌 재시도가 필요 없습니다.
+     * 성별 불일치나 중복 참여로 실패하면 트랜잭션이 롤백되어 확보한 좌석도 반환됩니다.</p>
+     *
+     * @param partyId 파티 ID
+     * @param memberId 참가 멤버 ID
+     * @return 갱신된 파티 응답 DTO
+     * @throws edu.kangwon.university.taxicarpool.party.partyException.PartyNotFoundException
+     *         파티가 존재하지 않는 경우
+     * @throws edu.kangwon.university.taxicarpool.party.partyException.PartyAlreadyDeletedException
+     *         파티가 이미 삭제된 경우
+     * @throws edu.kangwon.university.taxicarpool.member.exception.MemberNotFoundException
+     *         멤버가 존재하지 않는 경우
+     * @throws edu.kangwon.university.taxicarpool.party.partyException.MemberAlreadyInPartyException
+     *         이미 파티에 속한 멤버인 경우
+     * @throws edu.kangwon.university.taxicarpool.party.partyException.PartyFullException
+     *         파티 정원이 가득 찬 경우
+     * @throws edu.kangwon.university.taxicarpool.party.partyException.PartyGenderMismatchException
+     *         동성 전용 파티에 다른 성별이 참가하려는 경우
+     */
+    @Transactional
+    public PartyResponseDTO joinPartyAtomic(Long partyId, Long memberId) {
+        MemberEntity member = memberRepository.findById(memberId)
+            .orElseThrow(() -> new MemberNotFoundException("해당 멤버가 존재하지 않습니다."));
+        if (partyMemberRepository.existsByPartyIdAndMemberId(partyId, memberId)) {
+            throw new MemberAlreadyInPartyException("이미 이 파티에 참여한 멤버입니다.");
+        }
+
+        if (partyRepository.claimSeat(partyId) == 0) {
+            PartyEntity party = partyRepository.findById(partyId)
+                .orElseThrow(() -> new PartyNotFoundException("해당 파티가 존재하지 않습니다."));
+            if (party.isDeleted()) {
+                throw new PartyAlreadyDeletedException("이미 삭제된 파티입니다.");
+            }
+            if (!party.isRecruiting()) {
+                throw new PartyNotRecruitingException("모집이 끝난 파티입니다.");
+            }
+            throw new PartyFullException("현재 파티의 참여 인원수가 가득찼습니다.");
+        }
+
+        // 좌석 확보 UPDATE 이후 조회하므로 증가된 인원 수가 반영된 상태
+        PartyEntity party = partyRepository.findById(partyId)
+            .orElseThrow(() -> new PartyNotFoundException("해당 파티가 존재하지 않습니다."));
+
+        if (party.getOptions() != null && party.getOptions().isSameGenderOnly()) {
+            Gender hostGender = partyMemberRepository.findMemberGender(partyId, party.getHostMemberId())
+                .orElseThrow(() -> new MemberNotInPartyException("데이터 오류: 파티 내에 호스트 정보가 없습니다."));
+            if (hostGender != member.getGender()) {
+                String genderText = (hostGender == Gender.MALE) ? "남성" : "여성";
+                throw new PartyGenderMismatchException(genderText + "만 참여할 수 있는 카풀방입니다.");
+            }
+        }
+
+        try {
+            partyMemberRepository.saveAndFlush(new PartyMemberEntity(party, member, PartyMemberRole.MEMBER));
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 멤버의 참여 요청이 들어온 경우 (party_id, member_id) 키 충돌
+            throw new MemberAlreadyInPartyException("이미 이 파티에 참여한 멤버입니다.");
+        }
+
+        return afterJoin(party, member);
+    }
+
+    /**
+     * 같은 파티에 몰린 참여 요청을 한 트랜잭션으로 처리합니다.
+     *
+     * <p>요청 순서대로 남은 정원만큼 참여시키고, 나머지는 단건 참여와 같은 예외로 즉시 거절합니다.
+     * 입장 시스템 메시지와 기존 파티원 푸시 알림은 참여한 멤버들을 묶어 한 번만 보냅니다.
+     * {@link PartyJoinBatcher}의 단일 작성자 스레드에서 호출됩니다.</p>
+     *
+     * @param partyId 파티 ID
+     * @param memberIds 참여 요청 멤버 ID 목록(요청 순)
+     * @return 파티 응답과 거절된 멤버별 예외
+     * @throws edu.kangwon.university.taxicarpool.party.partyException.PartyNotFoundException
+     *         파티가 존재하지 않는 경우(전체 거절)
+     */
+    @Transactional
+    public PartyJoinBatchResult joinPartyBatch(Long partyId, List<Long> memberIds) {
+        PartyEntity party = partyRepository.findByIdAndIsDeletedFalse(partyId)
+            .orElseThrow(() -> new PartyNotFoundException("해당 파티가 존재하지 않습니다."));
+
+        Map<Long, MemberEntity> membersById = memberRepository.findAllById(memberIds).stream()
+            .collect(Collectors.toMap(MemberEntity::getId, Function.identity()));
+        List<Long> existingIds = partyMemberRepository.findMemberIdsByPartyId(partyId);
+        Set<Long> joinedIds = new HashSet<>(existingIds);
+        Gender hostGender = null;
+        if (party.getOptions() != null && party.getOptions().isSameGenderOnly()) {
+            hostGender = partyMemberRepository.findMemberGender(partyId, party.getHostMemberId())
+                .orElseThrow(() -> new MemberNotInPartyException("데이터 오류: 파티 내에 호스트 정보가 없습니다."));
+        }
+
+        Map<Long, RuntimeException> rejections = new HashMap<>();
+        List<MemberEntity> admitted = new ArrayList<>();
+        List<PartyMemberEntity> partyMembers = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            MemberEntity member = membersById.get(memberId);
+            if (member == null) {
+                rejections.put(memberId, new MemberNotFoundException("해당 멤버가 존재하지 않습니다."));
+                continue;
+            }
+            if (!joinedIds.add(memberId)) {
+                rejections.put(memberId, new MemberAlreadyInPartyException("이미 이 파티에 참여한 멤버입니다."));
+                continue;
+            }
+            try {
+                partyMembers.add(party.join(member, hostGender));
+                admitted.add(member);
+            } catch (PartyFullException | PartyGenderMismatchException | PartyNotRecruitingException e) {
+                joinedIds.remove(memberId);
+                rejections.put(memberId, e);
+            }
+        }
+
+        if (admitted.isEmpty()) {
+            return new PartyJoinBatchResult(null, rejections);
+        }
+
+        partyMemberRepository.saveAll(partyMembers);
+        PartyEntity saved = partyRepository.save(party);
+        partySearchIndex.upsert(saved);
+        partyMembershipCache.invalidate(partyId);
+
+        chattingService.createSystemMessage(saved, admitted, MessageType.ENTER);
+        if (!existingIds.isEmpty()) {
+            String enterMemberIds = admitted.stream()
+                .map(m -> String.valueOf(m.getId()))
+                .collect(Collectors.joining(","));
+            String body = (admitted.size() == 1)
+                ? admitted.get(0).getNickname() + "님이 파티에 참여했습니다."
+                : admitted.get(0).getNickname() + "님 외 " + (admitted.size() - 1) + "명이 파티에 참여했습니다.";
+            PushMessageDTO msg = PartyUtil.createPartyPushMessage(
+                saved, body, "PARTY_ENTER", Map.of("enterMemberId", enterMemberIds));
+            outboxService.enqueuePush(saved.getId(), existingIds, msg);
+        }
 
-        return partyMapper.convertToResponseDTO(saved);
+        return new PartyJoinBatchResult(toResponseDTO(saved), rejections);
+    }
+
+    private PartyResponseDTO afterJoin(PartyEntity party, MemberEntity member) {
+        partySearchIndex.upsert(party);
+        partyMembershipCache.invalidate(party.getId());
+
+        chattingService.createSystemMessage(party, member, MessageType.ENTER);
+        sendJoinPushNotification(party, member, member.getId());
+
+        return toResponseDTO(party);
     }
 
     /**
@@ -362,15 +798,14 @@ public class PartyService {
         MemberEntity member = memberRepository.findById(memberId)
             .orElseThrow(() -> new MemberNotFoundException("해당 멤버가 존재하지 않습니다."));
 
-        party.leave(memberId);
+        List<Long> targetIds = removeMember(party, memberId);
 
         PartyEntity saved = partyRepository.save(party);
+        partySearchIndex.upsert(saved);
+        partySeatGate.invalidate(partyId);
         chattingService.createSystemMessage(party, member, MessageType.LEAVE);
 
-        if (!saved.isDeleted() && !saved.getMemberEntities().isEmpty()) {
-            List<Long> targetIds = saved.getMemberEntities().stream()
-                .map(MemberEntity::getId)
-                .toList();
+        if (!saved.isDeleted() && !targetIds.isEmpty()) {
 
             PushMessageDTO msg = PartyUtil.createPartyPushMessage(
                 saved,
@@ -378,15 +813,36 @@ public class PartyService {
                 "PARTY_LEAVE",
                 Map.of("leaveMemberId", String.valueOf(memberId))
             );
-            fcmPushService.sendPushToUsers(targetIds, msg);
+            outboxService.enqueuePush(partyId, targetIds, msg);
         }
 
-        return partyMapper.convertToResponseDTO(saved);
+        return toResponseDTO(saved);
+    }
+
+    /**
+     * 회원 탈퇴 시 멤버가 속한 모든 파티에서 퇴장 처리합니다.
+     *
+     * <p>{@link #leaveParty}와 같이 인원 수 갱신, 호스트 승격, 마지막 인원 퇴장 시 삭제를 수행하며,
+     * 시스템 메시지와 푸시 알림은 보내지 않습니다.</p>
+     *
+     * @param memberId 탈퇴하는 멤버 ID
+     */
+    @Transactional
+    public void leaveAllParties(Long memberId) {
+        for (Long partyId : partyMemberRepository.findPartyIdsByMemberId(memberId)) {
+            partyRepository.findById(partyId).ifPresent(party -> {
+                removeMember(party, memberId);
+                partySearchIndex.upsert(partyRepository.save(party));
+                partySeatGate.invalidate(partyId);
+            });
+        }
     }
 
     /**
      * 특정 멤버가 속한 활성 파티 목록을 조회합니다.
      *
+     * <p>운영 테이블의 파티 뒤에, 보관 테이블로 옮겨진 지난 파티를 최근 출발 순으로 이어 붙입니다.</p>
+     *
      * @param memberId 멤버 ID
      * @return 멤버가 참여 중인 활성 파티 응답 DTO 목록
      * @throws edu.kangwon.university.taxicarpool.member.exception.MemberNotFoundException
@@ -400,17 +856,23 @@ public class PartyService {
         }
 
         List<PartyEntity> myParties = partyRepository.findAllByMemberIdSorted(memberId, LocalDateTime.now());
+        List<PartyResponseDTO> archived = partyArchiveService.getArchivedParties(memberId);
+        if (archived.isEmpty()) {
+            return entitiesToResponseDTOs(myParties);
+        }
 
-        return myParties.stream()
-            .map(partyMapper::convertToResponseDTO)
-            .toList();
+        List<PartyResponseDTO> result = new ArrayList<>(entitiesToResponseDTOs(myParties));
+        result.addAll(archived);
+        return result;
     }
 
     /**
      * 카카오모빌리티 길찾기 API의 예측 요금을 이용해 파티의 절감 금액을 계산하고 각 멤버의 누적 절감액에 반영합니다.
      *
      * <p>호스트만 실행할 수 있으며, 한 번 계산이 완료된 파티는 재계산할 수 없습니다.
-     * 출발/도착 좌표와 출발 시간이 유효해야 하며, 외부 API 호출/파싱 실패 시 예외가 발생합니다.</p>
+     * 출발/도착 좌표와 출발 시간이 유효해야 하며, 외부 API 호출/파싱에 실패하면 거리 기반 추정 요금으로 계산하고
+     * 결과의 {@code fareSource}를 {@code ESTIMATED}로 표시합니다.
+     * 호스트가 요청하지 않은 파티는 출발 이후 {@link PartySettlementService}가 자동으로 정산합니다.</p>
      *
      * @param partyId 파티 ID
      * @param requesterId 요청자(호스트) 멤버 ID
@@ -422,8 +884,6 @@ public class PartyService {
      * @throws edu.kangwon.university.taxicarpool.party.partyException.SavingsAlreadyCalculatedException
      *         이미 절감 계산이 완료된 경우
      * @throws java.lang.IllegalArgumentException 출발/도착 좌표가 없거나 범위를 벗어난 경우
-     * @throws edu.kangwon.university.taxicarpool.party.partyException.KakaoApiException
-     *         외부 API 호출 실패/응답 오류/파싱 실패 등
      * @throws edu.kangwon.university.taxicarpool.party.partyException.MemberNotInPartyException
      *         파티 참여 인원이 0명인 경우
      */
@@ -437,31 +897,32 @@ public class PartyService {
 
         // 2) 좌표 검증 & 문자열 변환
         double[] coords = PartyUtil.getValidatedCoords(party);
-        double sx = coords[0], sy = coords[1], ex = coords[2], ey = coords[3];
-        String[] od = PartyUtil.toOriginDestination(sx, sy, ex, ey);
+        String[] od = PartyUtil.toOriginDestination(coords[0], coords[1], coords[2], coords[3]);
         String origin = od[0], destination = od[1];
 
         // 3) 출발 시각 보정/포맷
         LocalDateTime depTime = PartyUtil.ensureFutureDeparture(party.getStartDateTime());
         String departureTime = PartyUtil.formatDeparture(depTime);
 
-        // 4) 외부 API 호출 (카카오 모빌리티)
-        String url = PartyUtil.buildFutureDirectionsUrl(origin, destination, departureTime);
-        String body = PartyUtil.fetchKakaoDirectionsJson(url, kakaoMobilityApiKey);
-        long totalTaxiFare = PartyUtil.extractTaxiFare(body);
+        // 4) 외부 API 호출 (카카오 모빌리티, 같은 격자 셀/시간대 경로는 캐시 재사용, 실패 시 거리 기반 추정)
+        PartyFareQuote quote = partySettlementService.quoteFare(party);
+        long totalTaxiFare = quote.getFare();
+        String fareSource = quote.getSource();
 
         // 5) 참여 인원/절감액 계산
-        List<MemberEntity> members = party.getMemberEntities();
-        int participants = PartyUtil.ensureParticipants(members);
+        List<Long> memberIds = partyMemberRepository.findMemberIdsByPartyId(partyId);
+        if (memberIds.isEmpty()) {
+            throw new MemberNotInPartyException("파티 참여 인원이 0명입니다.");
+        }
+        int participants = memberIds.size();
         long[] shares = PartyUtil.calcShares(totalTaxiFare, participants);
         long eachShare = shares[0];
         long savingPerMember = shares[1];
 
-        // 6) 멤버 누적 절감액 반영
-        for (MemberEntity m : members) {
-            m.addToTotalSavedAmount(savingPerMember);
+        // 6) 멤버 누적 절감액 반영 (한 번의 UPDATE)
+        if (savingPerMember > 0) {
+            memberRepository.addTotalSavedAmount(memberIds, savingPerMember);
         }
-        memberRepository.saveAll(members);
 
         // 7) 파티 상태 갱신
         party.setSavingsCalculated(true);
@@ -475,6 +936,7 @@ public class PartyService {
         result.put("origin", origin);
         result.put("destination", destination);
         result.put("totalTaxiFare", totalTaxiFare);
+        result.put("fareSource", fareSource);
         result.put("eachShare", eachShare);
         result.put("savingPerMember", savingPerMember);
 
@@ -483,9 +945,78 @@ public class PartyService {
         return result;
     }
 
+    /**
+     * 참여 행 하나를 삭제하고 파티의 인원 수/호스트를 갱신합니다. 새 호스트는 남은 멤버 중 가장 먼저 참여한 멤버입니다.
+     *
+     * @return 남은 멤버 ID 목록(참여 순)
+     * @throws edu.kangwon.university.taxicarpool.party.partyException.MemberNotInPartyException
+     *         해당 파티에 속하지 않은 멤버인 경우
+     */
+    private List<Long> removeMember(PartyEntity party, Long memberId) {
+        if (partyMemberRepository.deleteByPartyIdAndMemberId(party.getId(), memberId) == 0) {
+            throw new MemberNotInPartyException("이 멤버는 해당 파티에 속해있지 않습니다.");
+        }
+        List<Long> remainingIds = partyMemberRepository.findMemberIdsByPartyId(party.getId());
+        Long nextHostId = remainingIds.isEmpty() ? null : remainingIds.get(0);
+        boolean hostLeaving = memberId.equals(party.getHostMemberId());
+
+        party.leave(memberId, nextHostId);
+
+        if (hostLeaving && nextHostId != null) {
+            partyMemberRepository.updateRole(party.getId(), nextHostId, PartyMemberRole.HOST);
+        }
+        partyMembershipCache.invalidate(party.getId());
+        return remainingIds;
+    }
+
+    private PartyResponseDTO toResponseDTO(PartyEntity party) {
+        return partyMapper.convertToResponseDTO(party,
+            partyMemberRepository.findRowsByPartyIdIn(List.of(party.getId())));
+    }
+
+    // 삭제되지 않은 파티만 ID → 목록 행으로 조회
+    private Map<Long, PartyListRow> loadRows(List<Long> partyIds) {
+        if (partyIds.isEmpty()) {
+            return Map.of();
+        }
+        return partyRepository.findListRowsByIdIn(partyIds).stream()
+            .filter(p -> !p.isDeleted())
+            .collect(Collectors.toMap(PartyListRow::getId, Function.identity()));
+    }
+
+    private List<Long> missingIds(List<Long> partyIds, Map<Long, PartyListRow> rows) {
+        return partyIds.stream().filter(id -> !rows.containsKey(id)).toList();
+    }
+
+    private List<PartyListRow> inOrder(List<Long> partyIds, Map<Long, PartyListRow> rows) {
+        return partyIds.stream().map(rows::get).filter(Objects::nonNull).toList();
+    }
+
+    // 목록 응답 조립: 페이지의 모든 파티 멤버를 한 번의 쿼리로 조회하여 파티별 지연 로딩(N+1)을 피함
+    private List<PartyResponseDTO> toResponseDTOs(List<PartyListRow> rows) {
+        Map<Long, List<PartyMemberRow>> members = loadMembers(rows.stream().map(PartyListRow::getId).toList());
+        return rows.stream()
+            .map(row -> partyMapper.convertToResponseDTO(row, members.getOrDefault(row.getId(), List.of())))
+            .toList();
+    }
+
+    private List<PartyResponseDTO> entitiesToResponseDTOs(List<PartyEntity> entities) {
+        Map<Long, List<PartyMemberRow>> members = loadMembers(entities.stream().map(PartyEntity::getId).toList());
+        return entities.stream()
+            .map(party -> partyMapper.convertToResponseDTO(party, members.getOrDefault(party.getId(), List.of())))
+            .toList();
+    }
+
+    private Map<Long, List<PartyMemberRow>> loadMembers(List<Long> partyIds) {
+        if (partyIds.isEmpty()) {
+            return Map.of();
+        }
+        return partyMemberRepository.findRowsByPartyIdIn(partyIds).stream()
+            .collect(Collectors.groupingBy(PartyMemberRow::getPartyId));
+    }
+
     private void sendJoinPushNotification(PartyEntity saved, MemberEntity member, Long memberId) {
-        List<Long> targetIds = saved.getMemberEntities().stream()
-            .map(MemberEntity::getId)
+        List<Long> targetIds = partyMemberRepository.findMemberIdsByPartyId(saved.getId()).stream()
             .filter(id -> !id.equals(memberId))
             .toList();
 
@@ -496,7 +1027,7 @@ public class PartyService {
                 "PARTY_ENTER",
                 Map.of("enterMemberId", String.valueOf(memberId))
             );
-            fcmPushService.sendPushToUsers(targetIds, msg);
+            outboxService.enqueuePush(saved.getId(), targetIds, msg);
         }
     }
 
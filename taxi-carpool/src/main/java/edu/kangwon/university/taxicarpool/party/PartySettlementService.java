@@ -0,0 +1,214 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import edu.kangwon.university.taxicarpool.member.MemberRepository;
+import edu.kangwon.university.taxicarpool.party.PartyUtil.PartyUtil;
+import edu.kangwon.university.taxicarpool.party.partyException.KakaoApiException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 출발한 파티의 절감 금액 정산을 담당합니다.
+ *
+ * <p>호스트가 직접 정산을 요청하지 않아도, 출발 후 유예 시간이 지난 미정산 파티를 청크 단위로 골라 정산합니다.
+ * 요금은 생성 시 저장된 예상 요금을 우선 사용하고, 없을 때만 카카오(캐시)와 거리 기반 추정을 사용합니다.
+ * 외부 호출은 트랜잭션 밖에서 끝내고, 청크 트랜잭션에서는 파티 행을 잠근 뒤 파티마다 멤버 누적 절감액을
+ * 한 번의 UPDATE로 더하고 정산 완료 표시를 한 번에 갱신합니다.</p>
+ *
+ * <p>{@code party.settlement.departed-after} 이후에 출발한 파티만 정산합니다(비우면 기동 시각). 이 기능 도입 전에
+ * 출발한 미정산 파티까지 멤버 누적 절감액에 더하려면 {@code party.settlement.backfill=true}로 한 번만 기동한 뒤
+ * 다시 끄세요.</p>
+ *
+ * <p>정산 완료 표시 시 버전을 올리므로, 같은 파티에 대한 수동 정산 요청이 동시에 진행 중이면 낙관적 락 충돌로
+ * 한쪽만 반영됩니다. 여러 인스턴스가 동시에 실행되어도 행 잠금 이후 미정산 여부를 다시 확인합니다.</p>
+ */
+@Slf4j
+@Service
+public class PartySettlementService {
+
+    private final PartyRepository partyRepository;
+    private final PartyMemberRepository partyMemberRepository;
+    private final MemberRepository memberRepository;
+    private final PartyFareCache partyFareCache;
+    private final KakaoMobilityClient kakaoMobilityClient;
+    private final PartyFareEstimator partyFareEstimator;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final long graceMinutes;
+    private final LocalDateTime departedAfter;
+
+    public PartySettlementService(PartyRepository partyRepository,
+        PartyMemberRepository partyMemberRepository, MemberRepository memberRepository,
+        PartyFareCache partyFareCache, KakaoMobilityClient kakaoMobilityClient,
+        PartyFareEstimator partyFareEstimator, PlatformTransactionManager transactionManager,
+        @Value("${party.settlement.enabled:true}") boolean enabled,
+        @Value("${party.settlement.chunk-size:100}") int chunkSize,
+        @Value("${party.settlement.grace-minutes:30}") long graceMinutes,
+        @Value("${party.settlement.departed-after:}") String departedAfter,
+        @Value("${party.settlement.backfill:false}") boolean backfill) {
+        this.partyRepository = partyRepository;
+        this.partyMemberRepository = partyMemberRepository;
+        this.memberRepository = memberRepository;
+        this.partyFareCache = partyFareCache;
+        this.kakaoMobilityClient = kakaoMobilityClient;
+        this.partyFareEstimator = partyFareEstimator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.graceMinutes = graceMinutes;
+        this.departedAfter = resolveDepartedAfter(departedAfter, backfill);
+    }
+
+    /**
+     * 출발 후 유예 시간이 지난 미정산 파티를 청크 단위로 정산합니다.
+     * 정산 시각에 맞춘 처리는 {@link PartyLifecycleScheduler}가 하며, 이 작업은 누락분을 보정하는 주기 점검입니다.
+     */
+    @Scheduled(cron = "${party.settlement.cron:0 */5 * * * *}")
+    public void settleDepartedParties() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime departedBefore = LocalDateTime.now().minusMinutes(graceMinutes);
+        long afterId = 0L;
+        int settled = 0;
+
+        while (true) {
+            List<PartyEntity> chunk = partyRepository.findUnsettledDepartedAfter(
+                departedAfter, departedBefore, afterId, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            afterId = chunk.get(chunk.size() - 1).getId();
+
+            settled += settleParties(chunk);
+
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+        if (settled > 0) {
+            log.info("출발한 파티 {}건 절감액 정산 완료", settled);
+        }
+    }
+
+    /**
+     * 주어진 파티 중 아직 정산되지 않은 파티를 정산합니다. 생명주기 스케줄러가 출발 후 정산 시각에 호출합니다.
+     *
+     * @param partyIds 파티 ID 목록
+     * @return 정산한 파티 수
+     */
+    public int settle(List<Long> partyIds) {
+        List<PartyEntity> parties = partyRepository.findAllById(partyIds).stream()
+            .filter(p -> !p.isDeleted() && !p.isSavingsCalculated() && isWithinCutoff(p))
+            .toList();
+        int settled = 0;
+        for (int from = 0; from < parties.size(); from += chunkSize) {
+            settled += settleParties(parties.subList(from, Math.min(from + chunkSize, parties.size())));
+        }
+        return settled;
+    }
+
+    /**
+     * 카카오 길찾기(캐시 포함)로 요금을 조회하고, 실패하면 거리 기반 추정 요금을 반환합니다.
+     *
+     * @throws java.lang.IllegalArgumentException 출발/도착 좌표가 없거나 범위를 벗어난 경우
+     */
+    public PartyFareQuote quoteFare(PartyEntity party) {
+        double[] coords = PartyUtil.getValidatedCoords(party);
+        double sx = coords[0], sy = coords[1], ex = coords[2], ey = coords[3];
+        String[] od = PartyUtil.toOriginDestination(sx, sy, ex, ey);
+        LocalDateTime depTime = PartyUtil.ensureFutureDeparture(party.getStartDateTime());
+        String departureTime = PartyUtil.formatDeparture(depTime);
+
+        try {
+            long fare = partyFareCache.getOrLoad(sx, sy, ex, ey, depTime,
+                () -> kakaoMobilityClient.fetchTaxiFare(od[0], od[1], departureTime));
+            return new PartyFareQuote(fare, PartyFareQuote.SOURCE_KAKAO);
+        } catch (KakaoApiException e) {
+            log.warn("카카오 요금 조회 실패, 거리 기반 추정 요금을 사용합니다. partyId={}: {}", party.getId(), e.getMessage());
+            return new PartyFareQuote(partyFareEstimator.estimate(sx, sy, ex, ey, depTime),
+                PartyFareQuote.SOURCE_ESTIMATED);
+        }
+    }
+
+    private boolean isWithinCutoff(PartyEntity party) {
+        return departedAfter == null
+            || (party.getStartDateTime() != null && !party.getStartDateTime().isBefore(departedAfter));
+    }
+
+    // 백필이면 하한 없음(null), 지정하지 않았으면 기동 시각 이후 출발한 파티만 정산
+    private static LocalDateTime resolveDepartedAfter(String departedAfter, boolean backfill) {
+        if (backfill) {
+            log.warn("party.settlement.backfill=true: 출발 시각 하한 없이 모든 미정산 파티를 정산합니다. 백필 후 끄세요.");
+            return null;
+        }
+        if (departedAfter == null || departedAfter.isBlank()) {
+            LocalDateTime startedAt = LocalDateTime.now();
+            log.info("party.settlement.departed-after가 없어 기동 시각({}) 이후 출발한 파티만 정산합니다.", startedAt);
+            return startedAt;
+        }
+        return LocalDateTime.parse(departedAfter.trim());
+    }
+
+    private int settleParties(List<PartyEntity> parties) {
+        Map<Long, Long> fares = new LinkedHashMap<>();
+        for (PartyEntity party : parties) {
+            fares.put(party.getId(), resolveSettlementFare(party).getFare());
+        }
+        try {
+            Integer count = transactionTemplate.execute(status -> settleChunk(fares));
+            return (count != null) ? count : 0;
+        } catch (Exception e) {
+            log.warn("파티 정산 청크 실패, 다음 주기에 다시 시도합니다. partyIds={}: {}", fares.keySet(), e.getMessage());
+            return 0;
+        }
+    }
+
+    private PartyFareQuote resolveSettlementFare(PartyEntity party) {
+        if (party.getEstimatedFare() != null && party.getEstimatedFare() > 0) {
+            return new PartyFareQuote(party.getEstimatedFare(), PartyFareQuote.SOURCE_STORED);
+        }
+        try {
+            return quoteFare(party);
+        } catch (IllegalArgumentException e) {
+            // 좌표가 없는 파티는 절감액 0으로 정산 완료 처리
+            return new PartyFareQuote(0L, PartyFareQuote.SOURCE_ESTIMATED);
+        }
+    }
+
+    private int settleChunk(Map<Long, Long> fares) {
+        List<Long> lockedIds = partyRepository.lockUnsettledByIdIn(fares.keySet()).stream()
+            .map(PartyEntity::getId)
+            .toList();
+        if (lockedIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<Long>> memberIdsByParty = partyMemberRepository.findRowsByPartyIdIn(lockedIds).stream()
+            .collect(Collectors.groupingBy(PartyMemberRow::getPartyId,
+                Collectors.mapping(PartyMemberRow::getMemberId, Collectors.toList())));
+
+        for (Long partyId : lockedIds) {
+            List<Long> memberIds = memberIdsByParty.getOrDefault(partyId, List.of());
+            if (memberIds.isEmpty()) {
+                continue;
+            }
+            long savingPerMember = PartyUtil.calcShares(fares.get(partyId), memberIds.size())[1];
+            if (savingPerMember > 0) {
+                memberRepository.addTotalSavedAmount(memberIds, savingPerMember);
+            }
+        }
+        partyRepository.markSavingsCalculated(lockedIds);
+        return lockedIds.size();
+    }
+}
@@ -0,0 +1,66 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * party 테이블의 출발/도착 좌표를 SRID 4326 POINT 컬럼으로 저장하고 공간 인덱스를 생성합니다.
+ *
+ * <p>JPA {@code @Index}로는 SPATIAL 인덱스를 만들 수 없으므로, 애플리케이션 기동 후 MySQL인 경우에만
+ * 컬럼/인덱스 존재 여부를 확인하여 없을 때 한 번 생성합니다. POINT 컬럼은 경도/위도 컬럼으로부터 계산되는
+ * STORED 생성 컬럼이므로 엔티티 저장 로직은 변경할 필요가 없습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartySpatialIndexInitializer {
+
+    private final MySqlDetector mySqlDetector;
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!mySqlDetector.isMySql()) {
+            return;
+        }
+        try {
+            addPointColumn("start_point", "start_longitude", "start_latitude");
+            addPointColumn("end_point", "end_longitude", "end_latitude");
+            addSpatialIndex("sidx_party_start_point", "start_point");
+            addSpatialIndex("sidx_party_end_point", "end_point");
+        } catch (Exception e) {
+            log.error("파티 공간 인덱스 초기화 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void addPointColumn(String column, String lngColumn, String latColumn) {
+        Integer exists = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_schema.COLUMNS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'party' AND COLUMN_NAME = ?",
+            Integer.class, column);
+        if (exists != null && exists > 0) {
+            return;
+        }
+        jdbcTemplate.execute(
+            "ALTER TABLE party ADD COLUMN " + column + " POINT SRID 4326 " +
+                "GENERATED ALWAYS AS (ST_SRID(POINT(COALESCE(" + lngColumn + ", 0), COALESCE(" + latColumn + ", 0)), 4326)) " +
+                "STORED NOT NULL");
+        log.info("party.{} POINT 컬럼 생성 완료", column);
+    }
+
+    private void addSpatialIndex(String indexName, String column) {
+        Integer exists = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_schema.STATISTICS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'party' AND INDEX_NAME = ?",
+            Integer.class, indexName);
+        if (exists != null && exists > 0) {
+            return;
+        }
+        jdbcTemplate.execute("CREATE SPATIAL INDEX " + indexName + " ON party (" + column + ")");
+        log.info("party.{} 공간 인덱스({}) 생성 완료", column, indexName);
+    }
+}
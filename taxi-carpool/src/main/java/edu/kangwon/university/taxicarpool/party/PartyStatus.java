@@ -0,0 +1,7 @@
+package edu.kangwon.university.taxicarpool.party;
+
+public enum PartyStatus {
+    RECRUITING, // 모집 중(출발 전)
+    DEPARTED,   // 출발 시각 경과
+    CLOSED      // 출발 후 일정 시간이 지나 종료
+}
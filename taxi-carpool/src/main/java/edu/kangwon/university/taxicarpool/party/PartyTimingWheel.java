@@ -0,0 +1,153 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 파티 생명주기 이벤트를 담는 계층형 타이밍 휠입니다.
+ *
+ * <p>틱 단위 슬롯 64개짜리 휠 4단(64, 64², 64³, 64⁴ 틱)으로 구성되며, 타이머는 남은 틱 수에 맞는 단의 슬롯에 들어갑니다.
+ * 하위 단이 한 바퀴 돌 때마다 상위 단의 현재 슬롯을 내려보내므로(cascade) 등록/취소는 O(1), 틱 진행은 만료 타이머 수에
+ * 비례합니다. 파티별 타이머 색인을 두어 파티 단위 취소도 O(이벤트 수)입니다.</p>
+ *
+ * <p>스레드 안전을 위해 모든 공개 메서드는 휠 자체에 동기화됩니다.</p>
+ */
+class PartyTimingWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int LEVELS = 4;
+    private static final long MASK = SLOTS - 1;
+
+    private final long tickMillis;
+    private final List<List<Set<Timer>>> wheels = new ArrayList<>();
+    private final Map<Long, List<Timer>> timersByParty = new HashMap<>();
+    private long currentTick;
+
+    PartyTimingWheel(long tickMillis, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = nowMillis / tickMillis;
+        for (int level = 0; level < LEVELS; level++) {
+            List<Set<Timer>> slots = new ArrayList<>(SLOTS);
+            for (int i = 0; i < SLOTS; i++) {
+                slots.add(new LinkedHashSet<>());
+            }
+            wheels.add(slots);
+        }
+    }
+
+    /** 이벤트를 등록합니다. 이미 지난 시각이면 다음 틱에 만료됩니다. */
+    synchronized void add(Long partyId, PartyLifecycleEventType type, long deadlineMillis) {
+        Timer timer = new Timer(partyId, type, Math.max(deadlineMillis / tickMillis, currentTick));
+        place(timer);
+        timersByParty.computeIfAbsent(partyId, id -> new ArrayList<>(PartyLifecycleEventType.values().length))
+            .add(timer);
+    }
+
+    /** 파티의 남은 이벤트를 모두 취소합니다. */
+    synchronized void cancel(Long partyId) {
+        List<Timer> timers = timersByParty.remove(partyId);
+        if (timers == null) {
+            return;
+        }
+        for (Timer timer : timers) {
+            timer.bucket.remove(timer);
+        }
+    }
+
+    synchronized boolean contains(Long partyId) {
+        return timersByParty.containsKey(partyId);
+    }
+
+    synchronized int size() {
+        return timersByParty.size();
+    }
+
+    /**
+     * {@code nowMillis}까지 휠을 진행하고 만료된 이벤트를 종류별로 모아 반환합니다.
+     */
+    synchronized Map<PartyLifecycleEventType, List<Long>> advance(long nowMillis) {
+        Map<PartyLifecycleEventType, List<Long>> due = new HashMap<>();
+        long targetTick = nowMillis / tickMillis;
+
+        while (currentTick <= targetTick) {
+            cascade();
+            Set<Timer> slot = wheels.get(0).get((int) (currentTick & MASK));
+            if (!slot.isEmpty()) {
+                List<Timer> expired = new ArrayList<>(slot);
+                slot.clear();
+                for (Timer timer : expired) {
+                    if (timer.tick > currentTick) {
+                        place(timer); // 범위를 넘어 최상위 단에 임시 배치된 타이머
+                        continue;
+                    }
+                    due.computeIfAbsent(timer.type, t -> new ArrayList<>()).add(timer.partyId);
+                    detach(timer);
+                }
+            }
+            currentTick++;
+        }
+        return due;
+    }
+
+    // 상위 단부터 현재 틱에 해당하는 슬롯을 다시 배치
+    private void cascade() {
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            long span = 1L << (SLOT_BITS * level);
+            if (currentTick % span != 0) {
+                continue;
+            }
+            Set<Timer> slot = wheels.get(level).get((int) ((currentTick >> (SLOT_BITS * level)) & MASK));
+            if (slot.isEmpty()) {
+                continue;
+            }
+            List<Timer> timers = new ArrayList<>(slot);
+            slot.clear();
+            timers.forEach(this::place);
+        }
+    }
+
+    private void place(Timer timer) {
+        long delta = timer.tick - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        long slotTick = timer.tick;
+        if (delta >= (1L << (SLOT_BITS * LEVELS))) {
+            // 최상위 단 범위를 넘으면 가장 먼 슬롯에 두고, 내려올 때 다시 배치
+            slotTick = currentTick + (1L << (SLOT_BITS * LEVELS)) - 1;
+        }
+        Set<Timer> bucket = wheels.get(level).get((int) ((slotTick >> (SLOT_BITS * level)) & MASK));
+        bucket.add(timer);
+        timer.bucket = bucket;
+    }
+
+    private void detach(Timer timer) {
+        List<Timer> timers = timersByParty.get(timer.partyId);
+        if (timers != null) {
+            timers.remove(timer);
+            if (timers.isEmpty()) {
+                timersByParty.remove(timer.partyId);
+            }
+        }
+    }
+
+    private static final class Timer {
+
+        private final Long partyId;
+        private final PartyLifecycleEventType type;
+        private final long tick;
+        private Set<Timer> bucket;
+
+        private Timer(Long partyId, PartyLifecycleEventType type, long tick) {
+            this.partyId = partyId;
+            this.type = type;
+            this.tick = tick;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package edu.kangwon.university.taxicarpool.party.PartyUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커서 기반 페이지네이션에서 마지막으로 반환한 행의 정렬 키를 담는 불투명 커서입니다.
+ *
+ * <p>일반 목록은 (startDateTime, partyId), 커스텀 검색은 (거리 점수(정수 미터), 시간 차이(분), partyId)를 키로 사용하며,
+ * 커스텀 검색은 시간 차이 계산의 기준 시각(refTime)도 함께 담아 페이지 간 정렬이 흔들리지 않도록 합니다.</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public final class PartyCursor {
+
+    private static final String TIME_PREFIX = "T";
+    private static final String SCORE_PREFIX = "S";
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime time;
+    private final long score;
+    private final long gap;
+    private final long partyId;
+
+    /** 일반 목록 첫 페이지: 기준 시각 이후의 모든 파티 */
+    public static PartyCursor firstByTime(LocalDateTime now) {
+        return new PartyCursor(now, 0, 0, 0L);
+    }
+
+    /** 커스텀 검색 첫 페이지: 모든 점수(0 이상)보다 앞서는 키 */
+    public static PartyCursor firstByScore(LocalDateTime refTime) {
+        return new PartyCursor(refTime, -1, -1, 0L);
+    }
+
+    public static PartyCursor ofTime(LocalDateTime startDateTime, long partyId) {
+        return new PartyCursor(startDateTime, 0, 0, partyId);
+    }
+
+    public static PartyCursor ofScore(long score, long gap, LocalDateTime refTime, long partyId) {
+        return new PartyCursor(refTime, score, gap, partyId);
+    }
+
+    public String encodeTime() {
+        return encode(TIME_PREFIX + DELIMITER + time + DELIMITER + partyId);
+    }
+
+    public String encodeScore() {
+        return encode(SCORE_PREFIX + DELIMITER + score + DELIMITER + gap + DELIMITER + time + DELIMITER + partyId);
+    }
+
+    public static PartyCursor decodeTime(String cursor) {
+        String[] parts = decode(cursor, TIME_PREFIX, 3);
+        try {
+            return ofTime(LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public static PartyCursor decodeScore(String cursor) {
+        String[] parts = decode(cursor, SCORE_PREFIX, 5);
+        try {
+            // 이전 형식(소수 거리) 커서도 같은 정수 미터 키로 이어서 조회
+            return ofScore((long) Math.floor(Double.parseDouble(parts[1])), Long.parseLong(parts[2]),
+                LocalDateTime.parse(parts[3]), Long.parseLong(parts[4]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decode(String cursor, String prefix, int length) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+        String[] parts = raw.split("\\" + DELIMITER);
+        if (parts.length != length || !prefix.equals(parts[0])) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+        return parts;
+    }
+}
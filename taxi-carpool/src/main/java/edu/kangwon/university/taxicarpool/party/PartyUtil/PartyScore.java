@@ -0,0 +1,29 @@
+package edu.kangwon.university.taxicarpool.party.PartyUtil;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커스텀 검색 결과 한 건의 정렬 키입니다. 거리 합(m, 소수점 버림), 기준 시각과의 차이(분), 파티 ID 순으로 정렬됩니다.
+ *
+ * <p>거리를 정수 미터로 두어 인메모리 인덱스와 DB(ST_Distance_Sphere)의 부동소수점 오차가 커서 비교에 영향을 주지 않게 합니다.</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public final class PartyScore {
+
+    private final Long partyId;
+    private final long distance;
+    private final long gap;
+
+    /** 커서가 가리키는 키보다 뒤에 오는지 여부 */
+    public boolean isAfter(PartyCursor cursor) {
+        if (distance != cursor.getScore()) {
+            return distance > cursor.getScore();
+        }
+        if (gap != cursor.getGap()) {
+            return gap > cursor.getGap();
+        }
+        return partyId > cursor.getPartyId();
+    }
+}
@@ -1,26 +1,19 @@
 package edu.kangwon.university.taxicarpool.party.PartyUtil;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import edu.kangwon.university.taxicarpool.fcm.dto.PushMessageDTO;
 import edu.kangwon.university.taxicarpool.member.MemberEntity;
 import edu.kangwon.university.taxicarpool.party.PartyEntity;
-import edu.kangwon.university.taxicarpool.party.partyException.KakaoApiException;
+import edu.kangwon.university.taxicarpool.party.partyException.KakaoRouteNotFoundException;
 import edu.kangwon.university.taxicarpool.party.partyException.MemberNotInPartyException;
 import edu.kangwon.university.taxicarpool.party.partyException.PartyGetCustomException;
 import edu.kangwon.university.taxicarpool.party.partyException.SavingsAlreadyCalculatedException;
 import edu.kangwon.university.taxicarpool.party.partyException.UnauthorizedHostAccessException;
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 public final class PartyUtil {
@@ -28,6 +21,8 @@ public final class PartyUtil {
     private PartyUtil() {}
 
     private static final DateTimeFormatter DEPT_FMT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+    private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+    private static final double EARTH_RADIUS_METERS = 6_370_986.0;
 
     /**
      * 커스텀 검색 필터 유효성 검증
@@ -69,6 +64,41 @@ public final class PartyUtil {
         }
     }
 
+    /**
+     * 중심 좌표로부터 반경(m)을 덮는 바운딩 박스 계산 {minLng, minLat, maxLng, maxLat}
+     * (후보 축소용이므로 위도에 따른 경도 간격 보정만 적용한 근사치)
+     */
+    public static double[] toBoundingBox(double lng, double lat, double radiusMeters) {
+        double dLat = radiusMeters / METERS_PER_DEGREE_LAT;
+        double dLng = radiusMeters / (METERS_PER_DEGREE_LAT * Math.cos(Math.toRadians(lat)));
+        return new double[]{lng - dLng, lat - dLat, lng + dLng, lat + dLat};
+    }
+
+    /** 바운딩 박스를 WKT POLYGON(경도 위도 순)으로 생성 */
+    public static String toBoundingBoxWkt(double lng, double lat, double radiusMeters) {
+        double[] box = toBoundingBox(lng, lat, radiusMeters);
+        double minLng = box[0], minLat = box[1], maxLng = box[2], maxLat = box[3];
+
+        return "POLYGON((" +
+            minLng + " " + minLat + ", " +
+            maxLng + " " + minLat + ", " +
+            maxLng + " " + maxLat + ", " +
+            minLng + " " + maxLat + ", " +
+            minLng + " " + minLat + "))";
+    }
+
+    /** 두 좌표 간 구면 거리(m), MySQL ST_Distance_Sphere와 동일한 지구 반지름 사용 */
+    public static double distanceMeters(double lng1, double lat1, double lng2, double lat2) {
+        double phi1 = Math.toRadians(lat1);
+        double phi2 = Math.toRadians(lat2);
+        double dPhi = phi2 - phi1;
+        double dLambda = Math.toRadians(lng2 - lng1);
+
+        double a = Math.sin(dPhi / 2) * Math.sin(dPhi / 2)
+            + Math.cos(phi1) * Math.cos(phi2) * Math.sin(dLambda / 2) * Math.sin(dLambda / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
     /** 호스트 권한 및 재계산 여부 검사 */
     public static void assertHostAndRecalc(PartyEntity party, Long requesterId) {
         if (party.getHostMemberId() == null || !party.getHostMemberId().equals(requesterId)) {
@@ -125,50 +155,23 @@ public final class PartyUtil {
             .toUriString();
     }
 
-    /** 카카오 API 호출(JSON 반환) */
-    public static String fetchKakaoDirectionsJson(String url, String kakaoApiKey) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "KakaoAK " + kakaoApiKey);
-        headers.set("Content-Type", "application/json");
-
-        RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<String> response =
-            restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
-
-        if (response == null || !response.getStatusCode().is2xxSuccessful()) {
-            throw new KakaoApiException("카카오 API 호출 실패: 성공(2xx) 응답이 아님. URL=" + url);
+    /** 길찾기 응답에서 taxi 요금 추출 */
+    public static long extractTaxiFare(JsonNode root) {
+        JsonNode routes = root.path("routes");
+        if (!routes.isArray() || routes.isEmpty()) {
+            throw new KakaoRouteNotFoundException("카카오 API 응답 오류: 경로 정보가 비어있습니다.");
         }
-        String body = response.getBody();
-        if (body == null || body.isBlank()) {
-            throw new KakaoApiException("카카오 API 호출 실패: 응답 본문이 비어있음. URL=" + url);
+
+        JsonNode fare = routes.get(0).path("summary").path("fare");
+        if (fare.isMissingNode()) {
+            throw new KakaoRouteNotFoundException("카카오 API 응답 오류: 요금 정보가 없습니다.");
         }
-        return body;
-    }
-
-    /** JSON 본문에서 taxi 요금 추출 */
-    public static long extractTaxiFare(String json) {
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode root = mapper.readTree(json);
-
-            JsonNode routes = root.path("routes");
-            if (!routes.isArray() || routes.isEmpty()) {
-                throw new KakaoApiException("카카오 API 응답 오류: 경로 정보가 비어있습니다.");
-            }
-
-            JsonNode fare = routes.get(0).path("summary").path("fare");
-            if (fare.isMissingNode()) {
-                throw new KakaoApiException("카카오 API 응답 오류: 요금 정보가 없습니다.");
-            }
-
-            long totalTaxiFare = fare.path("taxi").asLong(0L);
-            if (totalTaxiFare <= 0L) {
-                throw new KakaoApiException("카카오 API 응답 오류: 유효한 택시 요금을 가져오지 못했습니다.");
-            }
-            return totalTaxiFare;
-        } catch (IOException e) {
-            throw new KakaoApiException("카카오 모빌리티 API 응답 파싱 실패: JSON 변환 불가", e);
+
+        long totalTaxiFare = fare.path("taxi").asLong(0L);
+        if (totalTaxiFare <= 0L) {
+            throw new KakaoRouteNotFoundException("카카오 API 응답 오류: 유효한 택시 요금을 가져오지 못했습니다.");
         }
+        return totalTaxiFare;
     }
 
     /** 참여 인원수 확보(0이면 예외) */
@@ -0,0 +1,16 @@
+package edu.kangwon.university.taxicarpool.party.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartyCursorResponseDTO {
+
+    private List<PartyResponseDTO> content;
+    private String nextCursor; // 다음 페이지 요청 시 그대로 전달, 마지막 페이지면 null
+    private boolean hasNext;
+}
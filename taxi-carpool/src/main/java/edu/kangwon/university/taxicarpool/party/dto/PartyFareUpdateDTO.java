@@ -0,0 +1,14 @@
+package edu.kangwon.university.taxicarpool.party.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartyFareUpdateDTO {
+
+    private Long partyId;
+    private Long estimatedFare; // 예상 택시 요금(원), 조회 실패 시 0
+}
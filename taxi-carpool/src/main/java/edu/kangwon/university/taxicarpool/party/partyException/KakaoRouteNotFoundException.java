@@ -0,0 +1,11 @@
+package edu.kangwon.university.taxicarpool.party.partyException;
+
+/**
+ * 카카오 길찾기 호출은 성공했지만 경로나 유효한 택시 요금이 없는 경우입니다.
+ * 외부 API 장애가 아니므로 서킷 브레이커 실패로 집계하지 않습니다.
+ */
+public class KakaoRouteNotFoundException extends KakaoApiException {
+    public KakaoRouteNotFoundException(String message) {
+        super(message);
+    }
+}
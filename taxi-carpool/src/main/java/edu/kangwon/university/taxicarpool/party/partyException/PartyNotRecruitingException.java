@@ -0,0 +1,9 @@
+package edu.kangwon.university.taxicarpool.party.partyException;
+
+public class PartyNotRecruitingException extends RuntimeException {
+
+    public PartyNotRecruitingException(String message) {
+        super(message);
+    }
+
+}
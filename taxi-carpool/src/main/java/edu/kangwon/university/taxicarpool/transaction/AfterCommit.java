@@ -0,0 +1,29 @@
+package edu.kangwon.university.taxicarpool.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후에 실행할 작업을 등록합니다.
+ *
+ * <p>트랜잭션 동기화가 활성화되어 있으면 커밋 이후로 미루고, 트랜잭션 밖에서 호출되면 즉시 실행합니다.
+ * 롤백되면 실행되지 않으므로 커밋 전 상태가 캐시·인덱스·외부 큐에 새어 나가지 않습니다.</p>
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
@@ -0,0 +1,237 @@
+package edu.kangwon.university.taxicarpool.chatting;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class ChatMessageWriterTest {
+
+    private final AtomicLong ids = new AtomicLong();
+    private final FakeJdbcTemplate jdbc = new FakeJdbcTemplate();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ChatMessageWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        jdbc.release();
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    private ChatMessageWriter writer(int capacity, long flushIntervalMs, long offerTimeoutMs) {
+        writer = new ChatMessageWriter(jdbc, meterRegistry, true, capacity, 100, flushIntervalMs,
+            offerTimeoutMs, 5, 20, 2000);
+        writer.start();
+        return writer;
+    }
+
+    private PendingMessage message() {
+        return new PendingMessage(ids.incrementAndGet(), 1L, 2L, "hi", LocalDateTime.now(), MessageType.TALK);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.counter(name).count();
+    }
+
+    @Test
+    @DisplayName("버퍼에 쌓인 메시지를 다중 행 INSERT로 모아 저장한다")
+    void flushesBufferedMessagesAsMultiRowInsert() throws Exception {
+        writer(100, 200, 10);
+        for (int i = 0; i < 10; i++) {
+            writer.write(message());
+        }
+        assertTrue(jdbc.awaitRows(10));
+
+        assertEquals(1, jdbc.statements.size());
+        assertEquals(10, jdbc.statements.get(0).size());
+        assertEquals(0, counter("chat.writer.direct"));
+    }
+
+    @Test
+    @DisplayName("종료 시 버퍼를 끝까지 비우고, 이후 메시지는 직접 저장한다")
+    void drainsBufferOnStop() {
+        writer(1000, 500, 10);
+        for (int i = 0; i < 250; i++) {
+            writer.write(message());
+        }
+        writer.stop();
+        writer.write(message());
+
+        assertEquals(251, jdbc.rowIds().size());
+        assertEquals(1, counter("chat.writer.direct"));
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 호출 스레드에서 직접 저장한다(배압)")
+    void fallsBackToDirectInsertWhenFull() throws Exception {
+        jdbc.blockFirstStatement();
+        writer(1, 1, 10);
+        writer.write(message()); // 작성자가 가져가 INSERT에서 멈춤
+        assertTrue(jdbc.firstStatementStarted.await(5, TimeUnit.SECONDS));
+        writer.write(message()); // 버퍼(1칸)에 남음
+        writer.write(message()); // 버퍼 포화 → 직접 저장
+
+        assertEquals(1, counter("chat.writer.direct"));
+        assertEquals(List.of(3L), jdbc.rowIds());
+
+        jdbc.release();
+        assertTrue(jdbc.awaitRows(3));
+        assertEquals(Set.of(1L, 2L, 3L), new HashSet<>(jdbc.rowIds()));
+    }
+
+    @Test
+    @DisplayName("일시적인 DB 오류는 배치를 버리지 않고 복구될 때까지 재시도한다")
+    void retriesTransientFailuresWithoutDropping() throws Exception {
+        jdbc.failNext(4, () -> new TransientDataAccessResourceException("db down"));
+        writer(100, 200, 10);
+        for (int i = 0; i < 3; i++) {
+            writer.write(message());
+        }
+        assertTrue(jdbc.awaitRows(3));
+
+        assertEquals(5, jdbc.attempts.get());
+        assertEquals(1, jdbc.statements.size()); // 행 단위로 나누지 않음
+        assertEquals(0, counter("chat.writer.dropped"));
+    }
+
+    @Test
+    @DisplayName("제약 위반이면 행 단위로 나눠 문제 행만 버린다")
+    void splitsBatchOnIntegrityViolation() throws Exception {
+        jdbc.rejectId(2L);
+        writer(100, 200, 10);
+        for (int i = 0; i < 3; i++) {
+            writer.write(message());
+        }
+        assertTrue(jdbc.awaitRows(2));
+        writer.stop();
+
+        assertEquals(List.of(1L, 3L), jdbc.rowIds());
+        assertEquals(1, counter("chat.writer.dropped"));
+    }
+
+    @Test
+    @DisplayName("종료와 동시에 들어온 메시지도 빠짐없이 한 번씩 저장된다")
+    void writeRacingWithStopLosesNothing() throws Exception {
+        writer(10_000, 1, 10);
+        int threads = 8;
+        int perThread = 500;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    writer.write(message());
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        Thread.sleep(5);
+        writer.stop();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        List<Long> rowIds = jdbc.rowIds();
+        assertEquals(threads * perThread, rowIds.size());
+        assertEquals(threads * perThread, new HashSet<>(rowIds).size());
+    }
+
+    /**
+     * 실행된 INSERT의 행 ID를 기록하고, 지정한 실패/지연을 흉내 내는 JdbcTemplate입니다.
+     */
+    private static final class FakeJdbcTemplate extends JdbcTemplate {
+
+        private final List<List<Long>> statements = new CopyOnWriteArrayList<>();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final AtomicInteger failuresLeft = new AtomicInteger();
+        private final CountDownLatch firstStatementStarted = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private volatile Supplier<RuntimeException> failure;
+        private volatile boolean blockFirst;
+        private volatile Long rejectedId;
+
+        void failNext(int times, Supplier<RuntimeException> failure) {
+            this.failure = failure;
+            failuresLeft.set(times);
+        }
+
+        void blockFirstStatement() {
+            blockFirst = true;
+        }
+
+        void rejectId(Long id) {
+            rejectedId = id;
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        List<Long> rowIds() {
+            List<Long> ids = new ArrayList<>();
+            statements.forEach(ids::addAll);
+            return ids;
+        }
+
+        boolean awaitRows(int rows) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (rowIds().size() < rows) {
+                if (System.currentTimeMillis() > deadline) {
+                    return false;
+                }
+                Thread.sleep(5);
+            }
+            return true;
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            int attempt = attempts.incrementAndGet();
+            if (blockFirst && attempt == 1) {
+                firstStatementStarted.countDown();
+                try {
+                    released.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failuresLeft.getAndDecrement() > 0) {
+                throw failure.get();
+            }
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < args.length; i += 6) {
+                ids.add((Long) args[i]);
+            }
+            if (rejectedId != null && ids.contains(rejectedId)) {
+                throw new DataIntegrityViolationException("duplicate key " + rejectedId);
+            }
+            statements.add(ids);
+            return ids.size();
+        }
+    }
+}
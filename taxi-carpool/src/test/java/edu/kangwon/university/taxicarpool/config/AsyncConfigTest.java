@@ -0,0 +1,58 @@
+package edu.kangwon.university.taxicarpool.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.kangwon.university.taxicarpool.config.AsyncConfig.BoundedVirtualThreadExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+class AsyncConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("가상 스레드에서 실행하고, 동시 실행 상한에 닿으면 기다리지 않고 거절한다")
+    void rejectsBeyondConcurrencyLimit() throws Exception {
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test-", 2, meterRegistry);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        boolean[] virtual = new boolean[1];
+        Runnable blocking = () -> {
+            virtual[0] = Thread.currentThread().isVirtual();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        executor.execute(blocking);
+        executor.execute(blocking);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(virtual[0]);
+        assertEquals(2, meterRegistry.get("executor.active").tag("name", "test").gauge().value());
+
+        assertThrows(TaskRejectedException.class, () -> executor.execute(() -> { }));
+        assertEquals(1, meterRegistry.get("executor.rejected").tag("name", "test").counter().count());
+
+        release.countDown();
+        CountDownLatch done = new CountDownLatch(1);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (true) {
+            try {
+                executor.execute(done::countDown);
+                break;
+            } catch (TaskRejectedException e) {
+                assertTrue(System.currentTimeMillis() < deadline, "permit was not released");
+                Thread.sleep(5);
+            }
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        executor.close();
+    }
+}
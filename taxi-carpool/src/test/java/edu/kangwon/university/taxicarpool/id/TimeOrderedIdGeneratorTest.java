@@ -0,0 +1,108 @@
+package edu.kangwon.university.taxicarpool.id;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedIdGeneratorTest {
+
+    private static final long START = TimeOrderedIdGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    private static long millisOf(long id) {
+        return id >>> (TimeOrderedIdGenerator.NODE_BITS + TimeOrderedIdGenerator.SEQUENCE_BITS);
+    }
+
+    private static long nodeOf(long id) {
+        return (id >>> TimeOrderedIdGenerator.SEQUENCE_BITS) & TimeOrderedIdGenerator.MAX_NODE_ID;
+    }
+
+    private static long sequenceOf(long id) {
+        return id & TimeOrderedIdGenerator.SEQUENCE_MASK;
+    }
+
+    @Test
+    @DisplayName("ID는 경과 밀리초 41비트, 노드 5비트, 순번 7비트로 구성된다")
+    void bitLayout() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(21, () -> START);
+
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        assertEquals(5, TimeOrderedIdGenerator.NODE_BITS);
+        assertEquals(7, TimeOrderedIdGenerator.SEQUENCE_BITS);
+        assertEquals(1_000_000L, millisOf(first));
+        assertEquals(21, nodeOf(first));
+        assertEquals(0, sequenceOf(first));
+        assertEquals(1, sequenceOf(second));
+        assertEquals((1_000_000L << 12) | (21L << 7), first);
+    }
+
+    @Test
+    @DisplayName("41비트 시각의 마지막 밀리초에도 ID는 JavaScript 안전 정수 범위(2^53) 안에 있다")
+    void fitsIn53Bits() {
+        long lastMillis = (1L << 41) - 1;
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(
+            TimeOrderedIdGenerator.MAX_NODE_ID, () -> TimeOrderedIdGenerator.EPOCH_MILLIS + lastMillis);
+
+        long id = 0;
+        for (int i = 0; i <= TimeOrderedIdGenerator.SEQUENCE_MASK; i++) {
+            id = generator.nextId();
+        }
+
+        assertEquals((1L << 53) - 1, id);
+        assertTrue(id <= 9_007_199_254_740_991L); // Number.MAX_SAFE_INTEGER
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 ID는 계속 증가한다")
+    void monotonicWhenClockGoesBackwards() {
+        AtomicLong clock = new AtomicLong(START);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(3, clock::get);
+
+        long before = generator.nextId();
+        clock.set(START - 5_000);
+        long during = generator.nextId();
+        long next = generator.nextId();
+        clock.set(START + 1);
+        long after = generator.nextId();
+
+        assertTrue(during > before);
+        assertTrue(next > during);
+        assertTrue(after > next);
+        assertEquals(millisOf(before), millisOf(during)); // 마지막으로 쓴 시각을 계속 사용
+        assertEquals(3, nodeOf(during));
+    }
+
+    @Test
+    @DisplayName("한 밀리초의 순번 128개를 다 쓰면 다음 밀리초의 0번으로 넘어간다")
+    void sequenceRollover() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1, () -> START);
+
+        long previous = -1;
+        for (int i = 0; i <= TimeOrderedIdGenerator.SEQUENCE_MASK; i++) {
+            long id = generator.nextId();
+            assertEquals(i, sequenceOf(id));
+            assertTrue(id > previous);
+            previous = id;
+        }
+        long rolled = generator.nextId();
+        long following = generator.nextId();
+
+        assertEquals(millisOf(previous) + 1, millisOf(rolled));
+        assertEquals(0, sequenceOf(rolled));
+        assertEquals(1, sequenceOf(following));
+        assertTrue(rolled > previous);
+    }
+
+    @Test
+    @DisplayName("노드 ID가 지정되지 않았고 유도도 허용되지 않으면 생성기를 만들 수 없다")
+    void requiresNodeIdUnlessDerivationAllowed() {
+        assertThrows(IllegalStateException.class, () -> new TimeOrderedIdGenerator(-1, false));
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdGenerator(32, false));
+
+        TimeOrderedIdGenerator derived = new TimeOrderedIdGenerator(-1, true);
+        assertTrue(derived.getNodeId() >= 0 && derived.getNodeId() <= TimeOrderedIdGenerator.MAX_NODE_ID);
+    }
+}
@@ -0,0 +1,67 @@
+package edu.kangwon.university.taxicarpool.id;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.kangwon.university.taxicarpool.email.EmailVerificationEntity;
+import edu.kangwon.university.taxicarpool.email.EmailVerificationRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = {
+    "id.node-id=7",
+    "id.derive-node-id=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(TimeOrderedIdGenerator.class)
+class TimeOrderedIdentifierGeneratorTest {
+
+    @Autowired
+    private EmailVerificationRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TimeOrderedIdGenerator generator;
+
+    @Test
+    @DisplayName("엔티티 ID는 컨텍스트의 생성기 빈에서 나온다")
+    void usesContextSingleton() {
+        long before = generator.nextId();
+        EmailVerificationEntity saved = repository.save(
+            new EmailVerificationEntity("a@kangwon.ac.kr", "123456", LocalDateTime.now()));
+        long after = generator.nextId();
+
+        assertNotNull(saved.getId());
+        assertTrue(saved.getId() > before && saved.getId() < after);
+        assertEquals(7, (saved.getId() >>> TimeOrderedIdGenerator.SEQUENCE_BITS) & TimeOrderedIdGenerator.MAX_NODE_ID);
+    }
+
+    @Test
+    @DisplayName("같은 테이블의 INSERT는 한 번의 flush에서 JDBC 배치로 묶인다")
+    void insertsAreBatched() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        entityManager.flush();
+        statistics.clear();
+
+        List<EmailVerificationEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            entities.add(new EmailVerificationEntity("u" + i + "@kangwon.ac.kr", "123456", LocalDateTime.now()));
+        }
+        repository.saveAll(entities);
+        entityManager.flush();
+
+        assertEquals(120, statistics.getEntityInsertCount());
+        // batch_size=50이므로 120행이 PreparedStatement 하나로 3번 나뉘어 전송되며, 행마다 키를 읽어 오는 왕복이 없음
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
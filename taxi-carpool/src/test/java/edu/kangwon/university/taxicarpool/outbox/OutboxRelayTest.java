@@ -0,0 +1,112 @@
+package edu.kangwon.university.taxicarpool.outbox;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.kangwon.university.taxicarpool.fcm.FcmPushService;
+import edu.kangwon.university.taxicarpool.fcm.dto.PushMessageDTO;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final Long EVENT_ID = 7L;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+    @Mock
+    private FcmPushService fcmPushService;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxEventRepository, messagingTemplate, fcmPushService, new ObjectMapper(),
+            Runnable::run, 3, 60, 100);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 선점한 이벤트는 발송하지 않는다")
+    void skipsEventClaimedElsewhere() {
+        when(outboxEventRepository.claim(eq(EVENT_ID), any(), any())).thenReturn(0);
+
+        relay.dispatch(EVENT_ID);
+
+        verifyNoInteractions(messagingTemplate, fcmPushService);
+        verify(outboxEventRepository, never()).updateStatus(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("STOMP 브로드캐스트는 이벤트 ID 헤더를 담아 보내고 SENT로 표시한다")
+    void broadcastCarriesEventIdHeader() {
+        givenClaimed(OutboxEventType.STOMP_BROADCAST,
+            "{\"destination\":\"/sub/party/1\",\"body\":{\"text\":\"hi\"}}", 1);
+
+        relay.dispatch(EVENT_ID);
+
+        verify(messagingTemplate).convertAndSend("/sub/party/1", (Object) Map.of("text", "hi"),
+            Map.of(OutboxRelay.EVENT_ID_HEADER, "7"));
+        verify(outboxEventRepository).updateStatus(eq(EVENT_ID), eq(OutboxStatus.SENT), any());
+    }
+
+    @Test
+    @DisplayName("FCM 푸시는 data에 이벤트 ID를 담아 보낸다")
+    void pushCarriesEventIdInData() {
+        givenClaimed(OutboxEventType.FCM_PUSH,
+            "{\"targetIds\":[1,2],\"title\":\"t\",\"body\":\"b\",\"type\":\"PARTY\",\"data\":{\"partyId\":\"1\"}}", 1);
+
+        relay.dispatch(EVENT_ID);
+
+        ArgumentCaptor<PushMessageDTO> message = ArgumentCaptor.forClass(PushMessageDTO.class);
+        verify(fcmPushService).sendPushToUsers(eq(List.of(1L, 2L)), message.capture());
+        assertEquals(Map.of("partyId", "1", OutboxRelay.EVENT_ID_DATA_KEY, "7"), message.getValue().getData());
+    }
+
+    @Test
+    @DisplayName("발송이 실패하면 남은 시도가 있을 때 PENDING, 다 쓰면 FAILED로 되돌린다")
+    void failedSendIsRetriedUntilMaxAttempts() {
+        OutboxEventEntity event = givenClaimed(OutboxEventType.STOMP_BROADCAST,
+            "{\"destination\":\"/sub/party/1\",\"body\":\"x\"}", 1);
+        doThrow(new MessagingException("broker down"))
+            .when(messagingTemplate).convertAndSend(anyString(), any(Object.class), anyMap());
+
+        relay.dispatch(EVENT_ID);
+        verify(outboxEventRepository).updateStatus(eq(EVENT_ID), eq(OutboxStatus.PENDING), any());
+
+        ReflectionTestUtils.setField(event, "attempts", 3);
+        relay.dispatch(EVENT_ID);
+        verify(outboxEventRepository).updateStatus(eq(EVENT_ID), eq(OutboxStatus.FAILED), any());
+    }
+
+    private OutboxEventEntity givenClaimed(OutboxEventType type, String payload, int attempts) {
+        OutboxEventEntity event = new OutboxEventEntity(type, 1L, payload);
+        ReflectionTestUtils.setField(event, "id", EVENT_ID);
+        ReflectionTestUtils.setField(event, "attempts", attempts);
+        when(outboxEventRepository.claim(eq(EVENT_ID), any(), any())).thenReturn(1);
+        when(outboxEventRepository.findById(EVENT_ID)).thenReturn(Optional.of(event));
+        return event;
+    }
+}
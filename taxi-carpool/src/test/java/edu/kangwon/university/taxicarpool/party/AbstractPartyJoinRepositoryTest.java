@@ -0,0 +1,139 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.kangwon.university.taxicarpool.id.TimeOrderedIdGenerator;
+import edu.kangwon.university.taxicarpool.member.Gender;
+import edu.kangwon.university.taxicarpool.member.MemberEntity;
+import edu.kangwon.university.taxicarpool.member.MemberRepository;
+import edu.kangwon.university.taxicarpool.map.MapPlace;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 참여 경로의 DB 동작(조건부 UPDATE 좌석 확보, party_member 키 충돌)을 검증합니다.
+ * 각 호출이 자신의 트랜잭션에서 커밋되도록 테스트 트랜잭션을 쓰지 않으며, DB별 하위 클래스에서 실행됩니다.
+ */
+@DataJpaTest(properties = {"id.node-id=1", "id.derive-node-id=false"})
+@Import(TimeOrderedIdGenerator.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+abstract class AbstractPartyJoinRepositoryTest {
+
+    @Autowired
+    private PartyRepository partyRepository;
+    @Autowired
+    private PartyMemberRepository partyMemberRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        partyMemberRepository.deleteAllInBatch();
+        partyRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("동시에 좌석을 요청해도 조건부 UPDATE는 남은 정원만큼만 성공한다")
+    void concurrentClaimsNeverOverfill() throws Exception {
+        Long partyId = partyRepository.save(party(1, 4)).getId();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        int threads = 10;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return tx.execute(status -> partyRepository.claimSeat(partyId));
+                }));
+            }
+            start.countDown();
+            int claimed = 0;
+            for (Future<Integer> result : results) {
+                claimed += result.get(30, TimeUnit.SECONDS);
+            }
+            assertEquals(3, claimed);
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(4, partyRepository.findById(partyId).orElseThrow().getCurrentParticipantCount());
+    }
+
+    @Test
+    @DisplayName("삭제되었거나 모집이 끝난 파티에는 좌석을 확보하지 않는다")
+    void doesNotClaimSeatOfClosedParty() {
+        PartyEntity deleted = party(1, 4);
+        deleted.setDeleted(true);
+        Long deletedId = partyRepository.save(deleted).getId();
+        Long departedId = partyRepository.save(party(1, 4, LocalDateTime.now().minusMinutes(1))).getId();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> partyRepository.markDeparted(List.of(departedId), LocalDateTime.now()));
+
+        assertEquals(Integer.valueOf(0), tx.execute(status -> partyRepository.claimSeat(deletedId)));
+        assertEquals(Integer.valueOf(0), tx.execute(status -> partyRepository.claimSeat(departedId)));
+    }
+
+    @Test
+    @DisplayName("출발 시각이 미뤄진 파티는 변경 전 시각으로 호출해도 출발/종료로 전환하지 않는다")
+    void doesNotDepartRescheduledParty() {
+        Long partyId = partyRepository.save(party(1, 4)).getId();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        assertEquals(Integer.valueOf(0),
+            tx.execute(status -> partyRepository.markDeparted(List.of(partyId), LocalDateTime.now())));
+        assertEquals(Integer.valueOf(0), tx.execute(
+            status -> partyRepository.markClosed(List.of(partyId), LocalDateTime.now().minusHours(6))));
+        assertEquals(Integer.valueOf(1),
+            tx.execute(status -> partyRepository.claimSeat(partyId)));
+    }
+
+    @Test
+    @DisplayName("같은 멤버의 참여 행을 두 번 넣으면 키 충돌로 실패한다")
+    void duplicateMembershipViolatesKey() {
+        MemberEntity member = memberRepository.save(
+            new MemberEntity("join@kangwon.ac.kr", "password", "참여자", Gender.MALE));
+        Long partyId = partyRepository.save(party(1, 4)).getId();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        tx.executeWithoutResult(status -> insertMembership(partyId, member.getId()));
+
+        assertThrows(DataIntegrityViolationException.class, () ->
+            tx.executeWithoutResult(status -> insertMembership(partyId, member.getId())));
+        assertTrue(partyMemberRepository.existsByPartyIdAndMemberId(partyId, member.getId()));
+    }
+
+    private void insertMembership(Long partyId, Long memberId) {
+        partyMemberRepository.saveAndFlush(new PartyMemberEntity(partyRepository.getReferenceById(partyId),
+            memberRepository.getReferenceById(memberId), PartyMemberRole.MEMBER));
+    }
+
+    private PartyEntity party(int current, int max) {
+        return party(current, max, LocalDateTime.now().plusHours(1));
+    }
+
+    private PartyEntity party(int current, int max, LocalDateTime startDateTime) {
+        return new PartyEntity(100L, null, startDateTime, null, current, max,
+            new MapPlace("출발", null, 127.73, 37.87), new MapPlace("도착", null, 127.74, 37.88));
+    }
+}
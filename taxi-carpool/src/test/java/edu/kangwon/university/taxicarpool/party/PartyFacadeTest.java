@@ -0,0 +1,163 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import edu.kangwon.university.taxicarpool.party.dto.PartyResponseDTO;
+import edu.kangwon.university.taxicarpool.party.partyException.PartyFullException;
+import edu.kangwon.university.taxicarpool.party.partyException.PartyNotRecruitingException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class PartyFacadeTest {
+
+    private static final Long PARTY_ID = 1L;
+
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RLock lock;
+    @Mock
+    private PartyService partyService;
+    @Mock
+    private PartySeatGate partySeatGate;
+    @Mock
+    private PartyJoinBatcher partyJoinBatcher;
+
+    @Test
+    @DisplayName("좌석 게이트가 정원 초과로 거절하면 DB까지 가지 않는다")
+    void rejectsAtSeatGateWithoutTouchingDb() {
+        PartyFacade facade = facade(new PartyJoinContentionTracker(10_000, 100, 3), "adaptive");
+        when(partySeatGate.tryReserve(PARTY_ID, 10L)).thenReturn(PartySeatGate.Reservation.FULL);
+
+        assertThrows(PartyFullException.class, () -> facade.joinParty(PARTY_ID, 10L));
+        verifyNoInteractions(partyService);
+    }
+
+    @Test
+    @DisplayName("선점한 좌석은 참여 성공 시 확정하고 실패 시 반납한다")
+    void confirmsOrReleasesReservation() {
+        PartyFacade facade = facade(new PartyJoinContentionTracker(10_000, 100, 3), "atomic");
+        when(partySeatGate.tryReserve(anyLong(), anyLong())).thenReturn(PartySeatGate.Reservation.RESERVED);
+        when(partyService.joinPartyAtomic(PARTY_ID, 10L)).thenReturn(new PartyResponseDTO());
+        when(partyService.joinPartyAtomic(PARTY_ID, 11L)).thenThrow(new PartyFullException("가득참"));
+
+        facade.joinParty(PARTY_ID, 10L);
+        assertThrows(PartyFullException.class, () -> facade.joinParty(PARTY_ID, 11L));
+
+        verify(partySeatGate).confirm(PARTY_ID, 10L);
+        verify(partySeatGate, never()).release(PARTY_ID, 10L);
+        verify(partySeatGate).release(PARTY_ID, 11L);
+    }
+
+    @Test
+    @DisplayName("경합 파티의 동시 요청은 로컬 스트라이프 락으로 직렬화되어 한 번에 하나만 분산 락과 DB에 들어간다")
+    void contendedJoinsAreSerialized() throws Exception {
+        PartyFacade facade = facade(new PartyJoinContentionTracker(10_000, 1, 3), "adaptive");
+        when(partySeatGate.tryReserve(anyLong(), anyLong())).thenReturn(PartySeatGate.Reservation.BYPASS);
+        givenRedisLockAcquired();
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+        when(partyService.joinParty(any(), any())).thenAnswer(invocation -> {
+            maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            inside.decrementAndGet();
+            return new PartyResponseDTO();
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<PartyResponseDTO>> results = new ArrayList<>();
+            for (long memberId = 10; memberId < 18; memberId++) {
+                long id = memberId;
+                results.add(pool.submit((Callable<PartyResponseDTO>) () -> facade.joinParty(PARTY_ID, id)));
+            }
+            for (Future<PartyResponseDTO> result : results) {
+                assertNotNull(result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, maxInside.get());
+        verify(partyService, times(8)).joinParty(any(), any());
+        verify(lock, times(8)).unlock();
+    }
+
+    @Test
+    @DisplayName("분산 락을 얻지 못하면 거절하고 로컬 락은 풀어 다음 요청이 진행된다")
+    void releasesLocalLockWhenRedisLockTimesOut() throws Exception {
+        PartyFacade facade = facade(new PartyJoinContentionTracker(10_000, 1, 3), "adaptive");
+        when(partySeatGate.tryReserve(anyLong(), anyLong())).thenReturn(PartySeatGate.Reservation.BYPASS);
+        when(redissonClient.getFairLock("party:join:" + PARTY_ID)).thenReturn(lock);
+        when(lock.tryLock(anyLong(), anyLong(), any())).thenReturn(false, true);
+        lenient().when(lock.isLocked()).thenReturn(true);
+        lenient().when(lock.isHeldByCurrentThread()).thenReturn(true);
+        when(partyService.joinParty(PARTY_ID, 11L)).thenReturn(new PartyResponseDTO());
+
+        assertThrows(PartyFullException.class, () -> facade.joinParty(PARTY_ID, 10L));
+        assertNotNull(facade.joinParty(PARTY_ID, 11L));
+    }
+
+    @Test
+    @DisplayName("낙관적 락 충돌로 경합 파티가 되면 남은 재시도 대신 분산 락으로 전환한다")
+    void escalatesToRedisLockAfterConflict() throws Exception {
+        PartyFacade facade = facade(new PartyJoinContentionTracker(10_000, 100, 1), "adaptive");
+        when(partySeatGate.tryReserve(anyLong(), anyLong())).thenReturn(PartySeatGate.Reservation.BYPASS);
+        givenRedisLockAcquired();
+        when(partyService.joinParty(PARTY_ID, 10L))
+            .thenThrow(new ObjectOptimisticLockingFailureException(PartyEntity.class, PARTY_ID))
+            .thenReturn(new PartyResponseDTO());
+
+        assertNotNull(facade.joinParty(PARTY_ID, 10L));
+
+        verify(redissonClient).getFairLock("party:join:" + PARTY_ID);
+        verify(partyService, times(2)).joinParty(PARTY_ID, 10L);
+    }
+
+    @Test
+    @DisplayName("모집이 끝난 파티 참여 거절은 장애로 바꾸지 않고 그대로 전달한다")
+    void failFastPassesThroughNotRecruiting() {
+        PartyFacade facade = facade(new PartyJoinContentionTracker(10_000, 100, 3), "atomic");
+        PartyNotRecruitingException notRecruiting = new PartyNotRecruitingException("모집이 끝난 파티입니다.");
+
+        assertSame(notRecruiting, assertThrows(PartyNotRecruitingException.class,
+            () -> facade.joinPartyFailFast(PARTY_ID, 10L, notRecruiting)));
+    }
+
+    private void givenRedisLockAcquired() throws InterruptedException {
+        when(redissonClient.getFairLock("party:join:" + PARTY_ID)).thenReturn(lock);
+        when(lock.tryLock(anyLong(), anyLong(), any())).thenReturn(true);
+        when(lock.isLocked()).thenReturn(true);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+    }
+
+    private PartyFacade facade(PartyJoinContentionTracker tracker, String strategy) {
+        PartyFacade facade = new PartyFacade(redissonClient, partyService, partySeatGate, tracker, partyJoinBatcher);
+        ReflectionTestUtils.setField(facade, "joinStrategy", strategy);
+        return facade;
+    }
+}
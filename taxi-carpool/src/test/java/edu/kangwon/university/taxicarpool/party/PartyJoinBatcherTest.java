@@ -0,0 +1,207 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import edu.kangwon.university.taxicarpool.party.dto.PartyResponseDTO;
+import edu.kangwon.university.taxicarpool.party.partyException.MemberAlreadyInPartyException;
+import edu.kangwon.university.taxicarpool.party.partyException.PartyFullException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class PartyJoinBatcherTest {
+
+    private static final Long PARTY_ID = 1L;
+
+    @Mock
+    private PartyService partyService;
+
+    /**
+     * 제출된 작업을 모아 두었다가 runAll()에서 실행하는 실행기입니다. reject가 켜져 있으면 거절합니다.
+     */
+    private static final class ManualExecutor implements Executor {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+        private boolean reject;
+
+        @Override
+        public void execute(Runnable command) {
+            if (reject) {
+                throw new RejectedExecutionException("shutting down");
+            }
+            tasks.add(command);
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.remove(0).run();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("같은 파티에 몰린 요청은 작성자 하나가 한 번에 처리하고, 같은 멤버의 중복 요청은 거절한다")
+    void batchesRequestsForTheSamePartyIntoOneWriter() throws Exception {
+        ManualExecutor executor = new ManualExecutor();
+        PartyJoinBatcher batcher = new PartyJoinBatcher(partyService, executor, 0);
+        PartyResponseDTO response = new PartyResponseDTO();
+        when(partyService.joinPartyBatch(eq(PARTY_ID), anyList()))
+            .thenReturn(new PartyJoinBatchResult(response, Map.of()));
+
+        CompletableFuture<PartyResponseDTO> first = batcher.submit(PARTY_ID, 10L);
+        CompletableFuture<PartyResponseDTO> second = batcher.submit(PARTY_ID, 11L);
+        CompletableFuture<PartyResponseDTO> duplicate = batcher.submit(PARTY_ID, 10L);
+        assertEquals(1, executor.tasks.size());
+        executor.runAll();
+
+        verify(partyService, times(1)).joinPartyBatch(PARTY_ID, List.of(10L, 11L));
+        assertSame(response, first.get());
+        assertSame(response, second.get());
+        ExecutionException e = assertThrows(ExecutionException.class, duplicate::get);
+        assertInstanceOf(MemberAlreadyInPartyException.class, e.getCause());
+    }
+
+    @Test
+    @DisplayName("실행기가 작성자를 거절하면 대기 요청을 실패시키고, 이후 요청은 다시 처리된다")
+    void failsPendingRequestsWhenExecutorRejects() throws Exception {
+        ManualExecutor executor = new ManualExecutor();
+        PartyJoinBatcher batcher = new PartyJoinBatcher(partyService, executor, 0);
+        executor.reject = true;
+
+        CompletableFuture<PartyResponseDTO> rejected = batcher.submit(PARTY_ID, 10L);
+        ExecutionException e = assertThrows(ExecutionException.class, () -> rejected.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+
+        executor.reject = false;
+        PartyResponseDTO response = new PartyResponseDTO();
+        when(partyService.joinPartyBatch(eq(PARTY_ID), anyList()))
+            .thenReturn(new PartyJoinBatchResult(response, Map.of()));
+        CompletableFuture<PartyResponseDTO> next = batcher.submit(PARTY_ID, 11L);
+        assertEquals(1, executor.tasks.size());
+        executor.runAll();
+
+        assertSame(response, next.get());
+        verify(partyService).joinPartyBatch(PARTY_ID, List.of(11L));
+    }
+
+    @Test
+    @DisplayName("호출자가 포기한(이미 완료된) 요청은 처리하지 않는다")
+    void skipsRequestsAbandonedByCaller() {
+        ManualExecutor executor = new ManualExecutor();
+        PartyJoinBatcher batcher = new PartyJoinBatcher(partyService, executor, 0);
+
+        CompletableFuture<PartyResponseDTO> abandoned = batcher.submit(PARTY_ID, 10L);
+        abandoned.cancel(false);
+        executor.runAll();
+
+        verify(partyService, never()).joinPartyBatch(eq(PARTY_ID), anyList());
+    }
+
+    @Test
+    @DisplayName("작성자가 끝난 뒤 들어온 요청은 새 작성자가 처리한다")
+    void startsNewWriterAfterQueueBecameIdle() throws Exception {
+        ManualExecutor executor = new ManualExecutor();
+        PartyJoinBatcher batcher = new PartyJoinBatcher(partyService, executor, 0);
+        PartyResponseDTO response = new PartyResponseDTO();
+        when(partyService.joinPartyBatch(eq(PARTY_ID), anyList()))
+            .thenReturn(new PartyJoinBatchResult(response, Map.of()));
+
+        CompletableFuture<PartyResponseDTO> first = batcher.submit(PARTY_ID, 10L);
+        executor.runAll();
+        CompletableFuture<PartyResponseDTO> second = batcher.submit(PARTY_ID, 11L);
+        assertEquals(1, executor.tasks.size());
+        executor.runAll();
+
+        assertSame(response, first.get());
+        assertSame(response, second.get());
+        verify(partyService).joinPartyBatch(PARTY_ID, List.of(10L));
+        verify(partyService).joinPartyBatch(PARTY_ID, List.of(11L));
+    }
+
+    @Test
+    @DisplayName("작성자가 가져가기 전에 시간이 지나면 요청을 취소하고 거절한다")
+    void abandonsUnclaimedRequestOnTimeout() {
+        ManualExecutor executor = new ManualExecutor();
+        PartyJoinBatcher batcher = new PartyJoinBatcher(partyService, executor, 0);
+
+        assertThrows(PartyFullException.class, () -> batcher.join(PARTY_ID, 10L, 10, TimeUnit.MILLISECONDS));
+        executor.runAll();
+
+        verify(partyService, never()).joinPartyBatch(eq(PARTY_ID), anyList());
+    }
+
+    @Test
+    @DisplayName("작성자가 이미 처리 중인 요청은 시간이 지나도 취소하지 않고 결과를 기다린다")
+    void waitsForClaimedRequestPastTimeout() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            PartyJoinBatcher batcher = new PartyJoinBatcher(partyService, executor, 0);
+            PartyResponseDTO response = new PartyResponseDTO();
+            CountDownLatch processing = new CountDownLatch(1);
+            when(partyService.joinPartyBatch(eq(PARTY_ID), anyList())).thenAnswer(invocation -> {
+                processing.countDown();
+                Thread.sleep(300);
+                return new PartyJoinBatchResult(response, Map.of());
+            });
+
+            assertSame(response, batcher.join(PARTY_ID, 10L, 50, TimeUnit.MILLISECONDS));
+            assertEquals(0, processing.getCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 경로의 참여와 버전이 충돌하면 일괄 처리를 다시 시도한다")
+    void retriesBatchOnVersionConflict() throws Exception {
+        ManualExecutor executor = new ManualExecutor();
+        PartyJoinBatcher batcher = new PartyJoinBatcher(partyService, executor, 0);
+        PartyResponseDTO response = new PartyResponseDTO();
+        when(partyService.joinPartyBatch(eq(PARTY_ID), anyList()))
+            .thenThrow(new ObjectOptimisticLockingFailureException(PartyEntity.class, PARTY_ID))
+            .thenReturn(new PartyJoinBatchResult(response, Map.of()));
+
+        CompletableFuture<PartyResponseDTO> joined = batcher.submit(PARTY_ID, 10L);
+        executor.runAll();
+
+        assertSame(response, joined.get());
+        verify(partyService, times(2)).joinPartyBatch(PARTY_ID, List.of(10L));
+    }
+
+    @Test
+    @DisplayName("버전 충돌이 계속되면 장애가 아닌 혼잡 거절로 응답한다")
+    void rejectsAsBusyWhenConflictsPersist() {
+        ManualExecutor executor = new ManualExecutor();
+        PartyJoinBatcher batcher = new PartyJoinBatcher(partyService, executor, 0);
+        when(partyService.joinPartyBatch(eq(PARTY_ID), anyList()))
+            .thenThrow(new ObjectOptimisticLockingFailureException(PartyEntity.class, PARTY_ID));
+
+        CompletableFuture<PartyResponseDTO> joined = batcher.submit(PARTY_ID, 10L);
+        executor.runAll();
+
+        ExecutionException e = assertThrows(ExecutionException.class, joined::get);
+        assertInstanceOf(PartyFullException.class, e.getCause());
+        verify(partyService, times(3)).joinPartyBatch(PARTY_ID, List.of(10L));
+    }
+}
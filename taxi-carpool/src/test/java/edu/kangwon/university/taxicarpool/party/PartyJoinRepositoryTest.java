@@ -0,0 +1,7 @@
+package edu.kangwon.university.taxicarpool.party;
+
+/**
+ * 내장 H2에서 참여 경로의 DB 동작을 검증합니다.
+ */
+class PartyJoinRepositoryTest extends AbstractPartyJoinRepositoryTest {
+}
@@ -0,0 +1,79 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class PartyLifecycleSchedulerTest {
+
+    @Mock
+    private PartyRepository partyRepository;
+    @Mock
+    private PartySearchIndex partySearchIndex;
+    @Mock
+    private PartySettlementService partySettlementService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PartyLifecycleScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new PartyLifecycleScheduler(partyRepository, partySearchIndex, partySettlementService,
+            transactionManager, 1000, 30, 360, 500);
+    }
+
+    @Test
+    @DisplayName("대조 시 시각이 지났는데 전환되지 않은 파티를 출발/종료 상태로 전환한다")
+    void resyncTransitionsOverdueParties() {
+        when(partyRepository.findOverdueDepartureIds(any(), any())).thenReturn(List.of(1L, 2L));
+        when(partyRepository.findOverdueCloseIds(any(), any())).thenReturn(List.of(3L));
+        when(partyRepository.findLifecyclePending(any())).thenReturn(List.of());
+        when(partyRepository.markDeparted(any(), any())).thenReturn(2);
+
+        scheduler.resync();
+
+        verify(partyRepository).markDeparted(eq(List.of(1L, 2L)), any());
+        verify(partySearchIndex).remove(1L);
+        verify(partySearchIndex).remove(2L);
+        verify(partyRepository).markClosed(eq(List.of(3L)), any());
+    }
+
+    @Test
+    @DisplayName("일정이 바뀌어 출발 처리되지 않은 파티가 있으면 검색 인덱스에서 제거하지 않는다")
+    void keepsIndexWhenSomePartiesWereRescheduled() {
+        when(partyRepository.findOverdueDepartureIds(any(), any())).thenReturn(List.of(1L, 2L));
+        when(partyRepository.findOverdueCloseIds(any(), any())).thenReturn(List.of());
+        when(partyRepository.findLifecyclePending(any())).thenReturn(List.of());
+        when(partyRepository.markDeparted(any(), any())).thenReturn(1);
+
+        scheduler.resync();
+
+        verify(partySearchIndex, never()).remove(any());
+    }
+
+    @Test
+    @DisplayName("누락된 전환이 없으면 상태를 바꾸지 않는다")
+    void resyncDoesNothingWithoutOverdueParties() {
+        when(partyRepository.findOverdueDepartureIds(any(), any())).thenReturn(List.of());
+        when(partyRepository.findOverdueCloseIds(any(), any())).thenReturn(List.of());
+        when(partyRepository.findLifecyclePending(any())).thenReturn(List.of());
+
+        scheduler.resync();
+
+        verify(partyRepository, never()).markDeparted(any(), any());
+        verify(partyRepository, never()).markClosed(any(), any());
+    }
+}
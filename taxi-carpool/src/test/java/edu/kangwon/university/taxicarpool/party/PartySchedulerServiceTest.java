@@ -0,0 +1,78 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import edu.kangwon.university.taxicarpool.outbox.OutboxService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class PartySchedulerServiceTest {
+
+    @Mock
+    private PartyRepository partyRepository;
+    @Mock
+    private PartyMemberRepository partyMemberRepository;
+    @Mock
+    private PartyReminderQueue partyReminderQueue;
+    @Mock
+    private OutboxService outboxService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PartySchedulerService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PartySchedulerService(partyRepository, partyMemberRepository, partyReminderQueue,
+            outboxService, transactionManager, 100);
+    }
+
+    @Test
+    @DisplayName("도래한 알림이 없으면 트랜잭션을 열지 않는다")
+    void doesNotOpenTransactionWhenQueueIsEmpty() {
+        when(partyReminderQueue.claimDue(100)).thenReturn(List.of());
+
+        service.sendDepartureReminders();
+
+        verifyNoInteractions(transactionManager, partyRepository);
+    }
+
+    @Test
+    @DisplayName("처리 트랜잭션이 실패하면 꺼낸 ID를 큐에 되돌린다")
+    void requeuesClaimedIdsWhenTransactionFails() {
+        when(partyReminderQueue.claimDue(anyInt())).thenReturn(List.of(1L, 2L));
+        when(partyRepository.lockReminderPendingByIdIn(anyList()))
+            .thenThrow(new QueryTimeoutException("lock wait timeout"));
+
+        service.sendDepartureReminders();
+
+        verify(transactionManager).rollback(any());
+        verify(partyReminderQueue).requeue(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("이미 발송된 파티뿐이면 되돌리지 않고 커밋한다")
+    void commitsWithoutRequeueWhenNothingIsPending() {
+        when(partyReminderQueue.claimDue(anyInt())).thenReturn(List.of(1L));
+        when(partyRepository.lockReminderPendingByIdIn(anyList())).thenReturn(List.of());
+
+        service.sendDepartureReminders();
+
+        verify(transactionManager).commit(any());
+        verify(partyReminderQueue, never()).requeue(anyList());
+    }
+}
@@ -0,0 +1,110 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import edu.kangwon.university.taxicarpool.map.MapPlace;
+import edu.kangwon.university.taxicarpool.party.PartyUtil.PartySearchFilter;
+import edu.kangwon.university.taxicarpool.party.PartyUtil.SearchVariant;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class PartySearchIndexTest {
+
+    private static final double LNG = 127.7300;
+    private static final double LAT = 37.8700;
+
+    @Mock
+    private PartyRepository partyRepository;
+    @Mock
+    private PartyMemberRepository partyMemberRepository;
+
+    private PartySearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(partyRepository.findAllActive(any())).thenReturn(List.of());
+        when(partyMemberRepository.findActiveRows(any())).thenReturn(List.of());
+        index = new PartySearchIndex(partyRepository, partyMemberRepository, true, 5000);
+        index.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 추가한 파티는 커밋된 뒤에만 검색된다")
+    void upsertIsAppliedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        index.upsert(party(1L));
+        assertEquals(List.of(), searchIds());
+
+        completeTransaction(true);
+
+        assertEquals(List.of(1L), searchIds());
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 추가/제거는 인덱스에 반영되지 않는다")
+    void rolledBackChangesAreDiscarded() {
+        index.upsert(party(1L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.upsert(party(2L));
+        index.remove(1L);
+        completeTransaction(false);
+
+        assertEquals(List.of(1L), searchIds());
+    }
+
+    @Test
+    @DisplayName("DB에서 삭제가 확인된 파티는 트랜잭션 안에서도 즉시 제거된다")
+    void evictStaleIsImmediate() {
+        index.upsert(party(1L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.evictStale(List.of(1L));
+
+        assertEquals(List.of(), searchIds());
+    }
+
+    private List<Long> searchIds() {
+        PartySearchFilter f = new PartySearchFilter(LNG, LAT, LNG + 0.01, LAT + 0.01, null);
+        return index.search(99L, f, SearchVariant.NO_TIME, PageRequest.of(0, 10)).getContent();
+    }
+
+    private void completeTransaction(boolean committed) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (committed) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(s -> s.afterCompletion(committed
+            ? TransactionSynchronization.STATUS_COMMITTED
+            : TransactionSynchronization.STATUS_ROLLED_BACK));
+    }
+
+    private PartyEntity party(Long id) {
+        PartyEntity party = new PartyEntity(10L, null, LocalDateTime.now().plusHours(1), null, 1, 4,
+            new MapPlace("출발", null, LNG, LAT), new MapPlace("도착", null, LNG + 0.01, LAT + 0.01));
+        ReflectionTestUtils.setField(party, "id", id);
+        return party;
+    }
+}
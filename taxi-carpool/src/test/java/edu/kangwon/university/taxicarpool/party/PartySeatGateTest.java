@@ -0,0 +1,115 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import edu.kangwon.university.taxicarpool.party.PartySeatGate.Reservation;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 좌석 게이트 Lua 스크립트를 실제 Redis에서 검증합니다. Docker가 없으면 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PartySeatGateTest {
+
+    private static final Long PARTY_ID = 1L;
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+        new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final PartyRepository partyRepository = mock(PartyRepository.class);
+    private final PartyMemberRepository partyMemberRepository = mock(PartyMemberRepository.class);
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        PartyEntity party = mock(PartyEntity.class);
+        when(party.getMaxParticipantCount()).thenReturn(3);
+        when(partyRepository.findByIdAndIsDeletedFalse(PARTY_ID)).thenReturn(Optional.of(party));
+        when(partyMemberRepository.findMemberIdsByPartyId(PARTY_ID)).thenReturn(List.of(100L));
+    }
+
+    private PartySeatGate gate(long reservationTtlSeconds) {
+        return new PartySeatGate(redisTemplate, partyRepository, partyMemberRepository, true, 600,
+            reservationTtlSeconds);
+    }
+
+    @Test
+    @DisplayName("DB 멤버로 채운 뒤 정원까지만 선점하고 중복 참여를 거절한다")
+    void reservesUpToCapacity() {
+        PartySeatGate gate = gate(30);
+
+        assertEquals(Reservation.DUPLICATE, gate.tryReserve(PARTY_ID, 100L));
+        assertEquals(Reservation.RESERVED, gate.tryReserve(PARTY_ID, 1L));
+        assertEquals(Reservation.DUPLICATE, gate.tryReserve(PARTY_ID, 1L));
+        assertEquals(Reservation.RESERVED, gate.tryReserve(PARTY_ID, 2L));
+        assertEquals(Reservation.FULL, gate.tryReserve(PARTY_ID, 3L));
+
+        gate.release(PARTY_ID, 2L);
+        assertEquals(Reservation.RESERVED, gate.tryReserve(PARTY_ID, 3L));
+    }
+
+    @Test
+    @DisplayName("확정되지 않은 선점은 만료되어 좌석이 풀리고, 확정한 좌석은 유지된다")
+    void expiresUnconfirmedReservations() throws Exception {
+        PartySeatGate gate = gate(1);
+        assertEquals(Reservation.RESERVED, gate.tryReserve(PARTY_ID, 1L));
+        gate.confirm(PARTY_ID, 1L);
+        assertEquals(Reservation.RESERVED, gate.tryReserve(PARTY_ID, 2L)); // 반환되지 않는 선점
+        assertEquals(Reservation.FULL, gate.tryReserve(PARTY_ID, 3L));
+
+        Thread.sleep(1100);
+
+        assertEquals(Reservation.RESERVED, gate.tryReserve(PARTY_ID, 3L));
+        assertEquals(Reservation.DUPLICATE, gate.tryReserve(PARTY_ID, 1L));
+        assertEquals(Reservation.FULL, gate.tryReserve(PARTY_ID, 4L));
+    }
+
+    @Test
+    @DisplayName("선점이 계속 들어와도 키 전체의 TTL은 연장되지 않는다")
+    void doesNotExtendKeyTtl() {
+        PartySeatGate gate = gate(30);
+        gate.tryReserve(PARTY_ID, 1L);
+        String membersKey = "party:seat:{" + PARTY_ID + "}:members";
+        redisTemplate.expire(membersKey, Duration.ofSeconds(5));
+        redisTemplate.expire("party:seat:{" + PARTY_ID + "}:max", Duration.ofSeconds(5));
+
+        gate.tryReserve(PARTY_ID, 2L);
+
+        Long ttl = redisTemplate.getExpire(membersKey);
+        assertNotNull(ttl);
+        assertTrue(ttl > 0 && ttl <= 5, "ttl=" + ttl);
+    }
+}
@@ -0,0 +1,86 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import edu.kangwon.university.taxicarpool.member.MemberRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class PartySettlementServiceTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 10, 17, 0, 0);
+
+    @Mock
+    private PartyRepository partyRepository;
+    @Mock
+    private PartyMemberRepository partyMemberRepository;
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private PartyFareCache partyFareCache;
+    @Mock
+    private KakaoMobilityClient kakaoMobilityClient;
+    @Mock
+    private PartyFareEstimator partyFareEstimator;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("주기 정산은 지정한 출발 시각 하한을 조회 조건으로 넘긴다")
+    void periodicSettlementUsesCutoff() {
+        PartySettlementService service = service(CUTOFF.toString(), false);
+        when(partyRepository.findUnsettledDepartedAfter(eq(CUTOFF), any(), anyLong(), any())).thenReturn(List.of());
+
+        service.settleDepartedParties();
+
+        verify(partyRepository).findUnsettledDepartedAfter(eq(CUTOFF), any(), eq(0L), any());
+    }
+
+    @Test
+    @DisplayName("백필을 켜면 하한 없이 조회한다")
+    void backfillHasNoLowerBound() {
+        PartySettlementService service = service(CUTOFF.toString(), true);
+        when(partyRepository.findUnsettledDepartedAfter(isNull(), any(), anyLong(), any())).thenReturn(List.of());
+
+        service.settleDepartedParties();
+
+        verify(partyRepository).findUnsettledDepartedAfter(isNull(), any(), eq(0L), any());
+    }
+
+    @Test
+    @DisplayName("생명주기 정산도 하한 이전에 출발한 파티는 정산하지 않는다")
+    void lifecycleSettlementSkipsPartiesBeforeCutoff() {
+        PartySettlementService service = service(CUTOFF.toString(), false);
+        when(partyRepository.findAllById(List.of(1L))).thenReturn(List.of(party(1L, CUTOFF.minusMinutes(1))));
+
+        assertEquals(0, service.settle(List.of(1L)));
+        verify(partyRepository, never()).lockUnsettledByIdIn(anyCollection());
+    }
+
+    private PartySettlementService service(String departedAfter, boolean backfill) {
+        return new PartySettlementService(partyRepository, partyMemberRepository, memberRepository, partyFareCache,
+            kakaoMobilityClient, partyFareEstimator, transactionManager, true, 100, 30, departedAfter, backfill);
+    }
+
+    private PartyEntity party(Long id, LocalDateTime startDateTime) {
+        PartyEntity party = new PartyEntity(10L, null, startDateTime, null, 2, 4, null, null);
+        ReflectionTestUtils.setField(party, "id", id);
+        return party;
+    }
+}
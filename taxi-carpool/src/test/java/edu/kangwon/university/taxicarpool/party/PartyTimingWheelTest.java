@@ -0,0 +1,63 @@
+package edu.kangwon.university.taxicarpool.party;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PartyTimingWheelTest {
+
+    private static final long TICK = 1000;
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("만료 시각이 된 틱에서만 이벤트를 종류별로 모아 반환한다")
+    void firesEventsOnTheirTick() {
+        PartyTimingWheel wheel = new PartyTimingWheel(TICK, START);
+        wheel.add(1L, PartyLifecycleEventType.DEPARTURE, START + 5 * TICK);
+        wheel.add(2L, PartyLifecycleEventType.DEPARTURE, START + 5 * TICK);
+        wheel.add(1L, PartyLifecycleEventType.SETTLEMENT, START + 10 * TICK);
+
+        assertTrue(wheel.advance(START + 4 * TICK).isEmpty());
+        Map<PartyLifecycleEventType, List<Long>> due = wheel.advance(START + 5 * TICK);
+        assertEquals(Map.of(PartyLifecycleEventType.DEPARTURE, List.of(1L, 2L)), due);
+        assertEquals(Map.of(PartyLifecycleEventType.SETTLEMENT, List.of(1L)), wheel.advance(START + 10 * TICK));
+        assertFalse(wheel.contains(1L));
+    }
+
+    @Test
+    @DisplayName("상위 단에 넣은 먼 이벤트도 하위 단으로 내려와 정확한 틱에 만료된다")
+    void cascadesDistantEvents() {
+        PartyTimingWheel wheel = new PartyTimingWheel(TICK, START);
+        long far = 64L * 64 * 3 + 17; // 3단째에 들어갈 거리(틱)
+        wheel.add(7L, PartyLifecycleEventType.AUTO_CLOSE, START + far * TICK);
+
+        assertTrue(wheel.advance(START + (far - 1) * TICK).isEmpty());
+        assertEquals(Map.of(PartyLifecycleEventType.AUTO_CLOSE, List.of(7L)), wheel.advance(START + far * TICK));
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각의 이벤트는 다음 진행에서 바로 만료된다")
+    void firesPastDeadlinesImmediately() {
+        PartyTimingWheel wheel = new PartyTimingWheel(TICK, START);
+        wheel.add(3L, PartyLifecycleEventType.DEPARTURE, START - 60 * TICK);
+
+        assertEquals(Map.of(PartyLifecycleEventType.DEPARTURE, List.of(3L)), wheel.advance(START));
+    }
+
+    @Test
+    @DisplayName("취소한 파티의 이벤트는 만료되지 않는다")
+    void cancelRemovesAllEventsOfParty() {
+        PartyTimingWheel wheel = new PartyTimingWheel(TICK, START);
+        wheel.add(1L, PartyLifecycleEventType.DEPARTURE, START + 2 * TICK);
+        wheel.add(1L, PartyLifecycleEventType.AUTO_CLOSE, START + 5000 * TICK);
+        wheel.add(2L, PartyLifecycleEventType.DEPARTURE, START + 2 * TICK);
+
+        wheel.cancel(1L);
+
+        assertEquals(1, wheel.size());
+        assertEquals(Map.of(PartyLifecycleEventType.DEPARTURE, List.of(2L)), wheel.advance(START + 5000 * TICK));
+    }
+}
@@ -0,0 +1,53 @@
+package edu.kangwon.university.taxicarpool.party.PartyUtil;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PartyCursorTest {
+
+    private static final LocalDateTime REF_TIME = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    @Test
+    @DisplayName("거리 커서는 인코딩 후 디코딩해도 같은 키를 가진다")
+    void scoreCursorRoundTrips() {
+        PartyCursor decoded = PartyCursor.decodeScore(PartyCursor.ofScore(1234L, 15L, REF_TIME, 42L).encodeScore());
+
+        assertEquals(1234L, decoded.getScore());
+        assertEquals(15L, decoded.getGap());
+        assertEquals(REF_TIME, decoded.getTime());
+        assertEquals(42L, decoded.getPartyId());
+    }
+
+    @Test
+    @DisplayName("이전 형식의 소수 거리 커서는 정수 미터로 버려 읽는다")
+    void decodesLegacyFractionalScore() {
+        String raw = "S|1234.9876|15|" + REF_TIME + "|42";
+        String legacy = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(1234L, PartyCursor.decodeScore(legacy).getScore());
+    }
+
+    @Test
+    @DisplayName("같은 정수 미터 거리에서는 시간 차이와 파티 ID로 순서를 정한다")
+    void comparesByWholeMetresThenGapThenId() {
+        PartyCursor cursor = PartyCursor.ofScore(1234L, 15L, REF_TIME, 42L);
+
+        assertFalse(new PartyScore(42L, 1234L, 15L).isAfter(cursor));
+        assertFalse(new PartyScore(41L, 1234L, 15L).isAfter(cursor));
+        assertTrue(new PartyScore(43L, 1234L, 15L).isAfter(cursor));
+        assertTrue(new PartyScore(1L, 1234L, 16L).isAfter(cursor));
+        assertTrue(new PartyScore(1L, 1235L, 0L).isAfter(cursor));
+        assertFalse(new PartyScore(99L, 1233L, 99L).isAfter(cursor));
+    }
+
+    @Test
+    @DisplayName("첫 페이지 커서 뒤에는 거리 0인 결과도 포함된다")
+    void firstCursorPrecedesZeroDistance() {
+        assertTrue(new PartyScore(1L, 0L, 0L).isAfter(PartyCursor.firstByScore(REF_TIME)));
+    }
+}